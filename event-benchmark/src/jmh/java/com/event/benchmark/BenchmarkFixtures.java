@@ -0,0 +1,32 @@
+package com.event.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크 공통 입력 데이터 (RedisStreamEventProducer 가 발행하는 레코드와 동일한 형태)
+ */
+final class BenchmarkFixtures {
+
+  private BenchmarkFixtures() {
+  }
+
+  static Map<String, String> accessEventRecordValue() {
+    Map<String, String> value = new HashMap<>();
+    value.put("type", "ACCESS");
+    value.put("categoryCode", "API_PUBLIC");
+    value.put("userId", "anonymous");
+    value.put("endpoint", "/api/access-category/1");
+    value.put("httpMethod", "GET");
+    value.put("methodName", "AccessCategoryController.getCategory(..)");
+    value.put("responseStatus", "200");
+    value.put("responseTime", "0.012");
+    value.put("ipAddress", "127.0.0.1");
+    value.put("userAgent", "PostmanRuntime/7.43.0");
+    value.put("inputs", "[1]");
+    value.put("outputs", "{\"statusCode\":200,\"statusMessage\":\"OK\",\"body\":{\"id\":1,\"categoryCode\":\"API_PUBLIC\"}}");
+    value.put("sampleWeight", "1.0");
+    value.put("createdAt", "2025-05-18T12:34:56.123456789+09:00");
+    return value;
+  }
+}
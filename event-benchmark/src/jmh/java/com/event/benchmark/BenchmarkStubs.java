@@ -0,0 +1,46 @@
+package com.event.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 영속성 계층(JPA Repository, Redis 연산) 대체용 스텁
+ * -> 지정한 메서드만 응답하고, 나머지 메서드는 null/기본값을 반환
+ */
+final class BenchmarkStubs {
+
+  private BenchmarkStubs() {
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+      Function<Object[], Object> answer = answers.get(method.getName());
+      if (answer != null) {
+        return answer.apply(args);
+      }
+      if (method.getDeclaringClass() == Object.class) {
+        return switch (method.getName()) {
+          case "hashCode" -> System.identityHashCode(proxy);
+          case "equals" -> proxy == args[0];
+          default -> type.getSimpleName() + "Stub";
+        };
+      }
+      return defaultValue(method.getReturnType());
+    });
+  }
+
+  private static Object defaultValue(Class<?> returnType) {
+    if (returnType == boolean.class) {
+      return false;
+    }
+    if (returnType == long.class) {
+      return 0L;
+    }
+    if (returnType == int.class) {
+      return 0;
+    }
+    return null;
+  }
+}
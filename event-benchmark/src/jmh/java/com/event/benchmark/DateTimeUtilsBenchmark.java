@@ -0,0 +1,39 @@
+package com.event.benchmark;
+
+import com.event.infra.util.DateTimeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateTimeUtils.parseToOffsetDateTime 벤치마크 (지원 포맷별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DateTimeUtilsBenchmark {
+
+  @Param({
+      "2025-05-18T12:34:56.123456789+09:00", // RedisStreamEventProducer 발행 형식 (ISO_OFFSET_DATE_TIME)
+      "2025-04-10T17:45:00+09:00",           // ISO + 오프셋
+      "2025-04-10T17:45:00+0900",            // ISO + 오프셋 (콜론 없음)
+      "2025-04-10T17:45:00Z",                // ISO UTC
+      "2025-04-10T17:45:00",                 // ISO Local
+      "2024-04-09 05:17:54.802889 +09:00",   // 공백 + 오프셋
+      "2025-04-17 09:54:42.203927",          // 공백 + 오프셋 없음
+      "2025-04-10T17:45+09:00"               // 초 생략 (fallback 경로)
+  })
+  private String dateTime;
+
+  @Benchmark
+  public OffsetDateTime parseToOffsetDateTime() {
+    return DateTimeUtils.parseToOffsetDateTime(dateTime);
+  }
+}
@@ -0,0 +1,30 @@
+package com.event.benchmark;
+
+import com.event.infra.event.EventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventType.safeParse 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventTypeBenchmark {
+
+  @Param({"ACCESS", "access", "UNSUPPORTED"})
+  private String type;
+
+  @Benchmark
+  public Optional<EventType> safeParse() {
+    return EventType.safeParse(type);
+  }
+}
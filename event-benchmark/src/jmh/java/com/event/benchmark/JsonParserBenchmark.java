@@ -0,0 +1,49 @@
+package com.event.benchmark;
+
+import com.event.core.config.JacksonConfig;
+import com.event.core.domain.access.event.inout.AccessEventDto;
+import com.event.infra.util.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonParser.parseCamel 벤치마크
+ * -> Map 직접 바인딩(convertValue) vs 기존 JSON 문자열 왕복(writeValueAsString + readValue) 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonParserBenchmark {
+
+  private ObjectMapper objectMapper;
+  private JsonParser jsonParser;
+  private Map<String, String> recordValue;
+
+  @Setup
+  public void setUp() {
+    JacksonConfig jacksonConfig = new JacksonConfig();
+    objectMapper = jacksonConfig.objectMapper();
+    jsonParser = new JsonParser(objectMapper, jacksonConfig.snakeCaseObjectMapper());
+    recordValue = BenchmarkFixtures.accessEventRecordValue();
+  }
+
+  @Benchmark
+  public AccessEventDto parseCamel() {
+    return jsonParser.parseCamel(recordValue, AccessEventDto.class);
+  }
+
+  @Benchmark
+  public AccessEventDto jsonRoundTrip() throws Exception {
+    String json = objectMapper.writeValueAsString(recordValue);
+    return objectMapper.readValue(json, AccessEventDto.class);
+  }
+}
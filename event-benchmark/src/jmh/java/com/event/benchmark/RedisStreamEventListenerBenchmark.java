@@ -0,0 +1,136 @@
+package com.event.benchmark;
+
+import com.event.core.config.JacksonConfig;
+import com.event.core.domain.access.category.AccessCategoryCache;
+import com.event.core.domain.access.category.AccessCategoryRepository;
+import com.event.core.domain.access.category.AccessCategoryService;
+import com.event.core.domain.access.category.entity.AccessCategory;
+import com.event.core.domain.access.event.AccessEventRepository;
+import com.event.core.domain.access.event.AccessEventRollupJdbcRepository;
+import com.event.core.domain.access.event.AccessEventService;
+import com.event.infra.event.EventType;
+import com.event.infra.event.handler.AccessEventHandler;
+import com.event.infra.event.handler.EventHandlerResolver;
+import com.event.infra.event.listener.RedisStreamAckAccumulator;
+import com.event.infra.event.listener.RedisStreamConsumerMetrics;
+import com.event.infra.event.listener.RedisStreamEventListener;
+import com.event.infra.util.JsonParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RedisStreamEventListener.onMessage 전체 경로 벤치마크
+ * -> EventType 판별 → JsonParser 바인딩 → 카테고리 캐시 조회 → AccessEvent 생성(DateTimeUtils) → ACK 적재
+ * -> DB 저장(save, 집계 upsert)과 XACK 전송은 스텁으로 대체하여 애플리케이션 내부 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RedisStreamEventListenerBenchmark {
+
+  private static final String STREAM_KEY = "EVENT_STREAM";
+  private static final String GROUP_NAME = "EVENT_GROUP";
+  private static final int ACK_BATCH_SIZE = 100;
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  private RedisStreamEventListener listener;
+  private RedisStreamAckAccumulator ackAccumulator;
+  private Map<String, String> recordValue;
+
+  @Setup
+  public void setUp() {
+    JacksonConfig jacksonConfig = new JacksonConfig();
+    JsonParser jsonParser = new JsonParser(jacksonConfig.objectMapper(), jacksonConfig.snakeCaseObjectMapper());
+
+    AccessCategory accessCategory = AccessCategory.builder()
+                                                  .id(1L)
+                                                  .categoryCode("API_PUBLIC")
+                                                  .name("Public API")
+                                                  .createdAt(OffsetDateTime.now())
+                                                  .build();
+    AccessCategoryRepository accessCategoryRepository = BenchmarkStubs.stub(
+        AccessCategoryRepository.class,
+        Map.of("findAllByIsDeletedFalse", args -> List.of(accessCategory)));
+    AccessEventRepository accessEventRepository = BenchmarkStubs.stub(
+        AccessEventRepository.class,
+        Map.of("save", args -> args[0]));
+
+    AccessCategoryCache accessCategoryCache = new AccessCategoryCache(accessCategoryRepository, new SimpleMeterRegistry());
+    accessCategoryCache.refresh();
+
+    AccessEventHandler accessEventHandler = new AccessEventHandler(
+        jsonParser,
+        new AccessCategoryService(accessCategoryRepository, accessCategoryCache, event -> {
+        }),
+        new AccessEventService(accessEventRepository, null, new AccessEventRollupJdbcRepository(noOpJdbcTemplate())));
+
+    @SuppressWarnings("unchecked")
+    StreamOperations<String, Object, Object> streamOperations = BenchmarkStubs.stub(
+        StreamOperations.class,
+        Map.of("acknowledge", args -> (long) ((RecordId[]) args[2]).length));
+    StringRedisTemplate redisTemplate = new StringRedisTemplate() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <HK, HV> StreamOperations<String, HK, HV> opsForStream() {
+        return (StreamOperations<String, HK, HV>) (StreamOperations<?, ?, ?>) streamOperations;
+      }
+    };
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ackAccumulator = new RedisStreamAckAccumulator(STREAM_KEY, GROUP_NAME, ACK_BATCH_SIZE, Duration.ofSeconds(1),
+                                                   redisTemplate, null, meterRegistry);
+    listener = new RedisStreamEventListener("EVENT_CONSUMER-1",
+                                            new EventHandlerResolver(Map.of(EventType.ACCESS, accessEventHandler)),
+                                            ackAccumulator,
+                                            new RedisStreamConsumerMetrics(STREAM_KEY, GROUP_NAME, "EVENT_CONSUMER-1", meterRegistry),
+                                            null); // poll 스레드에서 순차 처리하는 경로 측정
+    recordValue = BenchmarkFixtures.accessEventRecordValue();
+  }
+
+  private static JdbcTemplate noOpJdbcTemplate() {
+    return new JdbcTemplate() {
+      @Override
+      public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                     ParameterizedPreparedStatementSetter<T> pss) {
+        return new int[0][];
+      }
+    };
+  }
+
+  @TearDown
+  public void tearDown() {
+    ackAccumulator.flush();
+  }
+
+  @Benchmark
+  public void onMessage() {
+    MapRecord<String, String, String> record = StreamRecords.newRecord()
+                                                            .in(STREAM_KEY)
+                                                            .withId(RecordId.of(System.currentTimeMillis(), sequence.incrementAndGet()))
+                                                            .ofMap(recordValue);
+    listener.onMessage(record);
+  }
+}
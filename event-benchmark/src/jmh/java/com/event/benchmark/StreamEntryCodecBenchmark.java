@@ -0,0 +1,42 @@
+package com.event.benchmark;
+
+import com.event.infra.event.StreamEntryCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StreamEntryCodec COMPACT 인코딩/복원 벤치마크
+ * -> MAP 형식 대비 추가되는 producer/listener 비용 확인 (Redis 저장 크기와 RESP 응답 필드 수 감소와 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StreamEntryCodecBenchmark {
+
+  private Map<String, String> recordValue;
+  private Map<String, String> compactValue;
+
+  @Setup
+  public void setUp() {
+    recordValue = BenchmarkFixtures.accessEventRecordValue();
+    compactValue = StreamEntryCodec.encode(recordValue);
+  }
+
+  @Benchmark
+  public Map<String, String> encode() {
+    return StreamEntryCodec.encode(recordValue);
+  }
+
+  @Benchmark
+  public Map<String, String> decode() {
+    return StreamEntryCodec.decode(compactValue);
+  }
+}
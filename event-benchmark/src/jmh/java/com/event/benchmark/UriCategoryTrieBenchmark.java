@@ -0,0 +1,76 @@
+package com.event.benchmark;
+
+import com.event.core.domain.access.category.UriCategoryRule;
+import com.event.core.domain.access.category.UriCategoryTrie;
+import com.event.core.domain.access.category.entity.CategoryCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * URI 분류 벤치마크: startsWith 체인(기존 방식) vs UriCategoryTrie
+ * -> 체인은 긴 접두사부터 검사하여 trie 와 같은 결과(가장 긴 접두사)를 반환
+ * -> ruleCount: 기본 규칙 6개 + "/api/v1/service-{n}" 규칙
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UriCategoryTrieBenchmark {
+
+  @Param({"6", "64"})
+  private int ruleCount;
+
+  @Param({"/admin/users/1", "/api/v1/service-42/orders/1", "/access-category/1"})
+  private String uri;
+
+  private String[] prefixes;
+  private String[] categoryCodes;
+  private UriCategoryTrie trie;
+
+  @Setup
+  public void setUp() {
+    List<UriCategoryRule> rules = new ArrayList<>(List.of(
+        new UriCategoryRule("/admin", CategoryCode.API_ADMIN.name()),
+        new UriCategoryRule("/external", CategoryCode.API_EXTERNAL.name()),
+        new UriCategoryRule("/internal", CategoryCode.API_INTERNAL.name()),
+        new UriCategoryRule("/health", CategoryCode.HEALTH_SYSTEM.name()),
+        new UriCategoryRule("/queue", CategoryCode.SERVICE_QUEUE.name()),
+        new UriCategoryRule("/api", CategoryCode.API_PUBLIC.name())));
+    for (int i = 0; rules.size() < ruleCount; i++) {
+      rules.add(new UriCategoryRule("/api/v1/service-" + i, "SERVICE_" + i));
+    }
+
+    List<UriCategoryRule> longestFirst = rules.stream()
+                                              .sorted(Comparator.comparingInt((UriCategoryRule rule) -> rule.uriPrefix().length())
+                                                                .reversed())
+                                              .toList();
+    prefixes = longestFirst.stream().map(UriCategoryRule::uriPrefix).toArray(String[]::new);
+    categoryCodes = longestFirst.stream().map(UriCategoryRule::categoryCode).toArray(String[]::new);
+    trie = UriCategoryTrie.compile(rules, CategoryCode.UNKNOWN.name());
+  }
+
+  @Benchmark
+  public String startsWithChain() {
+    for (int i = 0; i < prefixes.length; i++) {
+      if (uri.startsWith(prefixes[i])) {
+        return categoryCodes[i];
+      }
+    }
+    return CategoryCode.UNKNOWN.name();
+  }
+
+  @Benchmark
+  public String trie() {
+    return trie.classify(uri);
+  }
+}
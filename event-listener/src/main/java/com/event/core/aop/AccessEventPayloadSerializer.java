@@ -0,0 +1,94 @@
+package com.event.core.aop;
+
+import com.event.infra.util.JsonParser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 컨트롤러 인자/반환값을 JSON 으로 직렬화
+ * -> 요청 스레드에서 호출해야 함 (요청 종료 후에는 인자가 변경되거나 지연 로딩 엔티티를 읽을 수 없음)
+ */
+@Slf4j
+@Component
+public class AccessEventPayloadSerializer {
+
+  private static final String STREAMING_BODY = "(streaming)"; // 스트리밍 응답 본문은 직렬화하지 않음
+
+  private final JsonParser jsonParser;
+
+  @Autowired
+  public AccessEventPayloadSerializer(JsonParser jsonParser) {
+    this.jsonParser = jsonParser;
+  }
+
+  public String serializeInputs(Object[] args) {
+    try {
+      if (isNull(args) || args.length == 0) {
+        return null;
+      }
+
+      return jsonParser.convertObjectToJson(args);
+    } catch (Exception ex) {
+      log.error("Failed to convert request to JSON: {}", ex.getMessage(), ex);
+      return null;
+    }
+  }
+
+  /**
+   * 반환값을 직렬화 (예외가 발생한 경우 에러 정보를 담은 ResponseEntity 로 변환)
+   */
+  public String serializeOutputs(Object result, Throwable exception, int responseStatus) {
+    if (isNull(exception)) {
+      return convertResponseEntityToJson(result);
+    }
+
+    return convertResponseEntityToJson(ResponseEntity
+                                           .status(HttpStatus.valueOf(responseStatus))
+                                           .body(Map.of(
+                                               "error", exception.getClass().getSimpleName(),
+                                               "message", String.valueOf(exception.getMessage())
+                                           )));
+  }
+
+  private Object resolveBody(Object body) {
+    if (isNull(body)) {
+      return "null";
+    }
+    return body instanceof StreamingResponseBody ? STREAMING_BODY : body;
+  }
+
+  private String convertResponseEntityToJson(Object result) {
+    try {
+      if (isNull(result)) {
+        return null;
+      }
+
+      // ResponseEntity 처리
+      if (result instanceof ResponseEntity<?> resultEntity) {
+        HttpStatusCode statusCode = resultEntity.getStatusCode();
+
+        return jsonParser.convertObjectToJson(Map.of(
+            "statusCode", statusCode.value(),
+            "statusMessage", ((HttpStatus) statusCode).getReasonPhrase(),
+            "body", resolveBody(resultEntity.getBody()))
+        );
+      }
+
+      // 단순 타입 & 객체 처리
+      return jsonParser.convertObjectToJson(result);
+
+    } catch (Exception exception) {
+      log.error("예상치 못한 오류 발생: {}", exception.getMessage(), exception);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,65 @@
+package com.event.core.aop;
+
+import com.event.infra.event.EventType;
+import com.event.infra.event.producer.RedisStreamEventProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import static com.event.core.config.EventPublishExecutorConfig.EVENT_PUBLISH_EXECUTOR;
+
+/**
+ * EventAspect 가 캡처한 스냅샷에 페이로드 정책을 적용하여 별도 스레드에서 Redis Stream 에 발행
+ */
+@Slf4j
+@Component
+public class AccessEventPublisher {
+
+  private final RedisStreamEventProducer redisStreamEventProducer;
+  private final TaskExecutor eventPublishExecutor;
+  private final PayloadPolicy payloadPolicy;
+
+  @Autowired
+  public AccessEventPublisher(RedisStreamEventProducer redisStreamEventProducer,
+                              @Qualifier(EVENT_PUBLISH_EXECUTOR) TaskExecutor eventPublishExecutor,
+                              PayloadPolicy payloadPolicy) {
+    this.redisStreamEventProducer = redisStreamEventProducer;
+    this.eventPublishExecutor = eventPublishExecutor;
+    this.payloadPolicy = payloadPolicy;
+  }
+
+  /**
+   * 스냅샷을 발행 대기열에 넣고 즉시 반환 (대기열 초과 시 OverflowPolicy 적용)
+   */
+  public void publishAsync(AccessEventSnapshot snapshot) {
+    eventPublishExecutor.execute(() -> publish(snapshot));
+  }
+
+  private void publish(AccessEventSnapshot snapshot) {
+    try {
+      String categoryCode = snapshot.categoryCode();
+      String inputs = payloadPolicy.apply(snapshot.endpoint(), categoryCode, snapshot.inputs());
+      String outputs = payloadPolicy.apply(snapshot.endpoint(), categoryCode, snapshot.outputs());
+
+      redisStreamEventProducer.publishEvent(
+          EventType.ACCESS.name(),
+          categoryCode,
+          EventAspect.ANONYMOUS_USER_ID, // TODO: 임시 ID -> 사용자 ID 처리 필요
+          snapshot.endpoint(),
+          snapshot.httpMethod(),
+          snapshot.methodName(),
+          snapshot.responseStatus(),
+          snapshot.responseTime(),
+          snapshot.ipAddress(),
+          snapshot.userAgent(),
+          inputs,
+          outputs,
+          snapshot.sampleWeight()
+      );
+    } catch (Exception ex) {
+      log.error("Error while publishing event: {}", ex.getMessage(), ex);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.event.core.aop;
+
+import lombok.Builder;
+
+/**
+ * 요청 스레드에서 캡처한 이벤트 데이터
+ * -> inputs/outputs 는 요청 스레드에서 직렬화한 JSON (컨트롤러 인자/반환값의 참조를 보관하지 않음)
+ * -> 페이로드 정책 적용 및 Redis 저장은 별도 스레드에서 수행
+ */
+@Builder
+public record AccessEventSnapshot(
+    String endpoint,
+    String categoryCode,
+    String httpMethod,
+    String methodName,
+    String ipAddress,
+    String userAgent,
+    int responseStatus,
+    double responseTime,
+    String inputs,
+    String outputs,
+    double sampleWeight) {
+
+}
@@ -1,24 +1,16 @@
 package com.event.core.aop;
 
-import com.event.core.domain.access.category.entity.CategoryCode;
+import com.event.core.domain.access.category.UriCategoryClassifier;
 import com.event.core.exception.handler.HttpStatusMapper;
-import com.event.infra.event.EventType;
-import com.event.infra.event.producer.RedisStreamEventProducer;
-import com.event.infra.util.JsonParser;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.HttpStatusCode;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 
 @Slf4j
 @Aspect
@@ -28,17 +20,23 @@ public class EventAspect {
   public static final String ANONYMOUS_USER_ID = "anonymous";
 
   private final HttpServletRequest httpServletRequest;
-  private final JsonParser jsonParser;
-  private final RedisStreamEventProducer redisStreamEventProducer;
+  private final AccessEventPublisher accessEventPublisher;
+  private final AccessEventPayloadSerializer accessEventPayloadSerializer;
+  private final EventSampler eventSampler;
+  private final UriCategoryClassifier uriCategoryClassifier;
   private final ThreadLocal<Long> startTime = new ThreadLocal<>();
 
   @Autowired
   public EventAspect(HttpServletRequest httpServletRequest,
-                     JsonParser jsonParser,
-                     RedisStreamEventProducer redisStreamEventProducer) {
+                     AccessEventPublisher accessEventPublisher,
+                     AccessEventPayloadSerializer accessEventPayloadSerializer,
+                     EventSampler eventSampler,
+                     UriCategoryClassifier uriCategoryClassifier) {
     this.httpServletRequest = httpServletRequest;
-    this.jsonParser = jsonParser;
-    this.redisStreamEventProducer = redisStreamEventProducer;
+    this.accessEventPublisher = accessEventPublisher;
+    this.accessEventPayloadSerializer = accessEventPayloadSerializer;
+    this.eventSampler = eventSampler;
+    this.uriCategoryClassifier = uriCategoryClassifier;
   }
 
   @Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
@@ -59,47 +57,46 @@ public class EventAspect {
   @AfterThrowing(pointcut = "restControllerMethods()", throwing = "exception")
   public void afterThrowing(JoinPoint joinPoint, Throwable exception) {
     HttpStatus httpStatus = HttpStatusMapper.getHttpStatus(exception.getClass());
-
-    ResponseEntity<Object> resultEntity = ResponseEntity
-        .status(httpStatus)
-        .body(Map.of(
-            "error", exception.getClass().getSimpleName(),
-            "message", exception.getMessage()
-        ));
-    processEvent(joinPoint, httpStatus, resultEntity, exception);
+    processEvent(joinPoint, httpStatus, null, exception);
   }
 
   /**
    * 공통 이벤트 처리 메서드
+   * -> 요청 스레드에서는 스냅샷 캡처 및 인자/반환값 직렬화만 수행하고, 발행은 AccessEventPublisher 에 위임
+   * -> 샘플링되지 않은 요청은 스냅샷을 만들지 않음
    */
   private void processEvent(JoinPoint joinPoint, HttpStatus httpStatus, Object result, Throwable exception) {
     try {
       long duration = System.currentTimeMillis() - startTime.get();
       double responseTime = duration / 1000.0;
 
-      String endpoint = httpServletRequest.getRequestURI();
-      String httpMethod = httpServletRequest.getMethod();
       String methodName = joinPoint.getSignature().toShortString();
-      String ipAddress = httpServletRequest.getRemoteAddr();
-      String userAgent = httpServletRequest.getHeader("User-Agent");
-
-      String inputs = convertRequestEntityToJson(joinPoint.getArgs());
-      String outputs = convertResponseEntityToJson(result);
-
-      redisStreamEventProducer.publishEvent(
-          EventType.ACCESS.name(),
-          CategoryCode.determineCategoryFromURI(endpoint),
-          ANONYMOUS_USER_ID, // TODO: 임시 ID -> 사용자 ID 처리 필요
-          endpoint,
-          httpMethod,
-          methodName,
-          httpStatus.value(),
-          responseTime,
-          ipAddress,
-          userAgent,
-          inputs,
-          outputs
-      );
+
+      String endpoint = httpServletRequest.getRequestURI();
+      String categoryCode = uriCategoryClassifier.classify(endpoint);
+      double sampleWeight = eventSampler.sample(endpoint, categoryCode, httpStatus.value(), responseTime);
+      if (sampleWeight == EventSampler.NOT_SAMPLED) {
+        log.debug("Event not sampled: {}, endpoint: {}", methodName, endpoint);
+        return;
+      }
+
+      // HttpServletRequest 는 요청 스레드에서만 유효하므로 여기서 값을 꺼내둠
+      // NOTE: 인자/반환값도 요청 종료 후 변경되거나 지연 로딩이 불가능하므로 여기서 직렬화
+      AccessEventSnapshot snapshot = AccessEventSnapshot.builder()
+                                                        .endpoint(endpoint)
+                                                        .categoryCode(categoryCode)
+                                                        .httpMethod(httpServletRequest.getMethod())
+                                                        .methodName(methodName)
+                                                        .ipAddress(httpServletRequest.getRemoteAddr())
+                                                        .userAgent(httpServletRequest.getHeader("User-Agent"))
+                                                        .responseStatus(httpStatus.value())
+                                                        .responseTime(responseTime)
+                                                        .inputs(accessEventPayloadSerializer.serializeInputs(joinPoint.getArgs()))
+                                                        .outputs(accessEventPayloadSerializer.serializeOutputs(result, exception, httpStatus.value()))
+                                                        .sampleWeight(sampleWeight)
+                                                        .build();
+
+      accessEventPublisher.publishAsync(snapshot);
 
       if (isNull(exception)) {
         log.info("Completed processing: {}, Response Time: {}s", methodName, responseTime);
@@ -112,43 +109,4 @@ public class EventAspect {
       startTime.remove();
     }
   }
-
-  private String convertRequestEntityToJson(Object[] args) {
-    try {
-      if (isNull(args) || args.length == 0) {
-        return null;
-      }
-
-      return jsonParser.convertObjectToJson(args);
-    } catch (Exception ex) {
-      log.error("Failed to convert request to JSON: {}", ex.getMessage(), ex);
-      return null;
-    }
-  }
-
-  public String convertResponseEntityToJson(Object result) {
-    try {
-      if (isNull(result)) {
-        return null;
-      }
-
-      // ResponseEntity 처리
-      if (result instanceof ResponseEntity<?> resultEntity) {
-        HttpStatusCode statusCode = resultEntity.getStatusCode();
-
-        return jsonParser.convertObjectToJson(Map.of(
-            "statusCode", statusCode.value(),
-            "statusMessage", ((HttpStatus) statusCode).getReasonPhrase(),
-            "body", nonNull(resultEntity.getBody()) ? resultEntity.getBody() : "null")
-        );
-      }
-
-      // 단순 타입 & 객체 처리
-      return jsonParser.convertObjectToJson(result);
-
-    } catch (Exception exception) {
-      log.error("예상치 못한 오류 발생: {}", exception.getMessage(), exception);
-    }
-    return null;
-  }
-}
\ No newline at end of file
+}
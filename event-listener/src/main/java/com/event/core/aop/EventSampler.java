@@ -0,0 +1,121 @@
+package com.event.core.aop;
+
+import com.event.core.config.EventCaptureProperties;
+import com.event.core.config.EventCaptureProperties.SamplingRule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * 엔드포인트/카테고리별 이벤트 수집 여부 결정 (event.capture.sampling)
+ * -> 요청 스레드에서 직렬화 전에 판단하므로 수집하지 않는 이벤트는 발행 비용이 들지 않음
+ * -> 오류 응답(alwaysCaptureStatus 이상)과 느린 응답(slowThreshold 이상)은 규칙과 관계없이 sampleWeight 1 로 수집
+ */
+@Component
+public class EventSampler {
+
+  public static final double NOT_SAMPLED = 0;
+
+  private final EventCaptureProperties.Sampling properties;
+  private final Map<SamplingRule, TokenBucket> tokenBuckets = new IdentityHashMap<>(); // 규칙 단위 토큰 버킷 (기동 시 생성 후 읽기 전용)
+
+  @Autowired
+  public EventSampler(EventCaptureProperties eventCaptureProperties) {
+    this.properties = eventCaptureProperties.sampling();
+    properties.getRules().forEach(this::registerTokenBucket);
+    registerTokenBucket(properties.getDefaults());
+  }
+
+  private void registerTokenBucket(SamplingRule rule) {
+    if (rule.getMode() == EventCaptureProperties.SamplingMode.RATE_LIMIT) {
+      tokenBuckets.put(rule, new TokenBucket(rule.getPermitsPerSecond(), rule.getBurst()));
+    }
+  }
+
+  /**
+   * @param responseTime 응답 시간 (초)
+   * @return 수집된 이벤트가 대표하는 요청 수 (sampleWeight), 수집하지 않으면 NOT_SAMPLED
+   */
+  public double sample(String endpoint, String categoryCode, int responseStatus, double responseTime) {
+    SamplingRule rule = resolveRule(endpoint, categoryCode);
+    if (isAlwaysCaptured(rule, responseStatus, responseTime)) {
+      return 1;
+    }
+
+    return switch (rule.getMode()) {
+      case ALL -> 1;
+      case RATIO -> rule.getRatio() > 0 && ThreadLocalRandom.current().nextDouble() < rule.getRatio()
+          ? 1 / Math.min(rule.getRatio(), 1)
+          : NOT_SAMPLED;
+      case RATE_LIMIT -> tokenBuckets.get(rule).tryAcquire();
+      case NONE -> NOT_SAMPLED;
+    };
+  }
+
+  private boolean isAlwaysCaptured(SamplingRule rule, int responseStatus, double responseTime) {
+    if (rule.getAlwaysCaptureStatus() > 0 && responseStatus >= rule.getAlwaysCaptureStatus()) {
+      return true;
+    }
+    return nonNull(rule.getSlowThreshold()) && responseTime * 1000 >= rule.getSlowThreshold().toMillis();
+  }
+
+  private SamplingRule resolveRule(String endpoint, String categoryCode) {
+    for (SamplingRule rule : properties.getRules()) {
+      if (rule.matches(endpoint, categoryCode)) {
+        return rule;
+      }
+    }
+    return properties.getDefaults();
+  }
+
+  /**
+   * 초당 permitsPerSecond 개씩 채워지는 토큰 버킷
+   * -> 토큰을 얻은 이벤트는 직전 수집 이후 버려진 요청까지 대표하므로 sampleWeight = 버려진 요청 수 + 1
+   */
+  static class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long dropped; // 직전 수집 이후 버려진 요청 수
+
+    TokenBucket(double permitsPerSecond, int burst) {
+      this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+      this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+      this.capacity = Math.max(1, burst);
+      this.nanoClock = nanoClock;
+      this.tokens = capacity;
+      this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * NOTE: 토큰 획득과 버려진 요청 수 정산을 한 번에 처리해야 동시 요청 사이에서 가중치가 누락되거나 중복되지 않음
+     */
+    synchronized double tryAcquire() {
+      long now = nanoClock.getAsLong();
+      tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+      lastRefillNanos = now;
+      if (tokens < 1) {
+        dropped++;
+        return NOT_SAMPLED;
+      }
+      tokens -= 1;
+
+      double weight = dropped + 1;
+      dropped = 0;
+      return weight;
+    }
+  }
+}
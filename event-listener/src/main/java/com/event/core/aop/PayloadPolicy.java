@@ -0,0 +1,52 @@
+package com.event.core.aop;
+
+import com.event.core.config.EventCaptureProperties;
+import com.event.core.config.EventCaptureProperties.PayloadRule;
+import com.event.infra.util.PayloadCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 엔드포인트/카테고리별 inputs, outputs 저장 방식 적용 (event.capture.payload)
+ * -> 큰 요청/응답 본문이 스트림 엔트리와 DB 행 크기를 키우지 않도록 발행 전에 줄임
+ */
+@Component
+public class PayloadPolicy {
+
+  private final EventCaptureProperties.Payload properties;
+
+  @Autowired
+  public PayloadPolicy(EventCaptureProperties eventCaptureProperties) {
+    this.properties = eventCaptureProperties.payload();
+  }
+
+  public String apply(String endpoint, String categoryCode, String json) {
+    if (isNull(json)) {
+      return null;
+    }
+
+    PayloadRule rule = resolveRule(endpoint, categoryCode);
+    return switch (rule.getMode()) {
+      case CAPTURE -> json;
+      case TRUNCATE -> PayloadCodec.truncate(json, rule.getMaxBytes());
+      case HASH -> PayloadCodec.hash(json);
+      case COMPRESS -> json.length() * 3 <= rule.getMaxBytes() // UTF-8 최대 크기로도 기준 이하이면 바이트 계산 생략
+                       || json.getBytes(StandardCharsets.UTF_8).length <= rule.getMaxBytes()
+          ? json
+          : PayloadCodec.compress(json);
+    };
+  }
+
+  private PayloadRule resolveRule(String endpoint, String categoryCode) {
+    for (PayloadRule rule : properties.getRules()) {
+      if (rule.matches(endpoint, categoryCode)) {
+        return rule;
+      }
+    }
+    return properties.getDefaults();
+  }
+}
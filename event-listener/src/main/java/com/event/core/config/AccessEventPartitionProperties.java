@@ -0,0 +1,20 @@
+package com.event.core.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import static java.util.Objects.isNull;
+
+/**
+ * access_event 일 단위 파티션 관리 설정
+ *
+ * @param precreateDays 오늘 이후 미리 생성해 둘 파티션 일수
+ */
+@ConfigurationProperties(prefix = "event.partition")
+public record AccessEventPartitionProperties(Integer precreateDays) {
+
+  public AccessEventPartitionProperties {
+    if (isNull(precreateDays)) {
+      precreateDays = 7;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.event.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+/**
+ * URI 접두사 → 카테고리 분류 규칙 (access_category_route 규칙에 추가, 같은 접두사는 설정 값이 우선)
+ */
+@ConfigurationProperties(prefix = "event.category-route")
+public record CategoryRouteProperties(List<Rule> rules) {
+
+  public CategoryRouteProperties {
+    if (isNull(rules)) {
+      rules = List.of();
+    }
+  }
+
+  @Data
+  public static class Rule {
+
+    private String uriPrefix;
+    private String categoryCode;
+  }
+}
@@ -0,0 +1,111 @@
+package com.event.core.config;
+
+import com.event.infra.event.producer.OverflowPolicy;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+@ConfigurationProperties(prefix = "event.capture")
+public record EventCaptureProperties(Async async, Payload payload, Sampling sampling) {
+
+  public EventCaptureProperties {
+    if (isNull(async)) {
+      async = new Async();
+    }
+    if (isNull(payload)) {
+      payload = new Payload();
+    }
+    if (isNull(sampling)) {
+      sampling = new Sampling();
+    }
+  }
+
+  @Data
+  public static class Async {
+
+    private boolean enabled = true;                          // false 이면 요청 스레드에서 직접 발행
+    private int poolSize = 2;                                // 발행 스레드 수
+    private int queueCapacity = 10_000;                      // 발행 대기열 크기
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+    private Duration blockTimeout = Duration.ofMillis(100);  // BLOCK 정책에서 최대 대기 시간
+  }
+
+  /**
+   * inputs/outputs 저장 방식 (rules 중 처음 일치하는 규칙, 없으면 defaults 적용)
+   */
+  @Data
+  public static class Payload {
+
+    private PayloadRule defaults = new PayloadRule();
+    private List<PayloadRule> rules = new ArrayList<>();
+  }
+
+  /**
+   * 엔드포인트 접두사/카테고리 코드로 대상을 지정하는 규칙 (둘 다 설정하면 모두 일치해야 함)
+   */
+  @Getter
+  @Setter
+  public abstract static class EndpointRule {
+
+    private String endpointPrefix; // 엔드포인트 접두사 (미설정 시 모든 엔드포인트)
+    private String categoryCode;   // 카테고리 코드 (미설정 시 모든 카테고리)
+
+    public boolean matches(String endpoint, String categoryCode) {
+      return (isNull(this.endpointPrefix) || (!isNull(endpoint) && endpoint.startsWith(this.endpointPrefix)))
+          && (isNull(this.categoryCode) || this.categoryCode.equals(categoryCode));
+    }
+  }
+
+  @Data
+  @EqualsAndHashCode(callSuper = true)
+  public static class PayloadRule extends EndpointRule {
+
+    private PayloadMode mode = PayloadMode.CAPTURE;
+    private int maxBytes = 4096; // TRUNCATE: 최대 저장 크기, COMPRESS: 이 크기 이하는 압축하지 않음
+  }
+
+  public enum PayloadMode {
+    CAPTURE,   // 그대로 저장
+    TRUNCATE,  // 앞부분 maxBytes 만 저장
+    HASH,      // SHA-256 해시만 저장 (동일 요청/응답 여부만 확인)
+    COMPRESS   // maxBytes 초과 시 압축하여 발행, 컨슈머에서 복원 후 저장
+  }
+
+  /**
+   * 이벤트 수집 샘플링 (rules 중 처음 일치하는 규칙, 없으면 defaults 적용)
+   * -> 수집된 이벤트는 sampleWeight(대표하는 요청 수)를 함께 저장하여 집계 시 전체 요청 수를 추정
+   */
+  @Data
+  public static class Sampling {
+
+    private SamplingRule defaults = new SamplingRule();
+    private List<SamplingRule> rules = new ArrayList<>();
+  }
+
+  @Data
+  @EqualsAndHashCode(callSuper = true)
+  public static class SamplingRule extends EndpointRule {
+
+    private SamplingMode mode = SamplingMode.ALL;
+    private double ratio = 1.0;                   // RATIO: 수집 비율 (0 ~ 1)
+    private double permitsPerSecond = 10;         // RATE_LIMIT: 초당 수집 수 (규칙 단위 토큰 버킷)
+    private int burst = 10;                       // RATE_LIMIT: 토큰 버킷 크기
+    private int alwaysCaptureStatus = 400;        // 이 상태 코드 이상은 항상 수집 (0 이면 사용 안 함)
+    private Duration slowThreshold;               // 응답 시간이 이 값 이상이면 항상 수집 (미설정 시 사용 안 함)
+  }
+
+  public enum SamplingMode {
+    ALL,        // 모두 수집
+    RATIO,      // ratio 비율로 무작위 수집 (sampleWeight = 1 / ratio)
+    RATE_LIMIT, // 토큰 버킷으로 초당 수집 수 제한 (sampleWeight = 직전 수집 이후 요청 수)
+    NONE        // 수집하지 않음 (항상 수집 조건에 해당하는 이벤트만 수집)
+  }
+}
@@ -0,0 +1,93 @@
+package com.event.core.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@Configuration
+public class EventPublishExecutorConfig {
+
+  public static final String EVENT_PUBLISH_EXECUTOR = "eventPublishExecutor";
+
+  private static final String THREAD_NAME_PREFIX = "event-publish-";
+  private static final int AWAIT_TERMINATION_SECONDS = 10; // 종료 시 대기열에 남은 이벤트 발행 대기 시간
+
+  /**
+   * 이벤트 발행(페이로드 정책 적용 + XADD) 전용 Executor Bean 정의
+   * -> 요청 스레드는 스냅샷을 대기열에 넣기만 하고 즉시 반환
+   *
+   * @param properties    EventCaptureProperties
+   * @param meterRegistry MeterRegistry
+   *
+   * @return TaskExecutor (async 비활성화 시 호출 스레드에서 실행하는 SyncTaskExecutor)
+   */
+  @Bean(EVENT_PUBLISH_EXECUTOR)
+  public TaskExecutor eventPublishExecutor(EventCaptureProperties properties, MeterRegistry meterRegistry) {
+    EventCaptureProperties.Async async = properties.async();
+    if (!async.isEnabled()) {
+      return new SyncTaskExecutor();
+    }
+
+    Counter droppedCounter = Counter.builder("event.capture.dropped")
+                                    .description("발행 대기열 초과로 유실된 이벤트 수")
+                                    .register(meterRegistry);
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(async.getPoolSize());
+    executor.setMaxPoolSize(async.getPoolSize());
+    executor.setQueueCapacity(async.getQueueCapacity());
+    executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+    executor.setRejectedExecutionHandler(rejectedExecutionHandler(async, droppedCounter));
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+
+    Gauge.builder("event.capture.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+         .description("발행 대기열에 쌓인 이벤트 수")
+         .register(meterRegistry);
+    return executor;
+  }
+
+  /**
+   * 발행 대기열이 가득 찼을 때의 처리 정책 (OverflowPolicy)
+   */
+  private RejectedExecutionHandler rejectedExecutionHandler(EventCaptureProperties.Async async, Counter droppedCounter) {
+    return switch (async.getOverflowPolicy()) {
+      case BLOCK -> (task, executor) -> {
+        try {
+          if (executor.isShutdown() ||
+              !executor.getQueue().offer(task, async.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            droppedCounter.increment();
+            log.warn("Event publish task dropped. queue is full after waiting {}", async.getBlockTimeout());
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          droppedCounter.increment();
+        }
+      };
+      case DROP_OLDEST -> (task, executor) -> {
+        if (executor.isShutdown()) {
+          droppedCounter.increment();
+          return;
+        }
+        if (nonNull(executor.getQueue().poll())) {
+          droppedCounter.increment();
+        }
+        executor.execute(task);
+      };
+      case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy(); // 요청 스레드에서 직접 발행 (응답 시간에 포함됨)
+    };
+  }
+}
@@ -0,0 +1,37 @@
+package com.event.core.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 오래된 이벤트 정리(Redis Stream, DB) 설정
+ *
+ * @param period      보관 기간 (이전 데이터는 정리 대상)
+ * @param chunkSize   한 번에 정리할 최대 건수 (XPENDING/XACK, XTRIM LIMIT, DELETE LIMIT)
+ * @param chunkPause  청크 사이 대기 시간 (Redis/DB 부하 분산)
+ * @param maxDuration 정리 작업 1회 최대 실행 시간 (초과 시 다음 실행에서 이어서 정리)
+ */
+@ConfigurationProperties(prefix = "event.retention")
+public record EventRetentionProperties(Duration period,
+                                       Integer chunkSize,
+                                       Duration chunkPause,
+                                       Duration maxDuration) {
+
+  public EventRetentionProperties {
+    if (isNull(period)) {
+      period = Duration.ofDays(60);
+    }
+    if (isNull(chunkSize)) {
+      chunkSize = 1_000;
+    }
+    if (isNull(chunkPause)) {
+      chunkPause = Duration.ofMillis(100);
+    }
+    if (isNull(maxDuration)) {
+      maxDuration = Duration.ofMinutes(30);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.event.core.domain.access.category;
+
+import com.event.core.domain.access.category.inout.AccessCategoryDto;
+import com.event.core.exception.DataNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * categoryCode 기준 AccessCategory read-through 캐시
+ * -> 이벤트마다 발생하던 카테고리 조회 쿼리를 메모리 조회로 대체
+ * -> 주기적으로 전체 갱신하고, 카테고리 변경 시 커밋 직후 해당 항목을 무효화
+ */
+@Slf4j
+@Component
+public class AccessCategoryCache {
+
+  private final AccessCategoryRepository accessCategoryRepository;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  // NOTE: 조회는 lock 없이 읽고, 변경 시에는 새 Map 으로 교체 (copy-on-write)
+  private volatile Map<String, AccessCategoryDto> categoriesByCode = Map.of();
+
+  // NOTE: 무효화 시 증가, 조회 도중 무효화가 일어났다면 조회 결과(변경 이전 값)를 캐시에 반영하지 않음
+  private long evictVersion;
+
+  @Autowired
+  public AccessCategoryCache(AccessCategoryRepository accessCategoryRepository,
+                             MeterRegistry meterRegistry) {
+    this.accessCategoryRepository = accessCategoryRepository;
+
+    this.hitCounter = Counter.builder("event.category.cache.gets")
+                             .description("카테고리 캐시 조회 수")
+                             .tag("result", "hit")
+                             .register(meterRegistry);
+    this.missCounter = Counter.builder("event.category.cache.gets")
+                              .description("카테고리 캐시 조회 수")
+                              .tag("result", "miss")
+                              .register(meterRegistry);
+    Gauge.builder("event.category.cache.size", this, cache -> cache.categoriesByCode.size())
+         .description("캐시된 카테고리 수")
+         .register(meterRegistry);
+  }
+
+  /**
+   * categoryCode 로 삭제되지 않은 카테고리 조회 (캐시에 없으면 DB 에서 조회 후 적재)
+   */
+  public AccessCategoryDto get(String categoryCode) {
+    AccessCategoryDto cached = categoriesByCode.get(categoryCode);
+    if (nonNull(cached)) {
+      hitCounter.increment();
+      return cached;
+    }
+
+    missCounter.increment();
+    long version = currentEvictVersion();
+    AccessCategoryDto loaded =
+        accessCategoryRepository.findByCategoryCodeAndIsDeletedFalse(categoryCode)
+                                .map(AccessCategoryDto::from)
+                                .orElseThrow(() -> new DataNotFoundException("AccessCategory not found with code: " + categoryCode));
+    put(loaded, version);
+    return loaded;
+  }
+
+  /**
+   * 삭제되지 않은 전체 카테고리로 캐시를 교체 (애플리케이션 시작 시 + 주기적으로 실행)
+   */
+  @Scheduled(fixedDelayString = "${event.category-cache.refresh-interval:5m}")
+  public void refresh() {
+    try {
+      long version = currentEvictVersion();
+      Map<String, AccessCategoryDto> refreshed =
+          accessCategoryRepository.findAllByIsDeletedFalse()
+                                  .stream()
+                                  .map(AccessCategoryDto::from)
+                                  .collect(Collectors.toUnmodifiableMap(AccessCategoryDto::categoryCode, Function.identity()));
+      synchronized (this) {
+        if (version != evictVersion) {
+          log.debug("AccessCategory cache refresh skipped. category changed while loading.");
+          return;
+        }
+        categoriesByCode = refreshed;
+      }
+      log.debug("AccessCategory cache refreshed. size={}", refreshed.size());
+    } catch (Exception e) {
+      // NOTE: 갱신 실패 시 기존 캐시를 유지 (다음 주기 또는 read-through 로 복구)
+      log.error("Failed to refresh AccessCategory cache: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 카테고리 변경 트랜잭션이 커밋된 직후 해당 카테고리 무효화
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onCategoryChanged(AccessCategoryChangedEvent event) {
+    evict(event.categoryCode());
+    log.info("AccessCategory cache evicted. categoryCode={}", event.categoryCode());
+  }
+
+  public synchronized void evict(String categoryCode) {
+    evictVersion++;
+    if (!categoriesByCode.containsKey(categoryCode)) {
+      return;
+    }
+    Map<String, AccessCategoryDto> updated = new HashMap<>(categoriesByCode);
+    updated.remove(categoryCode);
+    categoriesByCode = Map.copyOf(updated);
+  }
+
+  private synchronized long currentEvictVersion() {
+    return evictVersion;
+  }
+
+  private synchronized void put(AccessCategoryDto accessCategoryDto, long version) {
+    if (version != evictVersion) {
+      return;
+    }
+    Map<String, AccessCategoryDto> updated = new HashMap<>(categoriesByCode);
+    updated.put(accessCategoryDto.categoryCode(), accessCategoryDto);
+    categoriesByCode = Map.copyOf(updated);
+  }
+}
@@ -0,0 +1,9 @@
+package com.event.core.domain.access.category;
+
+/**
+ * AccessCategory 가 수정(또는 soft delete) 되었음을 알리는 이벤트
+ * -> 트랜잭션 커밋 이후 AccessCategoryCache 에서 해당 카테고리를 무효화
+ */
+public record AccessCategoryChangedEvent(String categoryCode) {
+
+}
@@ -0,0 +1,35 @@
+package com.event.core.domain.access.category;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * access_category_route (URI 접두사 → 카테고리) 조회 JDBC Repository
+ */
+@Repository
+public class AccessCategoryRouteJdbcRepository {
+
+  // NOTE: 삭제된 카테고리의 규칙은 제외 (해당 URI 는 더 짧은 접두사 규칙 또는 기본 카테고리로 분류)
+  private static final String SELECT_ACTIVE_ROUTES_SQL = """
+      SELECT r.uri_prefix, c.category_code
+      FROM access_category_route r
+               JOIN access_category c ON c.id = r.category_id
+      WHERE c.is_deleted = FALSE
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public AccessCategoryRouteJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<UriCategoryRule> findAllActive() {
+    return jdbcTemplate.query(SELECT_ACTIVE_ROUTES_SQL,
+                              (rs, rowNum) -> new UriCategoryRule(rs.getString("uri_prefix"),
+                                                                  rs.getString("category_code")));
+  }
+}
@@ -4,6 +4,7 @@ import com.event.core.domain.access.category.entity.AccessCategory;
 import com.event.core.domain.access.category.inout.AccessCategoryDto;
 import com.event.core.exception.DataNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +16,17 @@ public class AccessCategoryService {
 
   private final AccessCategoryRepository accessCategoryRepository;
 
+  private final AccessCategoryCache accessCategoryCache;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   @Autowired
-  public AccessCategoryService(AccessCategoryRepository accessCategoryRepository) {
+  public AccessCategoryService(AccessCategoryRepository accessCategoryRepository,
+                               AccessCategoryCache accessCategoryCache,
+                               ApplicationEventPublisher eventPublisher) {
     this.accessCategoryRepository = accessCategoryRepository;
+    this.accessCategoryCache = accessCategoryCache;
+    this.eventPublisher = eventPublisher;
   }
 
   private boolean existByCategoryCode(String categoryCode) {
@@ -34,6 +43,7 @@ public class AccessCategoryService {
                                 .orElseThrow(() -> new DataNotFoundException("AccessCategory not found with id: " + id));
 
     accessCategory.change(name, description, isDeleted);
+    eventPublisher.publishEvent(new AccessCategoryChangedEvent(accessCategory.getCategoryCode())); // 커밋 후 캐시 무효화
   }
 
   public List<AccessCategoryDto> getAllCategoriesNotDeleted() {
@@ -49,9 +59,10 @@ public class AccessCategoryService {
                                    .orElseThrow(() -> new DataNotFoundException("AccessCategory not found with id: " + id));
   }
 
+  /**
+   * 이벤트 처리마다 호출되므로 DB 대신 AccessCategoryCache 에서 조회
+   */
   public AccessCategoryDto getByCategoryCodeNotDeleted(String categoryCode) {
-    return accessCategoryRepository.findByCategoryCodeAndIsDeletedFalse(categoryCode)
-                                   .map(AccessCategoryDto::from)
-                                   .orElseThrow(() -> new DataNotFoundException("AccessCategory not found with code: " + categoryCode));
+    return accessCategoryCache.get(categoryCode);
   }
 }
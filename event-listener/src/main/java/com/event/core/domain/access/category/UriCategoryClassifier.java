@@ -0,0 +1,87 @@
+package com.event.core.domain.access.category;
+
+import com.event.core.config.CategoryRouteProperties;
+import com.event.core.domain.access.category.entity.CategoryCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 요청 URI 로 AccessCategory 코드 분류
+ * -> access_category_route 규칙과 설정(event.category-route.rules) 규칙을 UriCategoryTrie 로 컴파일하여 가장 긴 접두사로 분류
+ * -> 주기적으로, 그리고 카테고리 변경 커밋 직후 다시 컴파일하여 교체 (조회 중인 요청은 이전 trie 를 그대로 사용)
+ */
+@Slf4j
+@Component
+public class UriCategoryClassifier {
+
+  // NOTE: DB 규칙을 읽기 전(기동 직후) 또는 읽기에 실패한 경우 사용하는 기본 규칙 (access_category_route 초기 데이터와 동일)
+  static final List<UriCategoryRule> DEFAULT_RULES = List.of(
+      new UriCategoryRule("/admin", CategoryCode.API_ADMIN.name()),
+      new UriCategoryRule("/external", CategoryCode.API_EXTERNAL.name()),
+      new UriCategoryRule("/internal", CategoryCode.API_INTERNAL.name()),
+      new UriCategoryRule("/health", CategoryCode.HEALTH_SYSTEM.name()),
+      new UriCategoryRule("/queue", CategoryCode.SERVICE_QUEUE.name()),
+      new UriCategoryRule("/api", CategoryCode.API_PUBLIC.name()));
+
+  private final AccessCategoryRouteJdbcRepository accessCategoryRouteJdbcRepository;
+  private final CategoryRouteProperties categoryRouteProperties;
+  private final AtomicReference<UriCategoryTrie> trie;
+
+  @Autowired
+  public UriCategoryClassifier(AccessCategoryRouteJdbcRepository accessCategoryRouteJdbcRepository,
+                               CategoryRouteProperties categoryRouteProperties,
+                               MeterRegistry meterRegistry) {
+    this.accessCategoryRouteJdbcRepository = accessCategoryRouteJdbcRepository;
+    this.categoryRouteProperties = categoryRouteProperties;
+    this.trie = new AtomicReference<>(compile(DEFAULT_RULES));
+
+    Gauge.builder("event.category.route.rules", this, classifier -> classifier.trie.get().ruleCount())
+         .description("URI 분류 규칙 수")
+         .register(meterRegistry);
+  }
+
+  public String classify(String uri) {
+    return trie.get().classify(uri);
+  }
+
+  /**
+   * DB 규칙을 다시 읽어 trie 교체 (애플리케이션 시작 시 + 주기적으로 실행)
+   */
+  @Scheduled(fixedDelayString = "${event.category-cache.refresh-interval:5m}")
+  public void refresh() {
+    try {
+      UriCategoryTrie refreshed = compile(accessCategoryRouteJdbcRepository.findAllActive());
+      trie.set(refreshed);
+      log.debug("URI category rules refreshed. size={}", refreshed.ruleCount());
+    } catch (Exception e) {
+      // NOTE: 갱신 실패 시 기존 규칙을 유지 (다음 주기에 다시 시도)
+      log.error("Failed to refresh URI category rules: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 카테고리 변경(soft delete 포함) 트랜잭션이 커밋된 직후 규칙 다시 읽기
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onCategoryChanged(AccessCategoryChangedEvent event) {
+    refresh();
+    log.info("URI category rules reloaded. categoryCode={}", event.categoryCode());
+  }
+
+  private UriCategoryTrie compile(List<UriCategoryRule> rules) {
+    List<UriCategoryRule> merged = new ArrayList<>(rules);
+    categoryRouteProperties.rules()
+                           .forEach(rule -> merged.add(new UriCategoryRule(rule.getUriPrefix(), rule.getCategoryCode())));
+    return UriCategoryTrie.compile(merged, CategoryCode.UNKNOWN.name()); // 같은 접두사는 뒤에 추가된 설정 규칙이 우선
+  }
+}
@@ -0,0 +1,8 @@
+package com.event.core.domain.access.category;
+
+/**
+ * URI 접두사 → 카테고리 코드 분류 규칙
+ */
+public record UriCategoryRule(String uriPrefix, String categoryCode) {
+
+}
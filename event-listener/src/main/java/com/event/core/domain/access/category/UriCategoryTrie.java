@@ -0,0 +1,117 @@
+package com.event.core.domain.access.category;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * URI 접두사 규칙을 문자 단위로 컴파일한 불변 prefix trie
+ * -> 가장 긴 접두사 규칙의 카테고리를 반환하고, 일치하는 규칙이 없으면 기본 카테고리 반환
+ * -> 조회는 URI 길이에 비례하며 (노드마다 자식 문자 이진 탐색), 객체를 생성하지 않음
+ * NOTE: 접두사는 문자열 그대로 비교 (String.startsWith 와 동일, "/api" 규칙은 "/apis" 에도 일치)
+ */
+public final class UriCategoryTrie {
+
+  private static final char[] NO_KEYS = new char[0];
+  private static final Node[] NO_CHILDREN = new Node[0];
+
+  private final Node root;
+  private final String defaultCategoryCode;
+  private final int ruleCount;
+
+  private UriCategoryTrie(Node root, String defaultCategoryCode, int ruleCount) {
+    this.root = root;
+    this.defaultCategoryCode = defaultCategoryCode;
+    this.ruleCount = ruleCount;
+  }
+
+  /**
+   * 규칙 목록으로 trie 생성 (같은 접두사가 여러 번 나오면 뒤의 규칙 적용)
+   */
+  public static UriCategoryTrie compile(List<UriCategoryRule> rules, String defaultCategoryCode) {
+    MutableNode root = new MutableNode();
+    Map<String, String> categoryByPrefix = new TreeMap<>();
+    for (UriCategoryRule rule : rules) {
+      if (isNull(rule.uriPrefix()) || isNull(rule.categoryCode())) {
+        continue;
+      }
+      categoryByPrefix.put(rule.uriPrefix(), rule.categoryCode());
+    }
+
+    categoryByPrefix.forEach((prefix, categoryCode) -> {
+      MutableNode node = root;
+      for (int i = 0; i < prefix.length(); i++) {
+        node = node.children.computeIfAbsent(prefix.charAt(i), key -> new MutableNode());
+      }
+      node.categoryCode = categoryCode;
+    });
+    return new UriCategoryTrie(root.freeze(), defaultCategoryCode, categoryByPrefix.size());
+  }
+
+  public String classify(String uri) {
+    String matched = nonNull(root.categoryCode) ? root.categoryCode : defaultCategoryCode;
+    if (isNull(uri)) {
+      return matched;
+    }
+
+    Node node = root;
+    for (int i = 0; i < uri.length(); i++) {
+      node = node.child(uri.charAt(i));
+      if (isNull(node)) {
+        break;
+      }
+      if (nonNull(node.categoryCode)) {
+        matched = node.categoryCode;
+      }
+    }
+    return matched;
+  }
+
+  public int ruleCount() {
+    return ruleCount;
+  }
+
+  private static final class Node {
+
+    private final char[] keys;       // 정렬된 자식 문자
+    private final Node[] children;   // keys 와 같은 순서
+    private final String categoryCode;
+
+    private Node(char[] keys, Node[] children, String categoryCode) {
+      this.keys = keys;
+      this.children = children;
+      this.categoryCode = categoryCode;
+    }
+
+    private Node child(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      return index >= 0 ? children[index] : null;
+    }
+  }
+
+  private static final class MutableNode {
+
+    private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+    private String categoryCode;
+
+    private Node freeze() {
+      if (children.isEmpty()) {
+        return new Node(NO_KEYS, NO_CHILDREN, categoryCode);
+      }
+
+      char[] keys = new char[children.size()];
+      Node[] frozen = new Node[children.size()];
+      int index = 0;
+      for (Map.Entry<Character, MutableNode> entry : children.entrySet()) {
+        keys[index] = entry.getKey();
+        frozen[index] = entry.getValue().freeze();
+        index++;
+      }
+      return new Node(keys, frozen, categoryCode);
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package com.event.core.domain.access.category.entity;
 
+/**
+ * 기본 카테고리 코드 (URI 분류 규칙은 UriCategoryClassifier 참고)
+ */
 public enum CategoryCode {
   UNKNOWN,
   API_PUBLIC,
@@ -7,27 +10,5 @@ public enum CategoryCode {
   API_EXTERNAL,
   API_INTERNAL,
   HEALTH_SYSTEM,
-  SERVICE_QUEUE;
-
-  public static String determineCategoryFromURI(String uri) {
-    if (uri.startsWith("/admin")) {
-      return API_ADMIN.name();
-    }
-    if (uri.startsWith("/external") || uri.startsWith("/external-api")) {
-      return API_EXTERNAL.name();
-    }
-    if(uri.startsWith("/internal") || uri.startsWith("/internal-api")) {
-      return API_INTERNAL.name();
-    }
-    if (uri.startsWith("/health")) {
-      return HEALTH_SYSTEM.name();
-    }
-    if (uri.startsWith("/queue")) {
-      return SERVICE_QUEUE.name();
-    }
-    if (uri.startsWith("/api")) {
-      return API_PUBLIC.name();
-    }
-    return UNKNOWN.name();
-  }
+  SERVICE_QUEUE
 }
\ No newline at end of file
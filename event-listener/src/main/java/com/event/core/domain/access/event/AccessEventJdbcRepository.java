@@ -0,0 +1,57 @@
+package com.event.core.domain.access.event;
+
+import com.event.core.domain.access.event.entity.AccessEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * AccessEvent 대량 저장용 JDBC Repository
+ * -> IDENTITY 전략은 Hibernate batch insert 가 동작하지 않으므로 JDBC batch 로 직접 저장
+ * -> reWriteBatchedInserts=true 설정 시 PostgreSQL 드라이버가 multi-row INSERT 로 변환
+ */
+@Repository
+public class AccessEventJdbcRepository {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO access_event (category_id, category_code, user_id, endpoint, http_method, response_status,
+                                response_time, ip_address, user_agent, inputs, outputs, sample_weight, created_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public AccessEventJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void batchInsert(List<AccessEvent> accessEvents) {
+    if (accessEvents.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_SQL, accessEvents, accessEvents.size(), (ps, accessEvent) -> {
+      ps.setLong(1, accessEvent.getAccessCategory().getId());
+      ps.setString(2, accessEvent.getCategoryCode());
+      ps.setString(3, accessEvent.getUserId());
+      ps.setString(4, accessEvent.getEndpoint());
+      ps.setString(5, accessEvent.getHttpMethod());
+      ps.setObject(6, accessEvent.getResponseStatus(), Types.INTEGER);
+      ps.setObject(7, accessEvent.getResponseTime(), Types.DOUBLE);
+      ps.setString(8, accessEvent.getIpAddress());
+      ps.setString(9, accessEvent.getUserAgent());
+      ps.setString(10, accessEvent.getInputs());
+      ps.setString(11, accessEvent.getOutputs());
+      ps.setDouble(12, nonNull(accessEvent.getSampleWeight()) ? accessEvent.getSampleWeight() : 1.0);
+      ps.setObject(13, nonNull(accessEvent.getCreatedAt()) ? accessEvent.getCreatedAt() : OffsetDateTime.now(),
+                   Types.TIMESTAMP_WITH_TIMEZONE);
+    });
+  }
+}
@@ -0,0 +1,177 @@
+package com.event.core.domain.access.event;
+
+import com.event.core.config.AccessEventPartitionProperties;
+import com.event.infra.util.DateTimeUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * access_event 일 단위(KST) RANGE 파티션 관리
+ * -> 앞으로 사용할 파티션을 미리 생성하여 이벤트가 기본 파티션(access_event_default)에 쌓이지 않도록 함
+ * -> 보관 기간이 지난 파티션은 행 단위 DELETE 대신 DETACH 후 DROP 으로 정리 (WAL/bloat 없이 즉시 공간 반환)
+ * -> 생성할 구간의 행이 이미 기본 파티션에 있으면 같은 트랜잭션에서 새 파티션으로 옮김
+ */
+@Slf4j
+@Component
+public class AccessEventPartitionManager {
+
+  private static final String PARENT_TABLE = "access_event";
+  private static final String DEFAULT_PARTITION = "access_event_default";
+  private static final String PARTITION_PREFIX = "access_event_p";
+  private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+  private static final Pattern PARTITION_NAME_PATTERN = Pattern.compile("^" + PARTITION_PREFIX + "(\\d{8})$");
+
+  private static final String SELECT_PARTITIONS_SQL = """
+      SELECT child.relname
+      FROM pg_inherits
+      JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+      JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+      WHERE parent.relname = ?
+      """;
+
+  private static final String DELETE_DEFAULT_PARTITION_CHUNK_SQL = """
+      DELETE FROM access_event_default
+      WHERE ctid IN (SELECT ctid FROM access_event_default WHERE created_at < ? LIMIT ?)
+      """;
+
+  private static final String EXISTS_DEFAULT_PARTITION_ROWS_SQL = """
+      SELECT EXISTS (SELECT 1 FROM access_event_default WHERE created_at >= ? AND created_at < ?)
+      """;
+
+  // NOTE: 기본 파티션이 분리된 상태에서 실행하므로 부모 테이블에 INSERT 하면 새로 만든 파티션으로 저장됨
+  private static final String MOVE_DEFAULT_PARTITION_ROWS_SQL = """
+      WITH moved AS (
+        DELETE FROM access_event_default WHERE created_at >= ? AND created_at < ? RETURNING *
+      )
+      INSERT INTO access_event SELECT * FROM moved
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final AccessEventPartitionProperties properties;
+  private final Counter createFailedCounter;
+
+  @Autowired
+  public AccessEventPartitionManager(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     AccessEventPartitionProperties properties,
+                                     MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.properties = properties;
+    this.createFailedCounter = Counter.builder("event.partition.create.failed")
+                                      .description("access_event 파티션 생성 실패 수 (증가 시 이벤트가 기본 파티션에 쌓이는 중)")
+                                      .register(meterRegistry);
+  }
+
+  /**
+   * 애플리케이션 기동 시 및 매일 오늘부터 precreateDays 일 후까지의 파티션 생성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "0 0 9 * * *") // 매일 오전 9시에 실행 (정리 스케줄러보다 먼저)
+  public void createUpcomingPartitions() {
+    LocalDate today = DateTimeUtils.nowKoreaLocalDate();
+    for (int day = 0; day <= properties.precreateDays(); day++) {
+      createPartition(today.plusDays(day));
+    }
+  }
+
+  /**
+   * threshold 이전 구간만 담고 있는 파티션을 DETACH 후 DROP
+   *
+   * @return 삭제한 파티션 수
+   */
+  public int dropPartitionsBefore(OffsetDateTime threshold) {
+    // NOTE: 파티션 종료 시각(다음 날 0시)이 threshold 이하인 파티션만 삭제 (threshold 가 걸친 파티션은 유지)
+    LocalDate cutoffDate = DateTimeUtils.toKoreaLocalDate(threshold);
+    int droppedCount = 0;
+
+    for (String partitionName : findPartitionNames()) {
+      Matcher matcher = PARTITION_NAME_PATTERN.matcher(partitionName);
+      if (!matcher.matches()) {
+        continue;
+      }
+
+      LocalDate partitionDate = LocalDate.parse(matcher.group(1), PARTITION_SUFFIX_FORMAT);
+      if (partitionDate.plusDays(1).isAfter(cutoffDate)) {
+        continue;
+      }
+
+      try {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName);
+        jdbcTemplate.execute("DROP TABLE " + partitionName);
+        droppedCount++;
+        log.info("Dropped access_event partition. partition={}", partitionName);
+      } catch (Exception e) {
+        log.error("Failed to drop access_event partition. partition={}, ErrorMessage={}", partitionName, e.getMessage(), e);
+      }
+    }
+    return droppedCount;
+  }
+
+  /**
+   * 파티션 생성 전에 유입되어 기본 파티션에 저장된 threshold 이전 행을 최대 limit 건 삭제 (정상 상태에서는 비어 있음)
+   *
+   * @return 삭제한 행 수 (limit 미만이면 남은 행 없음)
+   */
+  public int deleteDefaultPartitionRowsBefore(OffsetDateTime threshold, int limit) {
+    return jdbcTemplate.update(DELETE_DEFAULT_PARTITION_CHUNK_SQL, threshold, limit);
+  }
+
+  void createPartition(LocalDate date) {
+    String partitionName = partitionNameOf(date);
+    OffsetDateTime from = DateTimeUtils.getStartOfDayKoreaOffset(date);
+    OffsetDateTime to = DateTimeUtils.getStartOfDayKoreaOffset(date.plusDays(1));
+    String createSql = "CREATE TABLE IF NOT EXISTS " + partitionName
+        + " PARTITION OF " + PARENT_TABLE
+        + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')";
+
+    try {
+      if (!hasDefaultPartitionRows(from, to)) {
+        jdbcTemplate.execute(createSql);
+        return;
+      }
+
+      // NOTE: 기본 파티션에 해당 구간의 행이 있으면 생성이 거부되므로, 기본 파티션을 분리 -> 생성 -> 행 이동 -> 재연결
+      // -> 하나의 트랜잭션으로 실행하여 실패 시 원래 상태로 롤백 (분리 중 유입되는 INSERT 는 부모 테이블 잠금으로 대기)
+      transactionTemplate.executeWithoutResult(status -> {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + DEFAULT_PARTITION);
+        jdbcTemplate.execute(createSql);
+        int movedCount = jdbcTemplate.update(MOVE_DEFAULT_PARTITION_ROWS_SQL, from, to);
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+        log.warn("Moved rows from default partition. partition={}, movedCount={}", partitionName, movedCount);
+      });
+    } catch (Exception e) {
+      createFailedCounter.increment();
+      log.error("Failed to create access_event partition. partition={}, ErrorMessage={}", partitionName, e.getMessage(), e);
+    }
+  }
+
+  static String partitionNameOf(LocalDate date) {
+    return PARTITION_PREFIX + date.format(PARTITION_SUFFIX_FORMAT);
+  }
+
+  private boolean hasDefaultPartitionRows(OffsetDateTime from, OffsetDateTime to) {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_DEFAULT_PARTITION_ROWS_SQL, Boolean.class, from, to));
+  }
+
+  private List<String> findPartitionNames() {
+    return jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class, PARENT_TABLE);
+  }
+}
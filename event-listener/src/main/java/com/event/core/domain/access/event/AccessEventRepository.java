@@ -1,14 +1,19 @@
 package com.event.core.domain.access.event;
 
 import com.event.core.domain.access.event.entity.AccessEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface AccessEventRepository extends JpaRepository<AccessEvent, Long> {
@@ -16,9 +21,28 @@ public interface AccessEventRepository extends JpaRepository<AccessEvent, Long>
   List<AccessEvent> findByCreatedAtBetween(OffsetDateTime startDateTime,
                                            OffsetDateTime endDateTime);
 
-  @Modifying(clearAutomatically = true)
-  @Query("DELETE FROM AccessEvent al WHERE al.createdAt < :threshold")
-  int deleteByCreatedAtBefore(OffsetDateTime threshold);
+  /**
+   * 커서(cursorCreatedAt, cursorId) 이후의 이벤트를 (created_at, id) 순으로 스트리밍 조회
+   * -> fetch size 단위로 DB 커서에서 읽어오므로 트랜잭션 안에서 소비해야 함
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("""
+      SELECT a FROM AccessEvent a
+      WHERE a.categoryCode = :categoryCode
+        AND a.createdAt >= :startDateTime
+        AND a.createdAt < :endDateTime
+        AND (a.createdAt > :cursorCreatedAt OR (a.createdAt = :cursorCreatedAt AND a.id > :cursorId))
+      ORDER BY a.createdAt, a.id
+      """)
+  Stream<AccessEvent> streamByCategoryCodeAfter(String categoryCode,
+                                                OffsetDateTime startDateTime,
+                                                OffsetDateTime endDateTime,
+                                                OffsetDateTime cursorCreatedAt,
+                                                Long cursorId,
+                                                Limit limit);
 
   @Transactional
   @Modifying(clearAutomatically = false)
@@ -0,0 +1,126 @@
+package com.event.core.domain.access.event;
+
+import com.event.core.domain.access.event.entity.AccessEvent;
+import com.event.infra.util.DateTimeUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * access_event_hourly_rollup 집계 JDBC Repository
+ * -> 이벤트 저장과 같은 트랜잭션에서 (시간 버킷, 카테고리, 엔드포인트, 상태 코드 분류) 단위로 누적 (ON CONFLICT upsert)
+ * -> 배치 저장 시 같은 키의 이벤트를 메모리에서 먼저 합산하여 upsert 행 수를 줄임
+ * -> access_count 는 저장된 이벤트 수, estimated_count 는 sampleWeight 합계 (샘플링 전 추정 요청 수)
+ */
+@Repository
+public class AccessEventRollupJdbcRepository {
+
+  private static final String UPSERT_SQL = """
+      INSERT INTO access_event_hourly_rollup (bucket_start, category_id, endpoint, status_class, access_count,
+                                              estimated_count, response_time_sum)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      ON CONFLICT (bucket_start, category_id, endpoint, status_class)
+      DO UPDATE SET access_count      = access_event_hourly_rollup.access_count + EXCLUDED.access_count,
+                    estimated_count   = access_event_hourly_rollup.estimated_count + EXCLUDED.estimated_count,
+                    response_time_sum = access_event_hourly_rollup.response_time_sum + EXCLUDED.response_time_sum
+      """;
+
+  private static final String SELECT_COUNTS_SQL = """
+      SELECT category_id, status_class, SUM(access_count) AS access_count, SUM(estimated_count) AS estimated_count
+      FROM access_event_hourly_rollup
+      WHERE bucket_start >= ? AND bucket_start < ?
+      GROUP BY category_id, status_class
+      """;
+
+  // NOTE: 여러 컨슈머가 같은 행을 갱신하므로 항상 같은 순서로 잠그도록 키를 정렬 (교착 상태 방지)
+  private static final Comparator<RollupKey> KEY_ORDER =
+      Comparator.comparing(RollupKey::bucketStart)
+                .thenComparingLong(RollupKey::categoryId)
+                .thenComparing(RollupKey::endpoint)
+                .thenComparingInt(RollupKey::statusClass);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public AccessEventRollupJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void increment(List<AccessEvent> accessEvents) {
+    if (accessEvents.isEmpty()) {
+      return;
+    }
+
+    Map<RollupKey, RollupValue> rollups = new TreeMap<>(KEY_ORDER);
+    for (AccessEvent accessEvent : accessEvents) {
+      rollups.computeIfAbsent(RollupKey.from(accessEvent), key -> new RollupValue())
+             .add(accessEvent.getResponseTime(), accessEvent.getSampleWeight());
+    }
+
+    List<Map.Entry<RollupKey, RollupValue>> entries = new ArrayList<>(rollups.entrySet());
+    jdbcTemplate.batchUpdate(UPSERT_SQL, entries, entries.size(), (ps, entry) -> {
+      RollupKey key = entry.getKey();
+      RollupValue value = entry.getValue();
+      ps.setObject(1, key.bucketStart(), Types.TIMESTAMP_WITH_TIMEZONE);
+      ps.setLong(2, key.categoryId());
+      ps.setString(3, key.endpoint());
+      ps.setInt(4, key.statusClass());
+      ps.setLong(5, value.accessCount);
+      ps.setDouble(6, value.estimatedCount);
+      ps.setDouble(7, value.responseTimeSum);
+    });
+  }
+
+  /**
+   * [start, end) 구간의 카테고리/상태 코드 분류별 이벤트 수
+   * -> 조회 비용은 이벤트 수가 아닌 구간 내 집계 행 수에 비례
+   */
+  public List<AccessEventCount> findCounts(OffsetDateTime start, OffsetDateTime end) {
+    return jdbcTemplate.query(SELECT_COUNTS_SQL,
+                              (rs, rowNum) -> new AccessEventCount(rs.getLong("category_id"),
+                                                                   rs.getInt("status_class"),
+                                                                   rs.getLong("access_count"),
+                                                                   rs.getDouble("estimated_count")),
+                              start,
+                              end);
+  }
+
+  public record AccessEventCount(long categoryId, int statusClass, long accessCount, double estimatedCount) {
+
+  }
+
+  private record RollupKey(OffsetDateTime bucketStart, long categoryId, String endpoint, int statusClass) {
+
+    static RollupKey from(AccessEvent accessEvent) {
+      // NOTE: createdAt 이 없으면 저장 시점(now)으로 기록되므로 동일하게 현재 시각 버킷에 집계
+      OffsetDateTime createdAt = nonNull(accessEvent.getCreatedAt()) ? accessEvent.getCreatedAt() : OffsetDateTime.now();
+      return new RollupKey(DateTimeUtils.truncateToKoreaHour(createdAt),
+                           accessEvent.getAccessCategory().getId(),
+                           accessEvent.getEndpoint(),
+                           accessEvent.getResponseStatus() / 100);
+    }
+  }
+
+  private static class RollupValue {
+
+    private long accessCount;
+    private double estimatedCount;
+    private double responseTimeSum;
+
+    void add(Double responseTime, Double sampleWeight) {
+      accessCount++;
+      estimatedCount += nonNull(sampleWeight) ? sampleWeight : 1;
+      responseTimeSum += nonNull(responseTime) ? responseTime : 0;
+    }
+  }
+}
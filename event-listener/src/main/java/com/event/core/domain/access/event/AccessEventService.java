@@ -1,14 +1,22 @@
 package com.event.core.domain.access.event;
 
 import com.event.core.domain.access.category.entity.AccessCategory;
+import com.event.core.domain.access.event.AccessEventRollupJdbcRepository.AccessEventCount;
 import com.event.core.domain.access.event.entity.AccessEvent;
+import com.event.core.domain.access.event.inout.AccessEventCursor;
 import com.event.core.domain.access.event.inout.AccessEventDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
 
@@ -17,9 +25,20 @@ public class AccessEventService {
 
   private final AccessEventRepository accessEventRepository;
 
+  private final AccessEventJdbcRepository accessEventJdbcRepository;
+
+  private final AccessEventRollupJdbcRepository accessEventRollupJdbcRepository;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
   @Autowired
-  public AccessEventService(AccessEventRepository accessEventRepository) {
+  public AccessEventService(AccessEventRepository accessEventRepository,
+                            AccessEventJdbcRepository accessEventJdbcRepository,
+                            AccessEventRollupJdbcRepository accessEventRollupJdbcRepository) {
     this.accessEventRepository = accessEventRepository;
+    this.accessEventJdbcRepository = accessEventJdbcRepository;
+    this.accessEventRollupJdbcRepository = accessEventRollupJdbcRepository;
   }
 
   public List<AccessEventDto> findByCreatedAtBetween(OffsetDateTime startDateTime,
@@ -30,6 +49,31 @@ public class AccessEventService {
                                 .toList();
   }
 
+  /**
+   * 카테고리의 [start, end) 구간 이벤트를 커서 이후부터 (created_at, id) 순으로 하나씩 전달
+   * -> 전달 후 영속성 컨텍스트에서 분리하여 조회 건수와 무관하게 메모리 사용량을 일정하게 유지
+   */
+  @Transactional(readOnly = true)
+  public void forEachByCategoryCode(String categoryCode,
+                                    OffsetDateTime startDateTime,
+                                    OffsetDateTime endDateTime,
+                                    AccessEventCursor after,
+                                    Limit limit,
+                                    Consumer<AccessEvent> action) {
+    validateDateRange(startDateTime, endDateTime);
+    try (Stream<AccessEvent> accessEvents = accessEventRepository.streamByCategoryCodeAfter(categoryCode,
+                                                                                            startDateTime,
+                                                                                            endDateTime,
+                                                                                            after.createdAt(),
+                                                                                            after.id(),
+                                                                                            limit)) {
+      accessEvents.forEach(accessEvent -> {
+        action.accept(accessEvent);
+        entityManager.detach(accessEvent);
+      });
+    }
+  }
+
   public void create(AccessCategory accessCategory,
                      @NotBlank(message = "userId is null or empty") String userId,
                      @NotBlank(message = "endpoint is null or empty") String endpoint,
@@ -40,6 +84,7 @@ public class AccessEventService {
                      String userAgent,
                      String inputs,
                      String outputs,
+                     Double sampleWeight,
                      String createdAt) {
 
     AccessEvent newEvent = AccessEvent.newEvent(accessCategory,
@@ -52,8 +97,24 @@ public class AccessEventService {
                                               userAgent,
                                               inputs,
                                               outputs,
+                                              sampleWeight,
                                               createdAt);
     accessEventRepository.save(newEvent);
+    accessEventRollupJdbcRepository.increment(List.of(newEvent)); // 호출 측 트랜잭션에서 집계 테이블도 함께 반영
+  }
+
+  public void createAll(List<AccessEvent> accessEvents) {
+    accessEventJdbcRepository.batchInsert(accessEvents);
+    accessEventRollupJdbcRepository.increment(accessEvents);
+  }
+
+  /**
+   * [start, end) 구간의 카테고리/상태 코드 분류별 이벤트 수 (집계 테이블 조회)
+   */
+  public List<AccessEventCount> countByCreatedAtRange(OffsetDateTime startDateTime,
+                                                     OffsetDateTime endDateTime) {
+    validateDateRange(startDateTime, endDateTime);
+    return accessEventRollupJdbcRepository.findCounts(startDateTime, endDateTime);
   }
 
   private void validateDateRange(OffsetDateTime startDateTime, OffsetDateTime endDateTime) {
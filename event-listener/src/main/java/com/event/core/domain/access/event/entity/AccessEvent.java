@@ -56,6 +56,9 @@ public class AccessEvent {
   @Column(name = "outputs")
   private String outputs;
 
+  @Column(name = "sample_weight", nullable = false)
+  private Double sampleWeight; // 이 이벤트가 대표하는 요청 수 (샘플링 수집 시 1 이상)
+
   @Column(name = "created_at", nullable = false, updatable = false)
   private OffsetDateTime createdAt;
 
@@ -64,6 +67,9 @@ public class AccessEvent {
     if (isNull(createdAt)) {
       createdAt = OffsetDateTime.now();
     }
+    if (isNull(sampleWeight)) {
+      sampleWeight = 1.0;
+    }
   }
 
   public static AccessEvent newEvent(AccessCategory accessCategory,
@@ -76,6 +82,7 @@ public class AccessEvent {
                                      String userAgent,
                                      String inputs,
                                      String outputs,
+                                     Double sampleWeight,
                                      String createdAt
   ) {
     return AccessEvent.builder()
@@ -90,6 +97,7 @@ public class AccessEvent {
                       .userAgent(userAgent)
                       .inputs(inputs)
                       .outputs(outputs)
+                      .sampleWeight(isNull(sampleWeight) ? 1.0 : sampleWeight) // sampleWeight 가 없는 이전 이벤트는 1건으로 취급
                       .createdAt(DateTimeUtils.parseToOffsetDateTime(createdAt))
                       .build();
   }
@@ -0,0 +1,41 @@
+package com.event.core.domain.access.event.inout;
+
+import com.event.core.domain.access.event.entity.AccessEvent;
+import com.event.core.exception.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기준 keyset 페이지네이션 커서
+ * -> 마지막으로 전달한 이벤트의 위치를 "createdAt|id" 형태의 URL-safe Base64 문자열로 주고받음
+ */
+public record AccessEventCursor(OffsetDateTime createdAt, long id) {
+
+  private static final String DELIMITER = "|";
+
+  public static AccessEventCursor start(OffsetDateTime startDateTime) {
+    return new AccessEventCursor(startDateTime, 0L);
+  }
+
+  public static AccessEventCursor of(AccessEvent accessEvent) {
+    return new AccessEventCursor(accessEvent.getCreatedAt(), accessEvent.getId());
+  }
+
+  public static AccessEventCursor decode(String cursor) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+      return new AccessEventCursor(OffsetDateTime.parse(decoded.substring(0, delimiterIndex)),
+                                   Long.parseLong(decoded.substring(delimiterIndex + 1)));
+    } catch (RuntimeException e) {
+      throw new InvalidDataException("Invalid cursor: " + cursor, e);
+    }
+  }
+
+  public String encode() {
+    String raw = createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
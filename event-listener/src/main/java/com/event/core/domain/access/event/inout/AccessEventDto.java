@@ -17,6 +17,7 @@ public record AccessEventDto(
     String userAgent,
     String inputs,
     String outputs,
+    Double sampleWeight,
     String createdAt
 ) {
 
@@ -31,6 +32,7 @@ public record AccessEventDto(
                       .responseTime(this.responseTime)
                       .ipAddress(this.ipAddress)
                       .userAgent(this.userAgent)
+                      .sampleWeight(this.sampleWeight)
                       .createdAt(DateTimeUtils.parseToOffsetDateTime(this.createdAt()))
                       .build();
   }
@@ -46,6 +48,7 @@ public record AccessEventDto(
                          .responseTime(accessEvent.getResponseTime())
                          .ipAddress(accessEvent.getIpAddress())
                          .userAgent(accessEvent.getUserAgent())
+                         .sampleWeight(accessEvent.getSampleWeight())
                          .createdAt(DateTimeUtils.convertToKoreaTime(accessEvent.getCreatedAt()))
                          .build();
   }
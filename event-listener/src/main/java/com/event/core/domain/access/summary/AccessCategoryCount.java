@@ -0,0 +1,14 @@
+package com.event.core.domain.access.summary;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record AccessCategoryCount(
+    String categoryCode,
+    long accessCount,
+    long estimatedAccessCount, // 샘플링 가중치를 반영한 추정 요청 수
+    Map<String, Long> statusClassCounts) {
+
+}
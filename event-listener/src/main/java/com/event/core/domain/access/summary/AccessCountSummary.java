@@ -0,0 +1,15 @@
+package com.event.core.domain.access.summary;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record AccessCountSummary(
+    LocalDate accessDate,
+    long totalAccessCount,
+    long estimatedTotalAccessCount, // 샘플링 가중치를 반영한 추정 요청 수
+    List<AccessCategoryCount> accessCategoryCounts) {
+
+}
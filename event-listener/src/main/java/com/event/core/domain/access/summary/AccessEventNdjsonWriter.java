@@ -0,0 +1,68 @@
+package com.event.core.domain.access.summary;
+
+import com.event.core.domain.access.event.entity.AccessEvent;
+import com.event.core.domain.access.event.inout.AccessEventCursor;
+import com.event.core.domain.access.event.inout.AccessEventDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * AccessEvent 를 한 줄에 하나씩 NDJSON 으로 출력
+ * -> limit 까지만 출력하고, 다음 이벤트가 남아 있으면 마지막 줄에 다음 요청용 커서({"nextCursor": ...})를 출력
+ */
+class AccessEventNdjsonWriter implements Consumer<AccessEvent> {
+
+  private static final int FLUSH_INTERVAL = 500;
+  private static final char LINE_SEPARATOR = '\n';
+
+  private final JsonGenerator generator;
+  private final Integer limit; // null 이면 남은 이벤트를 모두 출력
+
+  private int writtenCount;
+  private AccessEvent lastWritten;
+  private boolean hasNext;
+
+  AccessEventNdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream, Integer limit) throws IOException {
+    this.generator = objectMapper.getFactory()
+                                 .createGenerator(outputStream)
+                                 .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    this.limit = limit;
+  }
+
+  @Override
+  public void accept(AccessEvent accessEvent) {
+    if (nonNull(limit) && writtenCount >= limit) {
+      hasNext = true; // limit + 1 번째 이벤트는 출력하지 않고 다음 페이지 존재 여부만 확인
+      return;
+    }
+
+    try {
+      generator.writeObject(AccessEventDto.from(accessEvent));
+      generator.writeRaw(LINE_SEPARATOR);
+      lastWritten = accessEvent;
+      if (++writtenCount % FLUSH_INTERVAL == 0) {
+        generator.flush(); // 일정 건수마다 클라이언트로 전송
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // 클라이언트 연결 종료 등 → 스트림 조회 중단
+    }
+  }
+
+  /**
+   * 마지막 줄에 다음 페이지 커서 출력 (다음 페이지가 없으면 null)
+   */
+  void finish() throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("nextCursor", hasNext && nonNull(lastWritten) ? AccessEventCursor.of(lastWritten).encode() : null);
+    generator.writeEndObject();
+    generator.writeRaw(LINE_SEPARATOR);
+    generator.close();
+  }
+}
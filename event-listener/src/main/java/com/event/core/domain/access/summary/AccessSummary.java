@@ -9,6 +9,7 @@ import java.util.List;
 public record AccessSummary(
     LocalDate accessDate,
     int totalAccessCount,
+    long estimatedTotalAccessCount, // 샘플링 가중치를 반영한 추정 요청 수
     List<AccessEventSummary> accessEventSummaries) {
 
 }
@@ -1,15 +1,22 @@
 package com.event.core.domain.access.summary;
 
+import com.event.core.exception.InvalidDataException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
+import static java.util.Objects.nonNull;
+
 @RestController
 @RequestMapping("/admin/api/v1/event/access")
 public class AccessSummaryController {
 
+  static final int MAX_EVENTS_LIMIT = 10_000; // 이벤트 스트리밍 한 번에 요청할 수 있는 최대 건수
+
   private final AccessSummaryService accessSummaryService;
 
   @Autowired
@@ -21,4 +28,35 @@ public class AccessSummaryController {
   public ResponseEntity<AccessSummary> getAccessSummary(@PathVariable("date") LocalDate date) {
     return ResponseEntity.ok(accessSummaryService.getAccessSummary(date));
   }
+
+  /**
+   * 이벤트 목록 없이 카테고리/상태 코드 분류별 이벤트 수만 조회 (집계 테이블 기반)
+   */
+  @GetMapping("/summary/{date:[0-9]{4}-[0-9]{2}-[0-9]{2}}/counts")
+  public ResponseEntity<AccessCountSummary> getAccessCountSummary(@PathVariable("date") LocalDate date) {
+    return ResponseEntity.ok(accessSummaryService.getAccessCountSummary(date));
+  }
+
+  /**
+   * 날짜/카테고리별 이벤트를 (created_at, id) 순으로 NDJSON 스트리밍
+   * -> 한 줄에 이벤트 하나, 마지막 줄은 {"nextCursor": ...} (다음 페이지가 없으면 null)
+   * -> limit 를 지정하지 않으면 커서 이후의 이벤트를 모두 전송 (지정 시 1 ~ MAX_EVENTS_LIMIT)
+   */
+  @GetMapping(value = "/summary/{date:[0-9]{4}-[0-9]{2}-[0-9]{2}}/categories/{categoryCode:[a-zA-Z][a-zA-Z0-9_]*}/events",
+              produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamAccessEvents(@PathVariable("date") LocalDate date,
+                                                                  @PathVariable("categoryCode") String categoryCode,
+                                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                                  @RequestParam(value = "limit", required = false) Integer limit) {
+    validateLimit(limit);
+    return ResponseEntity.ok()
+                         .contentType(MediaType.APPLICATION_NDJSON)
+                         .body(accessSummaryService.streamAccessEvents(date, categoryCode, cursor, limit));
+  }
+
+  private void validateLimit(Integer limit) {
+    if (nonNull(limit) && (limit <= 0 || limit > MAX_EVENTS_LIMIT)) {
+      throw new InvalidDataException("limit must be between 1 and " + MAX_EVENTS_LIMIT + ": " + limit);
+    }
+  }
 }
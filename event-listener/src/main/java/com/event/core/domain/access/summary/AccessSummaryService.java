@@ -2,19 +2,28 @@ package com.event.core.domain.access.summary;
 
 import com.event.core.domain.access.category.AccessCategoryService;
 import com.event.core.domain.access.category.inout.AccessCategoryDto;
+import com.event.core.domain.access.event.AccessEventRollupJdbcRepository.AccessEventCount;
 import com.event.core.domain.access.event.AccessEventService;
+import com.event.core.domain.access.event.inout.AccessEventCursor;
 import com.event.core.domain.access.event.inout.AccessEventDto;
 import com.event.infra.util.DateTimeUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 @Service
 public class AccessSummaryService {
 
@@ -22,11 +31,15 @@ public class AccessSummaryService {
 
   private final AccessCategoryService accessCategoryService;
 
+  private final ObjectMapper objectMapper;
+
   @Autowired
   public AccessSummaryService(AccessEventService accessEventService,
-                              AccessCategoryService accessCategoryService) {
+                              AccessCategoryService accessCategoryService,
+                              ObjectMapper objectMapper) {
     this.accessEventService = accessEventService;
     this.accessCategoryService = accessCategoryService;
+    this.objectMapper = objectMapper;
   }
 
   public AccessSummary getAccessSummary(LocalDate date) {
@@ -57,8 +70,81 @@ public class AccessSummaryService {
     return AccessSummary.builder()
                         .accessDate(date)
                         .totalAccessCount(eventDtos.size())
+                        .estimatedTotalAccessCount(Math.round(eventDtos.stream()
+                                                                       .mapToDouble(event -> nonNull(event.sampleWeight()) ? event.sampleWeight() : 1)
+                                                                       .sum()))
                         .accessEventSummaries(accessEventSummaries)
                         .build();
 
   }
+
+  /**
+   * 카테고리/상태 코드 분류별 이벤트 수만 집계 테이블에서 조회
+   * -> 이벤트 행을 읽지 않으므로 하루 이벤트 수와 무관하게 일정한 비용으로 응답
+   */
+  public AccessCountSummary getAccessCountSummary(LocalDate date) {
+
+    // 1. AccessCategory 조회
+    List<AccessCategoryDto> categoryDtos = accessCategoryService.getAllCategoriesNotDeleted();
+    OffsetDateTime startOfDay = DateTimeUtils.getStartOfDayKoreaOffset(date);
+    OffsetDateTime startOfNextDay = DateTimeUtils.getStartOfDayKoreaOffset(date.plusDays(1));
+
+    // 2. 카테고리/상태 코드 분류별 집계 조회
+    List<AccessEventCount> counts = accessEventService.countByCreatedAtRange(startOfDay, startOfNextDay);
+
+    // 3. categoryId를 key로 하는 Map으로 변환 (상태 코드 분류는 "2xx" 형태로 표시)
+    Map<Long, Double> estimatedCountsByCategory =
+        counts.stream()
+              .collect(Collectors.groupingBy(AccessEventCount::categoryId,
+                                             Collectors.summingDouble(AccessEventCount::estimatedCount)));
+    Map<Long, Map<String, Long>> statusCountsByCategory =
+        counts.stream()
+              .collect(Collectors.groupingBy(AccessEventCount::categoryId,
+                                             Collectors.toMap(count -> count.statusClass() + "xx",
+                                                              AccessEventCount::accessCount,
+                                                              Long::sum,
+                                                              TreeMap::new)));
+
+    // 4. 각 AccessCategory를 순회하며 AccessCategoryCount 객체 생성
+    List<AccessCategoryCount> accessCategoryCounts =
+        categoryDtos.stream()
+                    .map(category -> {
+                      Map<String, Long> statusClassCounts = statusCountsByCategory.getOrDefault(category.id(), Map.of());
+                      return AccessCategoryCount.builder()
+                                                .categoryCode(category.categoryCode())
+                                                .accessCount(statusClassCounts.values().stream().mapToLong(Long::longValue).sum())
+                                                .estimatedAccessCount(Math.round(estimatedCountsByCategory.getOrDefault(category.id(), 0.0)))
+                                                .statusClassCounts(statusClassCounts)
+                                                .build();
+                    })
+                    .toList();
+
+    // 5. AccessCountSummary 생성 및 반환
+    return AccessCountSummary.builder()
+                             .accessDate(date)
+                             .totalAccessCount(counts.stream().mapToLong(AccessEventCount::accessCount).sum())
+                             .estimatedTotalAccessCount(Math.round(counts.stream().mapToDouble(AccessEventCount::estimatedCount).sum()))
+                             .accessCategoryCounts(accessCategoryCounts)
+                             .build();
+  }
+
+  /**
+   * 날짜/카테고리별 이벤트를 커서 이후부터 NDJSON 으로 스트리밍
+   * -> 요청 검증(카테고리, 커서)은 응답 시작 전에 수행하여 오류를 일반 에러 응답으로 반환 (limit 범위는 컨트롤러에서 검증)
+   * -> 이벤트는 DB 커서에서 fetch size 단위로 읽어 바로 출력하므로 하루 이벤트 수와 무관하게 메모리 사용량이 일정
+   */
+  public StreamingResponseBody streamAccessEvents(LocalDate date, String categoryCode, String cursor, Integer limit) {
+    accessCategoryService.getByCategoryCodeNotDeleted(categoryCode); // 존재하지 않는 카테고리는 404
+
+    OffsetDateTime startOfDay = DateTimeUtils.getStartOfDayKoreaOffset(date);
+    OffsetDateTime startOfNextDay = DateTimeUtils.getStartOfDayKoreaOffset(date.plusDays(1));
+    AccessEventCursor after = isNull(cursor) ? AccessEventCursor.start(startOfDay) : AccessEventCursor.decode(cursor);
+    Limit fetchLimit = isNull(limit) ? Limit.unlimited() : Limit.of(limit + 1); // 다음 페이지 존재 여부 확인용 1건 추가 조회
+
+    return outputStream -> {
+      AccessEventNdjsonWriter writer = new AccessEventNdjsonWriter(objectMapper, outputStream, limit);
+      accessEventService.forEachByCategoryCode(categoryCode, startOfDay, startOfNextDay, after, fetchLimit, writer);
+      writer.finish();
+    };
+  }
 }
@@ -0,0 +1,174 @@
+package com.event.infra.event;
+
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 이벤트 스트림 엔트리 인코딩 (producer 와 listener 가 공유)
+ * -> MAP: 필드마다 field/value 쌍으로 저장 (기존 형식)
+ * -> COMPACT: 스키마 순서대로 값만 이어 붙인 하나의 필드("e")로 저장
+ *    형식: <스키마 버전> (US <값>)* , 값 안의 US/NUL/ESC 는 ESC 로 이스케이프, null 값은 NUL 한 글자
+ * NOTE: StringRedisTemplate 은 값을 UTF-8 문자열로 직렬화하므로 임의 바이트 대신 제어 문자를 구분자로 사용
+ * -> listener 는 엔트리마다 형식을 판별하므로 MAP/COMPACT 엔트리가 섞인 스트림도 처리 가능
+ */
+public class StreamEntryCodec {
+
+  public static final String COMPACT_FIELD = "e";
+
+  private static final char SCHEMA_V1 = '1';
+  private static final char SEPARATOR = '\u001F'; // US (Unit Separator)
+  private static final char NULL_VALUE = '\u0000';
+  private static final char ESCAPE = '\u001B';
+
+  // 스키마 v1 필드 순서 (RedisStreamEventProducer 발행 필드) - 순서 변경 시 새 버전 추가
+  private static final List<String> SCHEMA_V1_FIELDS = List.of("type",
+                                                               "categoryCode",
+                                                               "userId",
+                                                               "endpoint",
+                                                               "httpMethod",
+                                                               "methodName",
+                                                               "responseStatus",
+                                                               "responseTime",
+                                                               "ipAddress",
+                                                               "userAgent",
+                                                               "inputs",
+                                                               "outputs",
+                                                               "sampleWeight",
+                                                               "createdAt");
+
+  private StreamEntryCodec() {
+  }
+
+  public static boolean isCompact(Map<String, String> body) {
+    return body.size() == 1 && body.containsKey(COMPACT_FIELD);
+  }
+
+  /**
+   * COMPACT 형식으로 인코딩 (스키마에 없는 필드가 있으면 MAP 형식 그대로 반환)
+   */
+  public static Map<String, String> encode(Map<String, String> body) {
+    if (!SCHEMA_V1_FIELDS.containsAll(body.keySet())) {
+      return body;
+    }
+
+    StringBuilder builder = new StringBuilder(estimateLength(body)).append(SCHEMA_V1);
+    for (String field : SCHEMA_V1_FIELDS) {
+      builder.append(SEPARATOR);
+      appendValue(builder, body.get(field));
+    }
+    return Map.of(COMPACT_FIELD, builder.toString());
+  }
+
+  /**
+   * COMPACT 형식이면 MAP 형식 필드로 복원 (null 값 필드는 제외), MAP 형식이면 그대로 반환
+   *
+   * @throws IllegalArgumentException 지원하지 않는 스키마 버전이거나 형식이 올바르지 않은 경우
+   */
+  public static Map<String, String> decode(Map<String, String> body) {
+    if (!isCompact(body)) {
+      return body;
+    }
+
+    String value = body.get(COMPACT_FIELD);
+    if (value.isEmpty() || value.charAt(0) != SCHEMA_V1) {
+      throw new IllegalArgumentException("Unsupported compact entry schema: " + (value.isEmpty() ? "(empty)" : value.charAt(0)));
+    }
+
+    Map<String, String> fields = new HashMap<>(SCHEMA_V1_FIELDS.size() * 2);
+    int length = value.length();
+    int index = 1;
+    for (String field : SCHEMA_V1_FIELDS) {
+      if (index >= length || value.charAt(index) != SEPARATOR) {
+        throw new IllegalArgumentException("Malformed compact entry: missing field " + field);
+      }
+      index++;
+
+      if (index < length && value.charAt(index) == NULL_VALUE) {
+        index++;
+        continue;
+      }
+
+      int start = index;
+      StringBuilder unescaped = null; // 이스케이프 문자가 있을 때만 생성
+      while (index < length && value.charAt(index) != SEPARATOR) {
+        char c = value.charAt(index);
+        if (c == ESCAPE) {
+          if (isNull(unescaped)) {
+            unescaped = new StringBuilder(value.length() - start).append(value, start, index);
+          }
+          if (++index >= length) {
+            throw new IllegalArgumentException("Malformed compact entry: dangling escape in " + field);
+          }
+          c = value.charAt(index);
+        }
+        if (!isNull(unescaped)) {
+          unescaped.append(c);
+        }
+        index++;
+      }
+      fields.put(field, isNull(unescaped) ? value.substring(start, index) : unescaped.toString());
+    }
+
+    if (index != length) {
+      throw new IllegalArgumentException("Malformed compact entry: unexpected trailing fields");
+    }
+    return fields;
+  }
+
+  /**
+   * COMPACT 엔트리를 MAP 형식 레코드로 복원 (ID/스트림 유지)
+   * -> 복원할 수 없는 엔트리는 그대로 반환 (type 필드가 없어 처리되지 않고 PEL 에 남으며, 회수 시 원본 그대로 dead-letter 로 이동)
+   */
+  public static MapRecord<String, String, String> decodeRecord(MapRecord<String, String, String> record) {
+    if (!isCompact(record.getValue())) {
+      return record;
+    }
+
+    try {
+      return MapRecord.create(record.getStream(), decode(record.getValue())).withId(record.getId());
+    } catch (IllegalArgumentException ignored) {
+      return record;
+    }
+  }
+
+  private static void appendValue(StringBuilder builder, String value) {
+    if (isNull(value)) {
+      builder.append(NULL_VALUE);
+      return;
+    }
+    if (!needsEscape(value)) {
+      builder.append(value);
+      return;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == SEPARATOR || c == NULL_VALUE || c == ESCAPE) {
+        builder.append(ESCAPE);
+      }
+      builder.append(c);
+    }
+  }
+
+  private static boolean needsEscape(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == SEPARATOR || c == NULL_VALUE || c == ESCAPE) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int estimateLength(Map<String, String> body) {
+    int length = SCHEMA_V1_FIELDS.size() + 1;
+    for (String value : body.values()) {
+      length += isNull(value) ? 1 : value.length();
+    }
+    return length;
+  }
+}
@@ -1,16 +1,24 @@
 package com.event.infra.event.handler;
 
 import com.event.core.domain.access.category.AccessCategoryService;
+import com.event.core.domain.access.category.entity.AccessCategory;
 import com.event.core.domain.access.category.inout.AccessCategoryDto;
 import com.event.core.domain.access.event.AccessEventService;
+import com.event.core.domain.access.event.entity.AccessEvent;
 import com.event.core.domain.access.event.inout.AccessEventDto;
 import com.event.infra.util.JsonParser;
+import com.event.infra.util.PayloadCodec;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Component
 public class AccessEventHandler implements EventHandler {
@@ -44,10 +52,49 @@ public class AccessEventHandler implements EventHandler {
                               accessEventDto.responseTime(),
                               accessEventDto.ipAddress(),
                               accessEventDto.userAgent(),
-                              accessEventDto.inputs(),
-                              accessEventDto.outputs(),
+                              PayloadCodec.decode(accessEventDto.inputs()), // 압축 발행된 값은 원문으로 복원하여 저장
+                              PayloadCodec.decode(accessEventDto.outputs()),
+                              accessEventDto.sampleWeight(),
                               accessEventDto.createdAt());
 
     log.info("saved AccessEvent. record={}", record);
   }
+
+  /**
+   * 레코드 전체를 하나의 트랜잭션에서 JDBC batch insert 로 저장
+   */
+  @Override
+  @Transactional
+  public void handleEvents(List<MapRecord<String, String, String>> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+
+    Map<String, AccessCategory> categoriesByCode = new HashMap<>();
+    List<AccessEvent> accessEvents = new ArrayList<>(records.size());
+
+    for (MapRecord<String, String, String> record : records) {
+      AccessEventDto accessEventDto = jsonParser.parseCamel(record.getValue(), AccessEventDto.class);
+      AccessCategory accessCategory = categoriesByCode.computeIfAbsent(
+          accessEventDto.categoryCode(),
+          categoryCode -> accessCategoryService.getByCategoryCodeNotDeleted(categoryCode).to());
+
+      accessEvents.add(AccessEvent.newEvent(accessCategory,
+                                            accessEventDto.userId(),
+                                            accessEventDto.endpoint(),
+                                            accessEventDto.httpMethod(),
+                                            accessEventDto.responseStatus(),
+                                            accessEventDto.responseTime(),
+                                            accessEventDto.ipAddress(),
+                                            accessEventDto.userAgent(),
+                                            PayloadCodec.decode(accessEventDto.inputs()),
+                                            PayloadCodec.decode(accessEventDto.outputs()),
+                                            accessEventDto.sampleWeight(),
+                                            accessEventDto.createdAt()));
+    }
+
+    accessEventService.createAll(accessEvents);
+    log.info("saved {} AccessEvents. firstId={}, lastId={}",
+             accessEvents.size(), records.get(0).getId(), records.get(records.size() - 1).getId());
+  }
 }
\ No newline at end of file
@@ -2,7 +2,17 @@ package com.event.infra.event.handler;
 
 import org.springframework.data.redis.connection.stream.MapRecord;
 
+import java.util.List;
+
 public interface EventHandler {
 
   void handleEvent(MapRecord<String, String, String> record);
-}
\ No newline at end of file
+
+  /**
+   * 여러 레코드를 한 번에 처리 (기본 구현은 레코드 단위 처리)
+   * -> 하나라도 실패하면 예외를 던지며, 호출하는 쪽에서 레코드 단위로 재처리
+   */
+  default void handleEvents(List<MapRecord<String, String, String>> records) {
+    records.forEach(this::handleEvent);
+  }
+}
@@ -0,0 +1,164 @@
+package com.event.infra.event.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * 처리 완료된 레코드 ID 를 stream/group 단위로 모아 하나의 multi-id XACK 로 승인
+ * -> ackBatchSize 에 도달하거나 ackFlushInterval 이 지나면 flush, 컨테이너 중지 시에도 flush
+ */
+@Slf4j
+public class RedisStreamAckAccumulator {
+
+  private final String streamKey;
+  private final String groupName;
+  private final int ackBatchSize;
+  private final Duration ackFlushInterval;
+  private final StringRedisTemplate redisTemplate;
+  private final TaskScheduler taskScheduler;
+
+  private final Object lock = new Object();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final DistributionSummary flushSizeSummary;
+  private final Timer ackTimer;
+  private final Counter ackFailedCounter;
+
+  private List<RecordId> pendingIds;
+  private ScheduledFuture<?> flushTask;
+
+  public RedisStreamAckAccumulator(String streamKey,
+                                   String groupName,
+                                   int ackBatchSize,
+                                   Duration ackFlushInterval,
+                                   StringRedisTemplate redisTemplate,
+                                   TaskScheduler taskScheduler,
+                                   MeterRegistry meterRegistry) {
+    this.streamKey = streamKey;
+    this.groupName = groupName;
+    this.ackBatchSize = ackBatchSize;
+    this.ackFlushInterval = ackFlushInterval;
+    this.redisTemplate = redisTemplate;
+    this.taskScheduler = taskScheduler;
+    this.pendingIds = new ArrayList<>(ackBatchSize);
+
+    Tags tags = Tags.of("stream", streamKey, "group", groupName);
+    this.flushSizeSummary = DistributionSummary.builder("event.consumer.ack.flush.size")
+                                               .description("XACK 한 번에 승인된 레코드 수")
+                                               .tags(tags)
+                                               .register(meterRegistry);
+    this.ackTimer = Timer.builder("event.consumer.ack")
+                         .description("XACK 호출 소요 시간")
+                         .tags(tags)
+                         .publishPercentileHistogram()
+                         .register(meterRegistry);
+    this.ackFailedCounter = Counter.builder("event.consumer.ack.failed")
+                                   .description("XACK 실패로 PEL 에 남은 레코드 수")
+                                   .tags(tags)
+                                   .register(meterRegistry);
+    Gauge.builder("event.consumer.ack.pending", pendingCount, AtomicInteger::get)
+         .description("승인 대기 중인 레코드 수")
+         .tags(tags)
+         .register(meterRegistry);
+  }
+
+  /**
+   * 주기적 flush 작업 시작
+   */
+  public synchronized void start() {
+    if (nonNull(flushTask)) {
+      return;
+    }
+    flushTask = taskScheduler.scheduleAtFixedRate(this::flush, ackFlushInterval);
+  }
+
+  /**
+   * 주기적 flush 작업 중지 후 남은 ID 를 모두 승인
+   */
+  public synchronized void stop() {
+    if (nonNull(flushTask)) {
+      flushTask.cancel(false);
+      flushTask = null;
+    }
+    flush();
+  }
+
+  public void add(RecordId recordId) {
+    add(List.of(recordId));
+  }
+
+  public void add(List<RecordId> recordIds) {
+    if (recordIds.isEmpty()) {
+      return;
+    }
+
+    List<RecordId> readyIds = null;
+    synchronized (lock) {
+      pendingIds.addAll(recordIds);
+      pendingCount.set(pendingIds.size());
+      if (pendingIds.size() >= ackBatchSize) {
+        readyIds = drain();
+      }
+    }
+
+    if (nonNull(readyIds)) {
+      acknowledge(readyIds);
+    }
+  }
+
+  /**
+   * 대기 중인 ID 를 모두 승인 (poll 주기 종료, 타이머, 컨테이너 중지 시 호출)
+   */
+  public void flush() {
+    List<RecordId> readyIds;
+    synchronized (lock) {
+      if (pendingIds.isEmpty()) {
+        return;
+      }
+      readyIds = drain();
+    }
+    acknowledge(readyIds);
+  }
+
+  public int getPendingCount() {
+    return pendingCount.get();
+  }
+
+  private List<RecordId> drain() {
+    List<RecordId> readyIds = pendingIds;
+    pendingIds = new ArrayList<>(ackBatchSize);
+    pendingCount.set(0);
+    return readyIds;
+  }
+
+  private void acknowledge(List<RecordId> recordIds) {
+    Timer.Sample sample = Timer.start();
+    try {
+      Long result = redisTemplate.opsForStream().acknowledge(streamKey, groupName, recordIds.toArray(RecordId[]::new));
+      sample.stop(ackTimer);
+      flushSizeSummary.record(recordIds.size());
+      log.debug("Acknowledgement success. streamKey: {}, count: {}, Result: {}", streamKey, recordIds.size(), result);
+    } catch (Exception e) {
+      sample.stop(ackTimer);
+      ackFailedCounter.increment(recordIds.size());
+      // NOTE: 승인에 실패한 레코드는 PEL 에 남아 재처리 대상이 됨
+      log.error("Acknowledgement failed. streamKey: {}, count: {}, ErrorMessage={}",
+                streamKey, recordIds.size(), e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.event.infra.event.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * BATCH 모드 컨슈머: 전용 스레드에서 XREADGROUP COUNT/BLOCK 으로 레코드 묶음을 읽어 RedisStreamBatchEventListener 에 전달
+ */
+@Slf4j
+public class RedisStreamBatchConsumer {
+
+  private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+  private final String streamKey;
+  private final Consumer consumer;
+  private final StreamReadOptions readOptions;
+  private final Duration batchMaxWait;
+  private final StringRedisTemplate redisTemplate;
+  private final RedisStreamBatchEventListener listener;
+  private final Predicate<Throwable> cancelOnError; // true 반환 시 폴링 중지
+  private final boolean virtualThread;              // true 이면 가상 스레드에서 poll
+
+  private volatile boolean running;
+  private Thread pollThread;
+
+  public RedisStreamBatchConsumer(String streamKey,
+                                  Consumer consumer,
+                                  int batchSize,
+                                  Duration batchMaxWait,
+                                  StringRedisTemplate redisTemplate,
+                                  RedisStreamBatchEventListener listener,
+                                  Predicate<Throwable> cancelOnError,
+                                  boolean virtualThread) {
+    this.streamKey = streamKey;
+    this.consumer = consumer;
+    this.readOptions = StreamReadOptions.empty().count(batchSize).block(batchMaxWait);
+    this.batchMaxWait = batchMaxWait;
+    this.redisTemplate = redisTemplate;
+    this.listener = listener;
+    this.cancelOnError = cancelOnError;
+    this.virtualThread = virtualThread;
+  }
+
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    Thread.Builder threadBuilder = virtualThread ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+    pollThread = threadBuilder.name(consumer.getName()).start(this::pollLoop);
+  }
+
+  public synchronized void stop() {
+    running = false;
+    if (nonNull(pollThread)) {
+      try {
+        pollThread.join(batchMaxWait.plus(ERROR_BACKOFF).toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      pollThread = null;
+    }
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  public String getStreamKey() {
+    return streamKey;
+  }
+
+  public Consumer getConsumer() {
+    return consumer;
+  }
+
+  private void pollLoop() {
+    StreamOperations<String, String, String> streamOperations = redisTemplate.opsForStream();
+    StreamOffset<String> streamOffset = StreamOffset.create(streamKey, ReadOffset.lastConsumed());
+
+    while (running) {
+      try {
+        List<MapRecord<String, String, String>> records = streamOperations.read(consumer, readOptions, streamOffset);
+        if (isNull(records) || records.isEmpty()) {
+          continue;
+        }
+        listener.onMessages(streamKey, records);
+
+      } catch (Exception exception) {
+        if (cancelOnError.test(exception)) {
+          running = false;
+          log.warn("Batch consumer stopped by critical error. stream={}, consumer={}", streamKey, consumer.getName());
+          return;
+        }
+        sleepQuietly(ERROR_BACKOFF);
+      }
+    }
+  }
+
+  private void sleepQuietly(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
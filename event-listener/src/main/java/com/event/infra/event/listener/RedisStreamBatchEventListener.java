@@ -0,0 +1,152 @@
+package com.event.infra.event.listener;
+
+import com.event.infra.event.EventType;
+import com.event.infra.event.StreamEntryCodec;
+import com.event.infra.event.handler.EventHandler;
+import com.event.infra.event.handler.EventHandlerResolver;
+import com.event.infra.util.JsonParsingException;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.isNull;
+
+/**
+ * XREADGROUP 한 번으로 읽은 레코드 묶음을 EventType 별로 한 번에 처리하고, poll 주기마다 성공한 레코드를 하나의 XACK 로 승인
+ * -> laneExecutor 가 있으면 묶음을 순서 키 기준 lane 별로 나누어 병렬 처리하고, 모든 lane 이 끝난 뒤 승인
+ */
+@Slf4j
+public class RedisStreamBatchEventListener {
+
+  private final String consumerName;
+  private final EventHandlerResolver eventHandlerResolver;
+  private final RedisStreamAckAccumulator ackAccumulator;
+  private final RedisStreamConsumerMetrics metrics;
+  private final RedisStreamLaneExecutor laneExecutor; // handlerConcurrency 가 1 이면 null (poll 스레드에서 처리)
+
+  public RedisStreamBatchEventListener(String consumerName,
+                                       EventHandlerResolver eventHandlerResolver,
+                                       RedisStreamAckAccumulator ackAccumulator,
+                                       RedisStreamConsumerMetrics metrics,
+                                       RedisStreamLaneExecutor laneExecutor) {
+    this.consumerName = consumerName;
+    this.eventHandlerResolver = eventHandlerResolver;
+    this.ackAccumulator = ackAccumulator;
+    this.metrics = metrics;
+    this.laneExecutor = laneExecutor;
+  }
+
+  public void onMessages(String streamKey, List<MapRecord<String, String, String>> messages) {
+    List<MapRecord<String, String, String>> records = messages.stream()
+                                                              .map(StreamEntryCodec::decodeRecord) // COMPACT 엔트리는 필드 형식으로 복원
+                                                              .toList();
+    log.info("Received messages. streamKey: {}, consumerName: {}, count: {}", streamKey, consumerName, records.size());
+
+    if (isNull(laneExecutor)) {
+      processRecords(records);
+    } else {
+      processRecordsInLanes(records);
+    }
+    ackAccumulator.flush(); // poll 주기 종료 시 한 번의 XACK 로 승인
+  }
+
+  /**
+   * lane 별로 나눈 묶음을 병렬 처리하고 모두 끝날 때까지 대기
+   * -> 다음 poll 은 이전 묶음이 끝난 뒤 수행되므로 같은 키의 레코드는 poll 사이에도 순서가 유지됨
+   */
+  private void processRecordsInLanes(List<MapRecord<String, String, String>> records) {
+    Map<Integer, List<MapRecord<String, String, String>>> recordsByLane = new TreeMap<>();
+    for (MapRecord<String, String, String> record : records) {
+      recordsByLane.computeIfAbsent(laneExecutor.laneOf(record), key -> new ArrayList<>()).add(record);
+    }
+
+    CompletableFuture<?>[] futures = recordsByLane.entrySet()
+                                                  .stream()
+                                                  .map(entry -> laneExecutor.submit(entry.getKey(), () -> processRecords(entry.getValue())))
+                                                  .toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (Exception exception) {
+      // 처리 실패한 레코드는 ACK 되지 않고 PEL 에 남음
+      log.error("Lane processing failed. consumerName={}, ErrorMessage={}", consumerName, exception.getMessage(), exception);
+    }
+  }
+
+  private void processRecords(List<MapRecord<String, String, String>> records) {
+    Map<EventType, List<MapRecord<String, String, String>>> recordsByType = new EnumMap<>(EventType.class);
+    for (MapRecord<String, String, String> record : records) {
+      String type = record.getValue().get("type");
+      EventType.safeParse(type).ifPresentOrElse(
+          eventType -> recordsByType.computeIfAbsent(eventType, key -> new ArrayList<>()).add(record),
+          () -> log.warn("Unsupported eventType. Type={}", type)
+      );
+    }
+
+    recordsByType.forEach(this::processEventType);
+  }
+
+  private void processEventType(EventType eventType, List<MapRecord<String, String, String>> records) {
+    EventHandler handler = eventHandlerResolver.getEventHandler(eventType);
+
+    if (isNull(handler)) {
+      log.warn("No EventHandler found for eventType: {}", eventType);
+      return;
+    }
+
+    Timer.Sample sample = metrics.startHandle();
+    try {
+      handler.handleEvents(records);
+      metrics.stopBatchHandle(sample, records.size());
+      metrics.recordSuccess(records.size());
+      acknowledgeEvents(records);
+
+    } catch (Exception exception) {
+      metrics.stopBatchHandle(sample, 0); // 레코드 단위 처리 시간은 아래 재처리에서 기록
+      // NOTE: 배치 트랜잭션이 롤백되었으므로 레코드 단위로 재처리하여 실패한 레코드만 PEL 에 남김
+      log.warn("Batch handling failed. Retrying one by one. eventType={}, count={}, ClassName={}, ErrorMessage={}",
+               eventType, records.size(), exception.getClass().getName(), exception.getMessage());
+      processOneByOne(handler, records);
+    }
+  }
+
+  private void processOneByOne(EventHandler handler, List<MapRecord<String, String, String>> records) {
+    List<MapRecord<String, String, String>> handledRecords = new ArrayList<>(records.size());
+
+    for (MapRecord<String, String, String> record : records) {
+      Timer.Sample sample = metrics.startHandle();
+      try {
+        handler.handleEvent(record);
+        handledRecords.add(record);
+
+      } catch (JsonParsingException jsonParsingException) {
+        metrics.recordParseFailure();
+        log.error("Event parsing failed. Record={}, ErrorMessage={}",
+                  record, jsonParsingException.getMessage(), jsonParsingException);
+
+      } catch (Exception exception) {
+        metrics.recordHandlerFailure();
+        log.error("Event handling failed. ClassName={}, ErrorMessage={}",
+                  exception.getClass().getName(), exception.getMessage(), exception);
+
+      } finally {
+        metrics.stopHandle(sample);
+      }
+    }
+
+    metrics.recordSuccess(handledRecords.size());
+    acknowledgeEvents(handledRecords);
+  }
+
+  private void acknowledgeEvents(List<MapRecord<String, String, String>> records) {
+    ackAccumulator.add(records.stream()
+                              .map(MapRecord::getId)
+                              .toList());
+  }
+}
@@ -0,0 +1,140 @@
+package com.event.infra.event.listener;
+
+import com.event.infra.event.redis.StreamShardResolver;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.Autoscale;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.RedisStreamConsumerSet;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 스트림(샤드) + 그룹 단위 적체량과 처리 시간으로 컨슈머 수를 minConsumers ~ maxConsumers 사이에서 조정
+ * -> 적체량(lag + pending)은 RedisStreamGroupMetrics 가 조회한 Gauge 값을 사용하여 Redis 를 추가로 조회하지 않음
+ * -> 레코드 1건 평균 처리 시간(event.consumer.handle)이 maxHandleLatency 를 넘으면 DB 가 병목이므로 컨슈머를 늘리지 않음
+ *    (BATCH 모드의 묶음 단위 처리 시간 event.consumer.handle.batch 는 묶음 크기에 따라 달라지므로 사용하지 않음)
+ * -> 한 번에 1개씩 조정하며, 조정 후 cooldown 동안은 다시 조정하지 않음
+ */
+@Slf4j
+@Component
+public class RedisStreamConsumerAutoscaler {
+
+  private final RedisStreamConsumerProperties properties;
+  private final StreamShardResolver shardResolver;
+  private final RedisStreamListenerContainerManager containerManager;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, ScalingState> states = new ConcurrentHashMap<>();
+
+  @Autowired
+  public RedisStreamConsumerAutoscaler(RedisStreamConsumerProperties properties,
+                                       StreamShardResolver shardResolver,
+                                       RedisStreamListenerContainerManager containerManager,
+                                       MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.shardResolver = shardResolver;
+    this.containerManager = containerManager;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Scheduled(fixedDelayString = "${event.stream-autoscale.interval:30s}")
+  public void autoscale() {
+    for (RedisStreamConsumerSet consumerSet : properties.consumers()) {
+      if (!consumerSet.getAutoscale().isEnabled()) {
+        continue;
+      }
+      for (String streamKey : shardResolver.consumerKeys(consumerSet.getStreamKey())) {
+        try {
+          autoscale(streamKey, consumerSet);
+        } catch (Exception e) {
+          log.warn("Failed to autoscale consumers. streamKey={}, groupName={}, ErrorMessage={}",
+                   streamKey, consumerSet.getGroupName(), e.getMessage());
+        }
+      }
+    }
+  }
+
+  private void autoscale(String streamKey, RedisStreamConsumerSet consumerSet) {
+    String groupName = consumerSet.getGroupName();
+    Autoscale autoscale = consumerSet.getAutoscale();
+    ScalingState state = states.computeIfAbsent(streamKey + "|" + groupName, key -> new ScalingState());
+    containerManager.retryHandOffs(streamKey, groupName); // 이전 축소에서 이관하지 못한 pending 엔트리 재이관
+
+    double backlog = gaugeValue("event.stream.group.lag", streamKey, groupName)
+        + gaugeValue("event.stream.group.pending", streamKey, groupName);
+    Duration recordLatency = state.meanRecordLatency(meterRegistry, streamKey, groupName);
+    if (Double.isNaN(backlog) || System.nanoTime() - state.lastScaledAt < autoscale.getCooldown().toNanos()) {
+      return;
+    }
+
+    int consumerCount = containerManager.getConsumerCount(streamKey, groupName);
+    if (backlog > autoscale.getScaleOutBacklog() && consumerCount < autoscale.getMaxConsumers()) {
+      if (recordLatency.compareTo(autoscale.getMaxHandleLatency()) > 0) {
+        log.info("Skip scale out. handler latency is too high. streamKey={}, groupName={}, backlog={}, latency={}",
+                 streamKey, groupName, (long) backlog, recordLatency);
+        return;
+      }
+      int scaled = containerManager.scaleOut(streamKey, groupName);
+      state.lastScaledAt = System.nanoTime();
+      log.info("Scaled out consumers. streamKey={}, groupName={}, backlog={}, latency={}, consumers={} -> {}",
+               streamKey, groupName, (long) backlog, recordLatency, consumerCount, scaled);
+
+    } else if (backlog <= autoscale.getScaleInBacklog() && consumerCount > autoscale.getMinConsumers()) {
+      int scaled = containerManager.scaleIn(streamKey, groupName);
+      state.lastScaledAt = System.nanoTime();
+      log.info("Scaled in consumers. streamKey={}, groupName={}, backlog={}, consumers={} -> {}",
+               streamKey, groupName, (long) backlog, consumerCount, scaled);
+    }
+  }
+
+  /**
+   * 그룹 지표 값 (lag 를 제공하지 않는 Redis 7.0 미만에서는 0 으로 간주하여 pending 만 사용)
+   */
+  private double gaugeValue(String name, String streamKey, String groupName) {
+    Gauge gauge = meterRegistry.find(name).tag("stream", streamKey).tag("group", groupName).gauge();
+    if (isNull(gauge)) {
+      return Double.NaN;
+    }
+    double value = gauge.value();
+    return Double.isNaN(value) && name.endsWith(".lag") ? 0 : value;
+  }
+
+  private static class ScalingState {
+
+    private static final String HANDLE_TIMER_NAME = "event.consumer.handle"; // 레코드 1건 단위 Timer
+
+    private long lastScaledAt = System.nanoTime();
+    private long previousCount;
+    private double previousTotalNanos;
+
+    /**
+     * 직전 조회 이후 처리된 레코드의 1건 평균 처리 시간 (처리된 레코드가 없으면 0)
+     * -> event.consumer.handle 은 SINGLE/BATCH 모드 모두 레코드 단위로 기록되므로 count 가 처리된 레코드 수
+     * -> 컨슈머 제거(scale-in)로 지표가 제거되어 누적값이 줄어든 경우에도 0
+     */
+    private Duration meanRecordLatency(MeterRegistry meterRegistry, String streamKey, String groupName) {
+      long count = 0;
+      double totalNanos = 0;
+      for (Timer timer : meterRegistry.find(HANDLE_TIMER_NAME).tag("stream", streamKey).tag("group", groupName).timers()) {
+        count += timer.count();
+        totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+      }
+
+      long deltaCount = count - previousCount;
+      double deltaNanos = totalNanos - previousTotalNanos;
+      previousCount = count;
+      previousTotalNanos = totalNanos;
+      return deltaCount <= 0 ? Duration.ZERO : Duration.ofNanos((long) (deltaNanos / deltaCount));
+    }
+  }
+}
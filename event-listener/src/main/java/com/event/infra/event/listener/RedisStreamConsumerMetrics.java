@@ -0,0 +1,102 @@
+package com.event.infra.event.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨슈머 단위 처리 지표 (stream/group/consumer 태그)
+ * -> 핸들러 처리 시간 히스토그램과 처리 결과(success, parse_failure, handler_failure) 카운터
+ * -> event.consumer.handle 은 모드와 관계없이 레코드 1건 단위 (BATCH 모드는 묶음 처리 시간을 레코드 수로 나누어 기록)
+ * -> BATCH 모드의 묶음 단위 처리 시간은 event.consumer.handle.batch 로 별도 기록
+ * -> 컨슈머가 제거되면(scale-in) remove 로 레지스트리에서 지표를 제거
+ */
+public class RedisStreamConsumerMetrics {
+
+  private final MeterRegistry meterRegistry;
+  private final Timer handleTimer;
+  private final Timer batchHandleTimer;
+  private final Counter successCounter;
+  private final Counter parseFailureCounter;
+  private final Counter handlerFailureCounter;
+
+  public RedisStreamConsumerMetrics(String streamKey,
+                                    String groupName,
+                                    String consumerName,
+                                    MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    Tags tags = Tags.of("stream", streamKey, "group", groupName, "consumer", consumerName);
+
+    this.handleTimer = Timer.builder("event.consumer.handle")
+                            .description("레코드 1건 처리 시간 (BATCH 모드는 묶음 처리 시간 / 레코드 수)")
+                            .tags(tags)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry);
+    this.batchHandleTimer = Timer.builder("event.consumer.handle.batch")
+                                 .description("BATCH 모드 EventHandler.handleEvents 호출 1회 처리 시간")
+                                 .tags(tags)
+                                 .publishPercentileHistogram()
+                                 .register(meterRegistry);
+    this.successCounter = recordsCounter(tags, "success", meterRegistry);
+    this.parseFailureCounter = recordsCounter(tags, "parse_failure", meterRegistry);
+    this.handlerFailureCounter = recordsCounter(tags, "handler_failure", meterRegistry);
+  }
+
+  private static Counter recordsCounter(Tags tags, String result, MeterRegistry meterRegistry) {
+    return Counter.builder("event.consumer.records")
+                  .description("컨슈머가 처리한 레코드 수")
+                  .tags(tags)
+                  .tag("result", result)
+                  .register(meterRegistry);
+  }
+
+  public Timer.Sample startHandle() {
+    return Timer.start();
+  }
+
+  public void stopHandle(Timer.Sample sample) {
+    sample.stop(handleTimer);
+  }
+
+  /**
+   * 묶음 처리 시간을 기록하고, 레코드 1건 처리 시간(묶음 처리 시간 / recordCount)을 recordCount 건 기록
+   *
+   * @param recordCount 레코드 단위 지표에 반영할 레코드 수 (실패 후 레코드 단위로 재처리하는 묶음은 중복되지 않도록 0)
+   */
+  public void stopBatchHandle(Timer.Sample sample, int recordCount) {
+    long batchNanos = sample.stop(batchHandleTimer);
+    if (recordCount <= 0) {
+      return;
+    }
+    long recordNanos = batchNanos / recordCount;
+    for (int i = 0; i < recordCount; i++) {
+      handleTimer.record(recordNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  public void recordSuccess(int count) {
+    successCounter.increment(count);
+  }
+
+  public void recordParseFailure() {
+    parseFailureCounter.increment();
+  }
+
+  public void recordHandlerFailure() {
+    handlerFailureCounter.increment();
+  }
+
+  /**
+   * 제거된 컨슈머의 지표를 레지스트리에서 제거
+   */
+  public void remove() {
+    meterRegistry.remove(handleTimer);
+    meterRegistry.remove(batchHandleTimer);
+    meterRegistry.remove(successCounter);
+    meterRegistry.remove(parseFailureCounter);
+    meterRegistry.remove(handlerFailureCounter);
+  }
+}
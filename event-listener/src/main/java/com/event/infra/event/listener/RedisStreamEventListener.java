@@ -1,41 +1,53 @@
 package com.event.infra.event.listener;
 
 import com.event.infra.event.EventType;
+import com.event.infra.event.StreamEntryCodec;
 import com.event.infra.event.handler.EventHandler;
 import com.event.infra.event.handler.EventHandlerResolver;
 import com.event.infra.util.JsonParsingException;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.stream.MapRecord;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
 
-import java.util.Objects;
-
 import static java.util.Objects.nonNull;
 
 @Slf4j
 public class RedisStreamEventListener implements
     StreamListener<String, MapRecord<String, String, String>> {
 
-  private final String groupName;
   private final String consumerName;
   private final EventHandlerResolver eventHandlerResolver;
-  private final StringRedisTemplate redisTemplate;
+  private final RedisStreamAckAccumulator ackAccumulator;
+  private final RedisStreamConsumerMetrics metrics;
+  private final RedisStreamLaneExecutor laneExecutor; // handlerConcurrency 가 1 이면 null (poll 스레드에서 처리)
 
-  public RedisStreamEventListener(String groupName,
-                                  String consumerName,
+  public RedisStreamEventListener(String consumerName,
                                   EventHandlerResolver eventHandlerResolver,
-                                  StringRedisTemplate redisTemplate) {
-    this.groupName = groupName;
+                                  RedisStreamAckAccumulator ackAccumulator,
+                                  RedisStreamConsumerMetrics metrics,
+                                  RedisStreamLaneExecutor laneExecutor) {
     this.consumerName = consumerName;
     this.eventHandlerResolver = eventHandlerResolver;
-    this.redisTemplate = redisTemplate;
+    this.ackAccumulator = ackAccumulator;
+    this.metrics = metrics;
+    this.laneExecutor = laneExecutor;
   }
 
   @Override
-  public void onMessage(MapRecord<String, String, String> record) {
+  public void onMessage(MapRecord<String, String, String> message) {
+    MapRecord<String, String, String> record = StreamEntryCodec.decodeRecord(message); // COMPACT 엔트리는 필드 형식으로 복원
     log.info("Received message. streamKey: {}, consumerName: {}, record: {}", record.getStream(), consumerName, record);
 
+    if (nonNull(laneExecutor)) {
+      // NOTE: lane 에 넘기고 바로 반환하여 다음 레코드를 수신 (ACK 는 처리 완료 후 lane 스레드에서 추가)
+      laneExecutor.submit(laneExecutor.laneOf(record), () -> process(record));
+      return;
+    }
+    process(record);
+  }
+
+  private void process(MapRecord<String, String, String> record) {
     String type = record.getValue().get("type");
     EventType.safeParse(type).ifPresentOrElse(eventType -> processEventType(record, eventType),
                                               () -> log.warn("Unsupported eventType. Type={}", type)
@@ -46,33 +58,28 @@ public class RedisStreamEventListener implements
     EventHandler handler = eventHandlerResolver.getEventHandler(eventType);
 
     if (nonNull(handler)) {
+      Timer.Sample sample = metrics.startHandle();
       try {
         handler.handleEvent(record);
-        acknowledgeEvent(record);
+        metrics.recordSuccess(1);
+        ackAccumulator.add(record.getId()); // XACK 는 accumulator 가 모아서 일괄 전송
 
       } catch (JsonParsingException jsonParsingException) {
+        metrics.recordParseFailure();
         log.error("Event parsing failed. Record={}, ErrorMessage={}",
                   record, jsonParsingException.getMessage(), jsonParsingException);
 
       } catch (Exception exception) {
+        // ACK 하지 않은 레코드는 PEL 에 남아 RedisStreamPendingReclaimer 가 회수하여 재처리
+        metrics.recordHandlerFailure();
         log.error("Event handling failed. ClassName={}, ErrorMessage={}",
                   exception.getClass().getName(), exception.getMessage(), exception);
 
+      } finally {
+        metrics.stopHandle(sample);
       }
     } else {
       log.warn("No EventHandler found for eventType: {}", eventType);
     }
   }
-
-  private void acknowledgeEvent(MapRecord<String, String, String> record) {
-    try {
-      Long result = redisTemplate.opsForStream()
-                                 .acknowledge(Objects.requireNonNull(record.getStream()),
-                                              groupName, record.getId());
-
-      log.info("Acknowledgement success. eventId: {}, Result: {}", record.getId(), result);
-    } catch (Exception e) {
-      log.error("Acknowledgement failed. eventId: {}, ErrorMessage={}", record.getId(), e.getMessage(), e);
-    }
-  }
 }
\ No newline at end of file
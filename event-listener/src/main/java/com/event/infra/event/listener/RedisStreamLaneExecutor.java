@@ -0,0 +1,93 @@
+package com.event.infra.event.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 컨슈머 단위 병렬 처리기: 레코드를 순서 키(orderingField) 해시로 lane 에 배정하고, lane 마다 하나의 가상 스레드에서 순서대로 처리
+ * -> 같은 키의 레코드는 항상 같은 lane 에서 도착 순서대로 처리되고, 다른 키는 최대 concurrency 개 lane 에서 동시에 처리
+ * -> 처리 중이거나 대기 중인 작업 수를 concurrency 로 제한하여, 초과 시 poll 스레드가 대기 (DB 커넥션 풀 이상으로 몰리지 않도록)
+ */
+@Slf4j
+public class RedisStreamLaneExecutor {
+
+  private final String orderingField;
+  private final int concurrency;
+  private final Semaphore inFlight;
+  private final List<ExecutorService> lanes;
+
+  public RedisStreamLaneExecutor(String consumerName, String orderingField, int concurrency) {
+    this.orderingField = orderingField;
+    this.concurrency = concurrency;
+    this.inFlight = new Semaphore(concurrency);
+    this.lanes = new ArrayList<>(concurrency);
+    for (int i = 0; i < concurrency; i++) {
+      lanes.add(Executors.newSingleThreadExecutor(Thread.ofVirtual().name(consumerName + "-lane-" + i).factory()));
+    }
+  }
+
+  /**
+   * 레코드가 배정될 lane 번호
+   */
+  public int laneOf(MapRecord<String, String, String> record) {
+    String key = record.getValue().get(orderingField);
+    return isNull(key) ? 0 : Math.floorMod(key.hashCode(), concurrency);
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * lane 에 작업 제출 (동시 작업 수가 concurrency 에 도달하면 빈 자리가 생길 때까지 대기)
+   *
+   * @return 작업 완료 시 완료되는 Future (작업 예외는 작업 내부에서 처리)
+   */
+  public CompletableFuture<Void> submit(int lane, Runnable task) {
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return CompletableFuture.failedFuture(e);
+    }
+
+    try {
+      return CompletableFuture.runAsync(task, lanes.get(lane))
+                              .whenComplete((result, error) -> inFlight.release());
+    } catch (Exception e) {
+      inFlight.release();
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * 제출된 작업이 모두 끝날 때까지 대기 (컨테이너 중지 시 ACK flush 전에 호출)
+   */
+  public void awaitIdle(Duration timeout) {
+    try {
+      if (inFlight.tryAcquire(concurrency, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        inFlight.release(concurrency);
+        return;
+      }
+      log.warn("Lane executor did not become idle within {}. inFlight={}", timeout, concurrency - inFlight.availablePermits());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public void shutdown(Duration timeout) {
+    awaitIdle(timeout);
+    lanes.forEach(ExecutorService::shutdown);
+  }
+}
@@ -0,0 +1,46 @@
+package com.event.infra.event.listener;
+
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.ListenerExecutor;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.RedisStreamConsumerSet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨슈머 세트별 StreamMessageListenerContainer 생성
+ * -> batchSize 는 XREADGROUP COUNT, batchMaxWait 는 BLOCK(pollTimeout), executor 는 구독별 poll 스레드 종류로 사용
+ * -> 트래픽 특성이 다른 스트림마다 처리량(큰 COUNT, 긴 BLOCK) 또는 지연 시간(작은 COUNT, 짧은 BLOCK) 기준으로 조정
+ */
+@Component
+public class RedisStreamListenerContainerFactory {
+
+  private final RedisConnectionFactory connectionFactory;
+
+  @Autowired
+  public RedisStreamListenerContainerFactory(RedisConnectionFactory connectionFactory) {
+    this.connectionFactory = connectionFactory;
+  }
+
+  public StreamMessageListenerContainer<String, MapRecord<String, String, String>> create(RedisStreamConsumerSet consumerSet) {
+    var options = StreamMessageListenerContainerOptions
+        .<String, MapRecord<String, String, String>>builder()
+        .batchSize(consumerSet.getBatchSize())
+        .pollTimeout(consumerSet.getBatchMaxWait())
+        .executor(createExecutor(consumerSet))
+        .build();
+    return StreamMessageListenerContainer.create(connectionFactory, options);
+  }
+
+  /**
+   * 구독(컨슈머)마다 poll 루프 스레드를 하나씩 사용하는 실행기
+   */
+  private static SimpleAsyncTaskExecutor createExecutor(RedisStreamConsumerSet consumerSet) {
+    var executor = new SimpleAsyncTaskExecutor(consumerSet.getConsumerPrefix() + "-poll-");
+    executor.setVirtualThreads(consumerSet.getExecutor() == ListenerExecutor.VIRTUAL);
+    return executor;
+  }
+}
@@ -1,57 +1,104 @@
 package com.event.infra.event.listener;
 
 import com.event.infra.event.handler.EventHandlerResolver;
+import com.event.infra.event.redis.StreamShardResolver;
 import com.event.infra.event.redis.config.RedisStreamConsumerProperties;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.Autoscale;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.ConsumeMode;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.ListenerExecutor;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.RedisStreamConsumerSet;
 import com.event.infra.event.redis.event.RedisCriticalErrorEvent;
 import io.lettuce.core.RedisCommandExecutionException;
 import io.lettuce.core.RedisCommandTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.domain.Range;
 import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
 import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer.ConsumerStreamReadRequest;
+import org.springframework.data.redis.stream.Subscription;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
 import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisStreamListenerContainerManager {
 
+  private static final Duration LANE_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+  private static final int HANDOFF_BATCH_SIZE = 100;
+
   private final RedisStreamConsumerProperties properties;
   private final StringRedisTemplate redisTemplate;
   private final EventHandlerResolver eventHandlerResolver;
   private final ApplicationEventPublisher publisher;
-  private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+  private final RedisStreamListenerContainerFactory containerFactory;
+  private final TaskScheduler taskScheduler;
+  private final MeterRegistry meterRegistry;
+  private final StreamShardResolver shardResolver;
+  private final List<StreamMessageListenerContainer<String, MapRecord<String, String, String>>> containers = new CopyOnWriteArrayList<>();
+  private final List<RedisStreamBatchConsumer> batchConsumers = new CopyOnWriteArrayList<>();
+  private final List<RedisStreamAckAccumulator> ackAccumulators = new CopyOnWriteArrayList<>();
+  private final List<RedisStreamLaneExecutor> laneExecutors = new CopyOnWriteArrayList<>();
+  private final Map<String, ConsumerGroupRegistration> registrations = new ConcurrentHashMap<>(); // key: streamKey|groupName
+  private volatile boolean running;
 
   /**
    * 컨테이너 초기화 및 스트림 리스너 등록
    */
   @PostConstruct
   public void init() {
-    registerListeners(container);
+    registerListeners();
     startContainer();
   }
 
+  @PreDestroy
+  public void destroy() {
+    running = false;
+    containers.forEach(StreamMessageListenerContainer::stop);
+    batchConsumers.forEach(RedisStreamBatchConsumer::stop);
+    laneExecutors.forEach(laneExecutor -> laneExecutor.shutdown(LANE_DRAIN_TIMEOUT)); // 처리 중인 레코드 완료 대기
+    ackAccumulators.forEach(RedisStreamAckAccumulator::stop); // 남은 ACK 유실 방지
+  }
+
   /**
    * Redis 컨테이너 시작
    */
   public void startContainer() {
     try {
-      container.start();
+      ackAccumulators.forEach(RedisStreamAckAccumulator::start);
+      containers.forEach(StreamMessageListenerContainer::start);
+      batchConsumers.forEach(RedisStreamBatchConsumer::start);
+      running = true;
       log.info("Redis Listener Container has started successfully.");
     } catch (Exception e) {
       log.error("Failed to start Redis Listener Container: {}", e.getMessage(), e);
@@ -63,7 +110,11 @@ public class RedisStreamListenerContainerManager {
    */
   public void stopContainer() {
     try {
-      container.stop();
+      running = false;
+      containers.forEach(StreamMessageListenerContainer::stop);
+      batchConsumers.forEach(RedisStreamBatchConsumer::stop);
+      laneExecutors.forEach(laneExecutor -> laneExecutor.awaitIdle(LANE_DRAIN_TIMEOUT)); // lane 에서 처리 중인 레코드 완료 대기
+      ackAccumulators.forEach(RedisStreamAckAccumulator::stop); // 처리 완료된 레코드의 ACK 를 모두 flush
       log.info("Redis Listener Container has been stopped.");
     } catch (Exception e) {
       log.error("Failed to stop Redis Listener Container: {}", e.getMessage(), e);
@@ -85,34 +136,248 @@ public class RedisStreamListenerContainerManager {
 
   /**
    * Redis 스트림 리스너 등록
+   * -> SINGLE 모드 컨슈머 세트는 세트마다 전용 컨테이너를 생성하여 COUNT/BLOCK/실행기를 개별 적용
+   * -> 샤딩된 스트림은 샤드 키마다 컨슈머 그룹을 만들고 consumerCount 만큼 컨슈머를 등록
    */
-  public void registerListeners(StreamMessageListenerContainer<String, MapRecord<String, String, String>> container) {
+  public void registerListeners() {
     for (var consumerSet : properties.consumers()) {
-      String streamKey = consumerSet.getStreamKey();
-      String groupName = consumerSet.getGroupName();
-      String prefix = consumerSet.getConsumerPrefix();
-      int consumerCount = consumerSet.getConsumerCount();
+      StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = null;
+      if (consumerSet.getConsumeMode() == ConsumeMode.SINGLE) {
+        container = containerFactory.create(consumerSet);
+        containers.add(container);
+      }
+
+      for (String streamKey : shardResolver.consumerKeys(consumerSet.getStreamKey())) {
+        registerListeners(container, consumerSet, streamKey);
+      }
+    }
+  }
+
+  private synchronized void registerListeners(StreamMessageListenerContainer<String, MapRecord<String, String, String>> container,
+                                              RedisStreamConsumerSet consumerSet,
+                                              String streamKey) {
+    String groupName = consumerSet.getGroupName();
+    createGroupIfNotExists(streamKey, groupName); // 그룹 존재 여부 확인 및 생성
+
+    var registration = new ConsumerGroupRegistration(streamKey, consumerSet, container, createAckAccumulator(streamKey, consumerSet));
+    registrations.put(registrationKey(streamKey, groupName), registration);
+
+    Autoscale autoscale = consumerSet.getAutoscale();
+    int consumerCount = autoscale.isEnabled()
+        ? Math.clamp(consumerSet.getConsumerCount(), autoscale.getMinConsumers(), autoscale.getMaxConsumers())
+        : consumerSet.getConsumerCount();
+    for (int i = 0; i < consumerCount; i++) {
+      addConsumer(registration);
+    }
+  }
+
+  /**
+   * 실행 중인 컨테이너에 컨슈머 1개 추가 (오토스케일링)
+   *
+   * @return 변경 후 컨슈머 수 (그룹이 없으면 -1)
+   */
+  public synchronized int scaleOut(String streamKey, String groupName) {
+    ConsumerGroupRegistration registration = registrations.get(registrationKey(streamKey, groupName));
+    if (isNull(registration)) {
+      return -1;
+    }
+    addConsumer(registration);
+    return registration.consumers.size();
+  }
+
+  /**
+   * 마지막에 추가된 컨슈머 1개 제거 후, 남은 pending 엔트리를 첫 번째 컨슈머에게 XCLAIM 으로 이관 (오토스케일링)
+   * -> 이관이 끝나지 않으면 컨슈머를 그룹에 남겨두고 retryHandOffs 에서 다시 이관
+   *
+   * @return 변경 후 컨슈머 수 (그룹이 없으면 -1)
+   */
+  public synchronized int scaleIn(String streamKey, String groupName) {
+    ConsumerGroupRegistration registration = registrations.get(registrationKey(streamKey, groupName));
+    if (isNull(registration)) {
+      return -1;
+    }
+    if (registration.consumers.size() <= 1) {
+      return registration.consumers.size();
+    }
+
+    RegisteredConsumer removed = registration.consumers.removeLast();
+    if (nonNull(removed.subscription())) {
+      registration.container.remove(removed.subscription());
+    }
+    if (nonNull(removed.batchConsumer())) {
+      removed.batchConsumer().stop();
+      batchConsumers.remove(removed.batchConsumer());
+    }
+    if (nonNull(removed.laneExecutor())) {
+      removed.laneExecutor().shutdown(LANE_DRAIN_TIMEOUT); // 처리 중인 레코드 완료 대기
+      laneExecutors.remove(removed.laneExecutor());
+    }
+    removed.metrics().remove();
+    registration.ackAccumulator.flush(); // 처리 완료된 레코드를 먼저 승인하여 처리되지 않은 엔트리만 이관
 
-      createGroupIfNotExists(streamKey, groupName); // 그룹 존재 여부 확인 및 생성
+    registration.retiredConsumers.add(removed.name());
+    handOffRetiredConsumers(registration);
+    log.info("Removed Redis Listener: stream={}, group={}, consumer={}", streamKey, groupName, removed.name());
+    return registration.consumers.size();
+  }
 
-      for (int i = 1; i <= consumerCount; i++) {
-        String consumerName = prefix + "-" + i;
+  /**
+   * 이전 축소에서 이관이 끝나지 않아 그룹에 남겨둔 컨슈머의 pending 엔트리를 다시 이관 (오토스케일링 주기마다 호출)
+   */
+  public synchronized void retryHandOffs(String streamKey, String groupName) {
+    ConsumerGroupRegistration registration = registrations.get(registrationKey(streamKey, groupName));
+    if (isNull(registration) || registration.retiredConsumers.isEmpty()) {
+      return;
+    }
+    handOffRetiredConsumers(registration);
+  }
 
-        try {
-          var listener = new RedisStreamEventListener(groupName, consumerName, eventHandlerResolver, redisTemplate);
-          var request = createListenerRequest(streamKey, groupName, consumerName);
+  public synchronized int getConsumerCount(String streamKey, String groupName) {
+    ConsumerGroupRegistration registration = registrations.get(registrationKey(streamKey, groupName));
+    return isNull(registration) ? 0 : registration.consumers.size();
+  }
 
-          container.register(request, listener); // 리스너 등록
-          log.info("Registered Redis Listener: stream={}, group={}, consumer={}", streamKey, groupName, consumerName);
+  private void addConsumer(ConsumerGroupRegistration registration) {
+    RedisStreamConsumerSet consumerSet = registration.consumerSet;
+    String streamKey = registration.streamKey;
+    String groupName = consumerSet.getGroupName();
+    String consumerName = consumerSet.getConsumerPrefix() + "-" + (registration.consumers.size() + 1);
+    registration.retiredConsumers.remove(consumerName); // 같은 이름으로 다시 추가되면 남은 pending 엔트리를 그대로 소유 (이관 불필요)
 
-        } catch (Exception e) {
-          log.error("Failed to register Redis Listener: stream={}, group={}, consumer={}, error={}",
-                    streamKey, groupName, consumerName, e.getMessage(), e);
+    try {
+      RedisStreamLaneExecutor laneExecutor = createLaneExecutor(consumerSet, consumerName);
+      var metrics = new RedisStreamConsumerMetrics(streamKey, groupName, consumerName, meterRegistry);
+      if (consumerSet.getConsumeMode() == ConsumeMode.BATCH) {
+        var batchConsumer = createBatchConsumer(streamKey, consumerSet, consumerName, registration.ackAccumulator, metrics,
+                                                laneExecutor);
+        batchConsumers.add(batchConsumer); // 배치 컨슈머 등록 (startContainer 시 시작)
+        if (running) {
+          batchConsumer.start(); // 실행 중에 추가된 경우 바로 시작
         }
+        registration.consumers.add(new RegisteredConsumer(consumerName, null, batchConsumer, laneExecutor, metrics));
+      } else {
+        var listener = new RedisStreamEventListener(consumerName, eventHandlerResolver, registration.ackAccumulator, metrics,
+                                                    laneExecutor);
+        var request = createListenerRequest(streamKey, groupName, consumerName);
+
+        Subscription subscription = registration.container.register(request, listener); // 리스너 등록 (실행 중이면 바로 수신 시작)
+        registration.consumers.add(new RegisteredConsumer(consumerName, subscription, null, laneExecutor, metrics));
       }
+      log.info("Registered Redis Listener: stream={}, group={}, consumer={}, mode={}",
+               streamKey, groupName, consumerName, consumerSet.getConsumeMode());
+
+    } catch (Exception e) {
+      log.error("Failed to register Redis Listener: stream={}, group={}, consumer={}, error={}",
+                streamKey, groupName, consumerName, e.getMessage(), e);
     }
   }
 
+  /**
+   * 그룹에 남겨둔 컨슈머의 pending 엔트리를 첫 번째 컨슈머에게 이관하고, 이관이 끝난 컨슈머는 목록에서 제외
+   */
+  private void handOffRetiredConsumers(ConsumerGroupRegistration registration) {
+    String toConsumer = registration.consumers.getFirst().name();
+    registration.retiredConsumers.removeIf(
+        fromConsumer -> handOffPendingEntries(registration.streamKey, registration.consumerSet.getGroupName(), fromConsumer, toConsumer));
+  }
+
+  /**
+   * 제거된 컨슈머의 pending 엔트리를 남은 컨슈머에게 이관한 뒤 컨슈머 삭제
+   * -> 이관된 엔트리는 RedisStreamPendingReclaimer 가 reclaimMinIdle 이후 재처리
+   * -> XCLAIM JUSTID 로 이관하여 전달 횟수(delivery count)를 늘리지 않음 (축소만으로 maxDeliveryCount 에 도달하지 않도록)
+   * -> XGROUP DELCONSUMER 는 컨슈머의 PEL 엔트리도 함께 삭제하므로, XPENDING 이 0 건일 때만 컨슈머 삭제
+   *
+   * @return 이관이 끝나 컨슈머를 삭제했으면 true (실패하거나 엔트리가 남으면 컨슈머를 삭제하지 않고 false)
+   */
+  private boolean handOffPendingEntries(String streamKey, String groupName, String fromConsumer, String toConsumer) {
+    StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+    Consumer consumer = Consumer.from(groupName, fromConsumer);
+    int handedOff = 0;
+
+    try {
+      while (true) {
+        PendingMessages pendingMessages = ops.pending(streamKey, consumer, Range.unbounded(), HANDOFF_BATCH_SIZE);
+        if (isNull(pendingMessages) || pendingMessages.isEmpty()) {
+          break;
+        }
+
+        RecordId[] ids = pendingMessages.stream()
+                                        .map(PendingMessage::getId)
+                                        .toArray(RecordId[]::new);
+        XClaimOptions options = XClaimOptions.minIdle(Duration.ZERO).ids(ids);
+        List<RecordId> claimed =
+            redisTemplate.execute(conn -> conn.streamCommands().xClaimJustId(streamKey.getBytes(), groupName, toConsumer, options), true);
+        if (isNull(claimed) || claimed.isEmpty()) {
+          break; // 그 사이 삭제/승인된 엔트리만 남은 경우 (아래에서 남은 엔트리를 다시 확인)
+        }
+        handedOff += claimed.size();
+      }
+
+      PendingMessages remaining = ops.pending(streamKey, consumer, Range.unbounded(), 1);
+      if (nonNull(remaining) && !remaining.isEmpty()) {
+        log.warn("Pending entries remain after hand off. keep consumer and retry later. stream={}, group={}, from={}, to={}, count={}",
+                 streamKey, groupName, fromConsumer, toConsumer, handedOff);
+        return false;
+      }
+
+      ops.deleteConsumer(streamKey, consumer);
+      log.info("Handed off pending entries. stream={}, group={}, from={}, to={}, count={}",
+               streamKey, groupName, fromConsumer, toConsumer, handedOff);
+      return true;
+    } catch (Exception e) {
+      log.warn("Failed to hand off pending entries. stream={}, group={}, from={}, ErrorMessage={}",
+               streamKey, groupName, fromConsumer, e.getMessage());
+      return false;
+    }
+  }
+
+  private static String registrationKey(String streamKey, String groupName) {
+    return streamKey + "|" + groupName;
+  }
+
+  private RedisStreamAckAccumulator createAckAccumulator(String streamKey, RedisStreamConsumerSet consumerSet) {
+    var ackAccumulator = new RedisStreamAckAccumulator(streamKey,
+                                                       consumerSet.getGroupName(),
+                                                       consumerSet.getAckBatchSize(),
+                                                       consumerSet.getAckFlushInterval(),
+                                                       redisTemplate,
+                                                       taskScheduler,
+                                                       meterRegistry);
+    ackAccumulators.add(ackAccumulator);
+    return ackAccumulator;
+  }
+
+  private RedisStreamBatchConsumer createBatchConsumer(String streamKey,
+                                                       RedisStreamConsumerSet consumerSet,
+                                                       String consumerName,
+                                                       RedisStreamAckAccumulator ackAccumulator,
+                                                       RedisStreamConsumerMetrics metrics,
+                                                       RedisStreamLaneExecutor laneExecutor) {
+    var listener = new RedisStreamBatchEventListener(consumerName, eventHandlerResolver, ackAccumulator, metrics, laneExecutor);
+    return new RedisStreamBatchConsumer(streamKey,
+                                        Consumer.from(consumerSet.getGroupName(), consumerName),
+                                        consumerSet.getBatchSize(),
+                                        consumerSet.getBatchMaxWait(),
+                                        redisTemplate,
+                                        listener,
+                                        this::handleCriticalError,
+                                        consumerSet.getExecutor() == ListenerExecutor.VIRTUAL);
+  }
+
+  /**
+   * handlerConcurrency 가 2 이상인 경우 컨슈머 전용 lane 실행기 생성 (1 이면 poll 스레드에서 순차 처리)
+   */
+  private RedisStreamLaneExecutor createLaneExecutor(RedisStreamConsumerSet consumerSet, String consumerName) {
+    if (consumerSet.getHandlerConcurrency() <= 1) {
+      return null;
+    }
+    var laneExecutor = new RedisStreamLaneExecutor(consumerName,
+                                                   consumerSet.getOrderingKey().getField(),
+                                                   consumerSet.getHandlerConcurrency());
+    laneExecutors.add(laneExecutor);
+    return laneExecutor;
+  }
+
   private void createGroupIfNotExists(String streamKey, String groupName) {
     if (Boolean.FALSE.equals(redisTemplate.hasKey(streamKey))) {
       redisTemplate.opsForStream().add(streamKey, Map.of("event_id", "preservedId"));
@@ -140,7 +405,8 @@ public class RedisStreamListenerContainerManager {
   }
 
   private boolean handleCriticalError(Throwable error) {
-    log.error("Consumer error occurred. Message: {}, Cause: {}", error.getMessage(), error.getCause().getMessage());
+    log.error("Consumer error occurred. Message: {}, Cause: {}",
+              error.getMessage(), nonNull(error.getCause()) ? error.getCause().getMessage() : null);
     if (isCriticalError(error)) {
       publisher.publishEvent(new RedisCriticalErrorEvent());
       return true; // 컨테이너 중지
@@ -167,4 +433,38 @@ public class RedisStreamListenerContainerManager {
         error instanceof RedisConnectionFailureException ||
         error instanceof RedisSystemException;
   }
-}
\ No newline at end of file
+
+  /**
+   * 스트림(샤드) + 컨슈머 그룹 단위 등록 정보 (오토스케일링 시 컨슈머 추가/제거에 사용)
+   */
+  private static class ConsumerGroupRegistration {
+
+    private final String streamKey;
+    private final RedisStreamConsumerSet consumerSet;
+    private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container; // BATCH 모드는 null
+    private final RedisStreamAckAccumulator ackAccumulator;
+    private final List<RegisteredConsumer> consumers = new ArrayList<>();
+    private final Set<String> retiredConsumers = new LinkedHashSet<>(); // 제거했지만 pending 엔트리 이관이 끝나지 않아 그룹에 남겨둔 컨슈머
+
+    private ConsumerGroupRegistration(String streamKey,
+                                      RedisStreamConsumerSet consumerSet,
+                                      StreamMessageListenerContainer<String, MapRecord<String, String, String>> container,
+                                      RedisStreamAckAccumulator ackAccumulator) {
+      this.streamKey = streamKey;
+      this.consumerSet = consumerSet;
+      this.container = container;
+      this.ackAccumulator = ackAccumulator;
+    }
+  }
+
+  /**
+   * 등록된 컨슈머 (SINGLE 모드는 subscription, BATCH 모드는 batchConsumer 사용)
+   */
+  private record RegisteredConsumer(String name,
+                                    Subscription subscription,
+                                    RedisStreamBatchConsumer batchConsumer,
+                                    RedisStreamLaneExecutor laneExecutor,
+                                    RedisStreamConsumerMetrics metrics) {
+
+  }
+}
@@ -0,0 +1,223 @@
+package com.event.infra.event.listener;
+
+import com.event.infra.event.EventType;
+import com.event.infra.event.StreamEntryCodec;
+import com.event.infra.event.handler.EventHandler;
+import com.event.infra.event.handler.EventHandlerResolver;
+import com.event.infra.event.redis.StreamShardResolver;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.RedisStreamConsumerSet;
+import com.event.infra.util.JsonParsingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StringRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 처리 실패로 ACK 되지 않고 PEL 에 남은 엔트리를 주기적으로 회수하여 재처리
+ * -> reclaimMinIdle 이상 방치된 엔트리를 XCLAIM 으로 회수 컨슈머(<consumerPrefix>-reclaimer)에게 가져와 EventHandler 로 다시 처리
+ * -> 전달 횟수가 maxDeliveryCount 에 도달하면 오류 정보와 함께 dead-letter 스트림(<streamKey>:DLQ)에 저장 후 ACK
+ * -> 재처리에 실패한 엔트리는 PEL 에 그대로 남고, XCLAIM 으로 idle 시간이 초기화되므로 reclaimMinIdle 후 다시 회수됨
+ * -> XPENDING 을 페이지 단위로 이어서 조회하므로, 재시도 중인 엔트리가 PEL 앞쪽에 쌓여도 뒤쪽의 방치된 엔트리가 회수됨
+ */
+@Slf4j
+@Component
+public class RedisStreamPendingReclaimer {
+
+  public static final String DEAD_LETTER_SUFFIX = ":DLQ";
+  private static final String RECLAIMER_SUFFIX = "-reclaimer";
+  private static final int MAX_PENDING_SCAN_PAGES = 20; // 한 번의 회수에서 조회할 XPENDING 최대 페이지 수 (PEL 이 매우 큰 경우 조회 비용 제한)
+
+  private final RedisStreamConsumerProperties properties;
+  private final StreamShardResolver shardResolver;
+  private final StringRedisTemplate redisTemplate;
+  private final EventHandlerResolver eventHandlerResolver;
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public RedisStreamPendingReclaimer(RedisStreamConsumerProperties properties,
+                                     StreamShardResolver shardResolver,
+                                     StringRedisTemplate redisTemplate,
+                                     EventHandlerResolver eventHandlerResolver,
+                                     MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.shardResolver = shardResolver;
+    this.redisTemplate = redisTemplate;
+    this.eventHandlerResolver = eventHandlerResolver;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Scheduled(fixedDelayString = "${event.stream-reclaim.interval:30s}")
+  public void reclaim() {
+    for (RedisStreamConsumerSet consumerSet : properties.consumers()) {
+      for (String streamKey : shardResolver.consumerKeys(consumerSet.getStreamKey())) {
+        try {
+          reclaim(streamKey, consumerSet);
+        } catch (Exception e) {
+          log.warn("Failed to reclaim pending entries. streamKey={}, groupName={}, ErrorMessage={}",
+                   streamKey, consumerSet.getGroupName(), e.getMessage());
+        }
+      }
+    }
+  }
+
+  private void reclaim(String streamKey, RedisStreamConsumerSet consumerSet) {
+    String groupName = consumerSet.getGroupName();
+    Map<RecordId, Long> deliveryCounts = findIdlePendingEntries(streamKey, consumerSet);
+    if (deliveryCounts.isEmpty()) {
+      return;
+    }
+
+    String reclaimerName = consumerSet.getConsumerPrefix() + RECLAIMER_SUFFIX;
+    // NOTE: minIdle 을 함께 지정하여 그 사이 다른 컨슈머가 처리/회수한 엔트리는 가져오지 않음
+    XClaimOptions claimOptions = XClaimOptions.minIdle(consumerSet.getReclaimMinIdle())
+                                              .ids(deliveryCounts.keySet().toArray(RecordId[]::new));
+    List<StringRecord> claimedRecords = redisTemplate.execute(
+        (RedisCallback<List<StringRecord>>) connection ->
+            ((StringRedisConnection) connection).xClaim(streamKey, groupName, reclaimerName, claimOptions));
+    if (isNull(claimedRecords) || claimedRecords.isEmpty()) {
+      return;
+    }
+
+    log.info("Reclaimed pending entries. streamKey={}, groupName={}, count={}", streamKey, groupName, claimedRecords.size());
+    for (StringRecord record : claimedRecords) {
+      long previousDeliveries = deliveryCounts.getOrDefault(record.getId(), 0L);
+      redeliver(streamKey, consumerSet, StreamEntryCodec.decodeRecord(record), previousDeliveries);
+    }
+  }
+
+  /**
+   * reclaimMinIdle 이상 방치된 PEL 엔트리를 오래된 순으로 최대 reclaimBatchSize 건 조회 (값: 회수 전 전달 횟수)
+   * -> 직전에 재시도되어 idle 시간이 초기화된 엔트리가 PEL 앞쪽을 차지해도 뒤쪽의 방치된 엔트리를 찾도록
+   *    마지막으로 반환된 ID 이후부터 XPENDING 을 이어서 조회 (한 번에 최대 MAX_PENDING_SCAN_PAGES 페이지)
+   */
+  private Map<RecordId, Long> findIdlePendingEntries(String streamKey, RedisStreamConsumerSet consumerSet) {
+    int batchSize = consumerSet.getReclaimBatchSize();
+    Map<RecordId, Long> deliveryCounts = new LinkedHashMap<>();
+    Range<String> range = Range.unbounded();
+
+    for (int page = 0; page < MAX_PENDING_SCAN_PAGES && deliveryCounts.size() < batchSize; page++) {
+      PendingMessages pendingMessages = redisTemplate.opsForStream()
+                                                     .pending(streamKey, consumerSet.getGroupName(), range, batchSize);
+      if (isNull(pendingMessages) || pendingMessages.isEmpty()) {
+        break;
+      }
+
+      for (PendingMessage message : pendingMessages) {
+        if (deliveryCounts.size() < batchSize
+            && message.getElapsedTimeSinceLastDelivery().compareTo(consumerSet.getReclaimMinIdle()) >= 0) {
+          deliveryCounts.put(message.getId(), message.getTotalDeliveryCount());
+        }
+      }
+      if (pendingMessages.size() < batchSize) {
+        break; // PEL 끝까지 조회
+      }
+
+      String lastId = pendingMessages.get(pendingMessages.size() - 1).getIdAsString();
+      range = Range.rightUnbounded(Range.Bound.exclusive(lastId)); // "(" + lastId (Redis 6.2 이상)
+    }
+    return deliveryCounts;
+  }
+
+  private void redeliver(String streamKey,
+                         RedisStreamConsumerSet consumerSet,
+                         MapRecord<String, String, String> record,
+                         long previousDeliveries) {
+    String groupName = consumerSet.getGroupName();
+    long deliveryCount = previousDeliveries + 1; // XCLAIM 으로 전달 횟수가 1 증가
+
+    if (previousDeliveries >= consumerSet.getMaxDeliveryCount()) {
+      deadLetter(streamKey, groupName, record, previousDeliveries, "MaxDeliveryCountExceeded",
+                 "delivered " + previousDeliveries + " times without ACK");
+      return;
+    }
+
+    Optional<EventHandler> handler = EventType.safeParse(record.getValue().get("type"))
+                                              .map(eventHandlerResolver::getEventHandler);
+    if (handler.isEmpty()) {
+      deadLetter(streamKey, groupName, record, deliveryCount, "UnsupportedEventType",
+                 "no EventHandler for type " + record.getValue().get("type"));
+      return;
+    }
+
+    try {
+      handler.get().handleEvent(record);
+      redisTemplate.opsForStream().acknowledge(streamKey, groupName, record.getId());
+      reclaimCounter(streamKey, groupName, "recovered").increment();
+      log.info("Reclaimed entry handled. streamKey={}, recordId={}, deliveryCount={}", streamKey, record.getId(), deliveryCount);
+
+    } catch (JsonParsingException jsonParsingException) {
+      // 파싱 실패는 재시도해도 같은 결과이므로 바로 dead-letter 로 이동
+      deadLetter(streamKey, groupName, record, deliveryCount,
+                 jsonParsingException.getClass().getName(), String.valueOf(jsonParsingException.getMessage()));
+
+    } catch (Exception exception) {
+      if (deliveryCount >= consumerSet.getMaxDeliveryCount()) {
+        deadLetter(streamKey, groupName, record, deliveryCount,
+                   exception.getClass().getName(), String.valueOf(exception.getMessage()));
+        return;
+      }
+      reclaimCounter(streamKey, groupName, "retry_failed").increment();
+      log.warn("Reclaimed entry failed again. streamKey={}, recordId={}, deliveryCount={}, ErrorMessage={}",
+               streamKey, record.getId(), deliveryCount, exception.getMessage());
+    }
+  }
+
+  /**
+   * 원본 필드와 오류 정보를 dead-letter 스트림에 저장한 뒤 원본 엔트리를 ACK
+   * -> XADD 후 XACK 사이에 실패하면 다음 회수 때 dead-letter 에 한 번 더 저장될 수 있음 (최소 1회)
+   */
+  private void deadLetter(String streamKey,
+                          String groupName,
+                          MapRecord<String, String, String> record,
+                          long deliveryCount,
+                          String errorClass,
+                          String errorMessage) {
+    Map<String, String> body = new HashMap<>(record.getValue());
+    body.put("dlqSourceStream", streamKey);
+    body.put("dlqSourceId", record.getId().getValue());
+    body.put("dlqGroup", groupName);
+    body.put("dlqDeliveryCount", String.valueOf(deliveryCount));
+    body.put("dlqErrorClass", errorClass);
+    body.put("dlqErrorMessage", errorMessage);
+    body.put("dlqCreatedAt", OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+
+    // NOTE: 샤드 키의 해시 태그가 유지되므로 dead-letter 스트림은 원본 샤드와 같은 슬롯에 저장됨
+    redisTemplate.opsForStream().add(streamKey + DEAD_LETTER_SUFFIX, body);
+    redisTemplate.opsForStream().acknowledge(streamKey, groupName, record.getId());
+    reclaimCounter(streamKey, groupName, "dead_lettered").increment();
+    log.error("Entry moved to dead-letter stream. streamKey={}, recordId={}, deliveryCount={}, errorClass={}, ErrorMessage={}",
+              streamKey, record.getId(), deliveryCount, errorClass, errorMessage);
+  }
+
+  private Counter reclaimCounter(String streamKey, String groupName, String result) {
+    return Counter.builder("event.consumer.reclaim")
+                  .description("PEL 에서 회수하여 재처리한 엔트리 수")
+                  .tag("stream", streamKey)
+                  .tag("group", groupName)
+                  .tag("result", result)
+                  .register(meterRegistry);
+  }
+}
@@ -1,17 +1,14 @@
 package com.event.infra.event.monitoring;
 
+import com.event.infra.event.redis.StreamShardResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.ClusterInfo;
 import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.stream.ObjectRecord;
-import org.springframework.data.redis.connection.stream.StreamOffset;
-import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
-import java.util.List;
-
+import static com.event.infra.event.producer.RedisStreamEventProducer.EVENT_STREAM_KEY;
 import static java.util.Objects.nonNull;
 
 @Slf4j
@@ -20,15 +17,16 @@ public class DefaultRedisHealthChecker implements HealthChecker {
 
   private final RedisConnectionFactory connectionFactory;
   private final StringRedisTemplate redisTemplate;
+  private final StreamShardResolver shardResolver;
 
   private static final String CLUSTER_STATE_OK = "ok";
 
   /**
-   * 클러스터 상태 및 스트림 읽기 가능 여부를 복합적으로 확인
+   * 클러스터 상태 및 스트림 키 접근 가능 여부를 복합적으로 확인
    */
   @Override
   public boolean isHealthy() {
-    return isClusterHealthy() && isStreamReadable();
+    return isClusterHealthy() && isStreamReachable();
   }
 
   /**
@@ -54,24 +52,24 @@ public class DefaultRedisHealthChecker implements HealthChecker {
   }
 
   /**
-   * Redis 스트림 데이터가 정상적으로 읽히는지 확인
+   * 스트림 키(샤딩된 경우 모든 샤드 키)가 속한 노드에 명령을 보낼 수 있는지 확인
+   * -> 새로 생성되었거나 트리밍으로 비어 있는 스트림도 정상으로 판단하도록, 엔트리 존재 여부가 아닌 EXISTS 응답 여부로 확인
    */
-  @SuppressWarnings("unchecked")
-  private boolean isStreamReadable() {
+  private boolean isStreamReachable() {
     try {
-      // EVENT_STREAM 데이터를 읽기 테스트
-      List<ObjectRecord<String, String>> messages = redisTemplate.opsForStream()
-                                                                 .read(String.class,
-                                                                       StreamReadOptions.empty().count(1),
-                                                                       StreamOffset.fromStart("EVENT_STREAM"));
-
-      // 읽은 메시지가 있는지 확인
-      boolean isReadable = nonNull(messages) && !messages.isEmpty();
-      log.info("redis stream readable: {}", isReadable);
-      return isReadable;
+      boolean isReachable = shardResolver.shardKeys(EVENT_STREAM_KEY)
+                                         .stream()
+                                         .allMatch(this::isStreamReachable);
+      log.info("redis stream reachable: {}", isReachable);
+      return isReachable;
     } catch (Exception e) {
-      log.error("redis stream read error: {}, Cause: {}", e.getMessage(), e.getCause().getMessage());
+      log.error("redis stream reachability check error: {}", e.getMessage());
       return false;
     }
   }
+
+  private boolean isStreamReachable(String streamKey) {
+    // EXISTS 는 키가 속한 슬롯의 노드로 전송되므로, 응답이 오면 해당 샤드에 접근 가능 (키가 없어도 false 응답)
+    return nonNull(redisTemplate.hasKey(streamKey));
+  }
 }
\ No newline at end of file
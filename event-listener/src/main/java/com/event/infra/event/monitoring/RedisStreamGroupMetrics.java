@@ -0,0 +1,147 @@
+package com.event.infra.event.monitoring;
+
+import com.event.infra.event.redis.StreamShardResolver;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.MultiGauge.Row;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 스트림/컨슈머 그룹 단위 적체 지표를 주기적으로 조회하여 Gauge 로 노출
+ * -> XLEN: 스트림 길이, XINFO GROUPS: 그룹 lag (아직 전달되지 않은 엔트리 수), XPENDING: 전달 후 ACK 대기 중인 엔트리 수
+ * -> consumerCount 산정 시 lag/pending 추이와 event.consumer.handle 처리 시간을 함께 확인
+ * -> 샤딩된 스트림은 샤드 키 단위로 조회 (stream 태그 = 샤드 키)
+ */
+@Slf4j
+@Component
+public class RedisStreamGroupMetrics {
+
+  private static final String LAG_FIELD = "lag"; // Redis 7.0 이상에서만 제공
+
+  private final StringRedisTemplate redisTemplate;
+  private final List<StreamGroupGauges> streamGroupGauges;
+
+  @Autowired
+  public RedisStreamGroupMetrics(RedisStreamConsumerProperties properties,
+                                 StreamShardResolver shardResolver,
+                                 StringRedisTemplate redisTemplate,
+                                 MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.streamGroupGauges = properties.consumers()
+                                       .stream()
+                                       .flatMap(consumerSet -> shardResolver.consumerKeys(consumerSet.getStreamKey())
+                                                                            .stream()
+                                                                            .map(streamKey -> new StreamGroupGauges(streamKey,
+                                                                                                                    consumerSet.getGroupName(),
+                                                                                                                    meterRegistry)))
+                                       .toList();
+  }
+
+  /**
+   * 스트림별 길이, 그룹 lag, pending 수 갱신 (조회 실패 시 NaN 으로 표시)
+   */
+  @Scheduled(fixedDelayString = "${event.stream-metrics.poll-interval:15s}")
+  public void poll() {
+    streamGroupGauges.forEach(this::poll);
+  }
+
+  private void poll(StreamGroupGauges gauges) {
+    String streamKey = gauges.streamKey;
+    String groupName = gauges.groupName;
+
+    try {
+      Long length = redisTemplate.opsForStream().size(streamKey);
+      gauges.length = isNull(length) ? Double.NaN : length;
+
+      XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+      gauges.lag = groups.stream()
+                         .filter(group -> groupName.equals(group.groupName()))
+                         .findFirst()
+                         .map(RedisStreamGroupMetrics::lagOf)
+                         .orElse(Double.NaN);
+
+      PendingMessagesSummary summary = redisTemplate.opsForStream().pending(streamKey, groupName);
+      gauges.pending = isNull(summary) ? Double.NaN : summary.getTotalPendingMessages();
+      gauges.consumerPending.register(
+          isNull(summary)
+              ? List.of()
+              : summary.getPendingMessagesPerConsumer()
+                       .entrySet()
+                       .stream()
+                       .map(entry -> Row.of(Tags.of("consumer", entry.getKey()), entry.getValue()))
+                       .toList(),
+          true);
+
+    } catch (Exception e) {
+      gauges.length = Double.NaN;
+      gauges.lag = Double.NaN;
+      gauges.pending = Double.NaN;
+      log.warn("Failed to poll stream group metrics. streamKey={}, groupName={}, ErrorMessage={}",
+               streamKey, groupName, e.getMessage());
+    }
+  }
+
+  private static double lagOf(XInfoGroup group) {
+    Object lag = group.getRaw().get(LAG_FIELD);
+    if (lag instanceof Number number) {
+      return number.doubleValue();
+    }
+    if (lag instanceof String text) {
+      try {
+        return Long.parseLong(text);
+      } catch (NumberFormatException ignored) {
+        return Double.NaN;
+      }
+    }
+    return Double.NaN; // lag 를 계산할 수 없는 경우 (엔트리 삭제 등) Redis 가 nil 반환
+  }
+
+  private static class StreamGroupGauges {
+
+    private final String streamKey;
+    private final String groupName;
+    private final MultiGauge consumerPending;
+
+    private volatile double length = Double.NaN;
+    private volatile double lag = Double.NaN;
+    private volatile double pending = Double.NaN;
+
+    private StreamGroupGauges(String streamKey, String groupName, MeterRegistry meterRegistry) {
+      this.streamKey = streamKey;
+      this.groupName = groupName;
+
+      Tags streamTags = Tags.of("stream", streamKey);
+      Tags groupTags = streamTags.and("group", groupName);
+      Gauge.builder("event.stream.length", this, gauges -> gauges.length)
+           .description("스트림 엔트리 수 (XLEN)")
+           .tags(streamTags)
+           .register(meterRegistry);
+      Gauge.builder("event.stream.group.lag", this, gauges -> gauges.lag)
+           .description("컨슈머 그룹에 아직 전달되지 않은 엔트리 수 (XINFO GROUPS lag)")
+           .tags(groupTags)
+           .register(meterRegistry);
+      Gauge.builder("event.stream.group.pending", this, gauges -> gauges.pending)
+           .description("전달되었으나 ACK 되지 않은 엔트리 수 (XPENDING)")
+           .tags(groupTags)
+           .register(meterRegistry);
+      this.consumerPending = MultiGauge.builder("event.stream.consumer.pending")
+                                       .description("컨슈머별 ACK 대기 엔트리 수 (XPENDING)")
+                                       .tags(groupTags)
+                                       .register(meterRegistry);
+    }
+  }
+}
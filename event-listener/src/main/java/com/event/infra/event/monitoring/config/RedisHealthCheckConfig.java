@@ -5,6 +5,7 @@ import com.event.infra.event.monitoring.DefaultRedisHealthChecker;
 import com.event.infra.event.monitoring.HealthChecker;
 import com.event.infra.event.monitoring.RedisListenerMonitor;
 import com.event.infra.event.monitoring.RunnableMonitor;
+import com.event.infra.event.redis.StreamShardResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -14,11 +15,11 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 @Configuration
 public class RedisHealthCheckConfig {
 
-  private static final int TASK_SCHEDULER_POOL_SIZE = 1; // ThreadPool 크기 상수화
+  private static final int TASK_SCHEDULER_POOL_SIZE = 6; // ThreadPool 크기 상수화 (Health Check + ACK flush + 스트림 지표 조회 + pending 회수 + 컨슈머 오토스케일링 + 이벤트 정리)
 
   /**
    * ThreadPoolTaskScheduler Bean 정의
-   * -> Redis Listener Health Check 작업에 사용
+   * -> Redis Listener Health Check, ACK 주기적 flush, 스트림 지표 조회, pending 회수, 컨슈머 오토스케일링, @Scheduled 작업에 사용
    */
   @Bean
   public ThreadPoolTaskScheduler taskScheduler() {
@@ -33,15 +34,17 @@ public class RedisHealthCheckConfig {
    *
    * @param connectionFactory RedisConnectionFactory
    * @param redisTemplate     StringRedisTemplate
+   * @param shardResolver     StreamShardResolver
    *
    * @return RedisConnectionValidator
    */
   @Bean
   public HealthChecker redisConnectionValidator(
       RedisConnectionFactory connectionFactory,
-      StringRedisTemplate redisTemplate
+      StringRedisTemplate redisTemplate,
+      StreamShardResolver shardResolver
   ) {
-    return new DefaultRedisHealthChecker(connectionFactory, redisTemplate);
+    return new DefaultRedisHealthChecker(connectionFactory, redisTemplate, shardResolver);
   }
 
   /**
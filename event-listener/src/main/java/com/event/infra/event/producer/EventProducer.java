@@ -13,5 +13,6 @@ public interface EventProducer {
                     String ipAddress,
                     String userAgent,
                     String inputs,
-                    String outputs);
+                    String outputs,
+                    double sampleWeight);
 }
@@ -0,0 +1,10 @@
+package com.event.infra.event.producer;
+
+/**
+ * 버퍼가 가득 찼을 때 새 이벤트를 어떻게 처리할지 결정하는 정책
+ */
+public enum OverflowPolicy {
+  BLOCK,       // 버퍼에 공간이 생길 때까지 호출 스레드를 대기 (blockTimeout 초과 시 이벤트 유실)
+  DROP_OLDEST, // 가장 오래된 이벤트를 버리고 새 이벤트를 적재
+  CALLER_RUNS  // 호출 스레드에서 즉시 Redis Stream에 직접 저장
+}
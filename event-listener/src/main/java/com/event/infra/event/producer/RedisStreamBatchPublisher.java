@@ -0,0 +1,269 @@
+package com.event.infra.event.producer;
+
+import com.event.infra.event.redis.config.RedisStreamProducerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * 이벤트를 고정 크기 버퍼에 적재한 뒤, batch size 또는 linger 시간 기준으로 pipeline XADD 하는 퍼블리셔
+ * -> 요청 스레드는 버퍼 적재만 수행하고, Redis 왕복은 flusher 스레드가 담당
+ */
+@Slf4j
+public class RedisStreamBatchPublisher {
+
+  private static final String FLUSHER_THREAD_NAME = "redis-stream-batch-flusher";
+  private static final Duration IDLE_POLL_TIMEOUT = Duration.ofMillis(500);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisStreamProducerProperties.Batch properties;
+  private final StreamTrimPolicy trimPolicy;
+  private final RedisStreamSpillBuffer spillBuffer; // flush 실패 시 이벤트 보관 (null 이면 유실)
+  private final BlockingQueue<StreamEvent> buffer;
+
+  private final DistributionSummary flushSizeSummary;
+  private final Counter droppedCounter;
+  private final Counter failedCounter;
+
+  // NOTE: running 확인과 버퍼 적재를 read lock 으로 묶어, stop() 의 마지막 drain 이후에 적재되는 이벤트가 없도록 보장
+  private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+  private volatile boolean running;
+  private Thread flusherThread;
+
+  public RedisStreamBatchPublisher(StringRedisTemplate stringRedisTemplate,
+                                   RedisStreamProducerProperties.Batch properties,
+                                   StreamTrimPolicy trimPolicy,
+                                   MeterRegistry meterRegistry) {
+    this(stringRedisTemplate, properties, trimPolicy, null, meterRegistry);
+  }
+
+  public RedisStreamBatchPublisher(StringRedisTemplate stringRedisTemplate,
+                                   RedisStreamProducerProperties.Batch properties,
+                                   StreamTrimPolicy trimPolicy,
+                                   RedisStreamSpillBuffer spillBuffer,
+                                   MeterRegistry meterRegistry) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.properties = properties;
+    this.trimPolicy = trimPolicy;
+    this.spillBuffer = spillBuffer;
+    this.buffer = new ArrayBlockingQueue<>(properties.getCapacity());
+
+    this.flushSizeSummary = DistributionSummary.builder("event.producer.batch.flush.size")
+                                               .description("pipeline XADD 한 번에 저장된 이벤트 수")
+                                               .register(meterRegistry);
+    this.droppedCounter = Counter.builder("event.producer.batch.dropped")
+                                 .description("버퍼 초과로 유실된 이벤트 수")
+                                 .register(meterRegistry);
+    this.failedCounter = Counter.builder("event.producer.batch.failed")
+                                .description("pipeline XADD 실패로 저장되지 못한 이벤트 수 (spill 큐에 보관된 이벤트 제외)")
+                                .register(meterRegistry);
+    Gauge.builder("event.producer.batch.buffered", buffer, BlockingQueue::size)
+         .description("버퍼에 대기 중인 이벤트 수")
+         .register(meterRegistry);
+  }
+
+  /**
+   * flusher 스레드 시작
+   */
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    flusherThread = new Thread(this::runFlushLoop, FLUSHER_THREAD_NAME);
+    flusherThread.setDaemon(true);
+    flusherThread.start();
+    log.info("Redis stream batch publisher started. size={}, linger={}, capacity={}, overflowPolicy={}",
+             properties.getSize(), properties.getLinger(), properties.getCapacity(), properties.getOverflowPolicy());
+  }
+
+  /**
+   * flusher 스레드 중지 후 버퍼에 남은 이벤트를 모두 flush
+   */
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    runningLock.writeLock().lock();
+    try {
+      running = false; // 진행 중인 적재가 끝난 뒤에 중지 (이후 enqueue 는 직접 저장)
+    } finally {
+      runningLock.writeLock().unlock();
+    }
+
+    try {
+      flusherThread.join(IDLE_POLL_TIMEOUT.plus(properties.getLinger()).multipliedBy(2).toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    List<StreamEvent> remaining = new ArrayList<>(properties.getSize());
+    while (buffer.drainTo(remaining, properties.getSize()) > 0) {
+      flush(remaining);
+      remaining.clear();
+    }
+    log.info("Redis stream batch publisher stopped.");
+  }
+
+  /**
+   * 이벤트를 버퍼에 적재 (버퍼가 가득 찬 경우 OverflowPolicy 에 따라 처리)
+   * -> 중지된 상태이거나 CALLER_RUNS 정책이면 요청 스레드에서 직접 저장
+   */
+  public void enqueue(StreamEvent event) {
+    boolean handled;
+    runningLock.readLock().lock();
+    try {
+      handled = running && offerToBuffer(event);
+    } finally {
+      runningLock.readLock().unlock();
+    }
+
+    if (!handled) {
+      flush(List.of(event)); // lock 밖에서 저장하여 Redis 왕복 동안 stop() 을 막지 않음
+    }
+  }
+
+  /**
+   * 버퍼 적재 시도 (적재 또는 유실 처리되면 true, 호출 스레드가 직접 저장해야 하면 false)
+   * -> BLOCK 정책의 대기 동안 read lock 을 잡고 있으므로 stop() 은 최대 blockTimeout 만큼 지연될 수 있음
+   */
+  private boolean offerToBuffer(StreamEvent event) {
+    if (buffer.offer(event)) {
+      return true;
+    }
+
+    return switch (properties.getOverflowPolicy()) {
+      case BLOCK -> {
+        enqueueWithTimeout(event);
+        yield true;
+      }
+      case DROP_OLDEST -> {
+        enqueueDroppingOldest(event);
+        yield true;
+      }
+      case CALLER_RUNS -> false;
+    };
+  }
+
+  private void enqueueWithTimeout(StreamEvent event) {
+    try {
+      if (!buffer.offer(event, properties.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        droppedCounter.increment();
+        log.warn("Event dropped. buffer is full after waiting {}. streamKey={}", properties.getBlockTimeout(), event.streamKey());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      droppedCounter.increment();
+      log.warn("Interrupted while waiting for buffer space. Event dropped. streamKey={}", event.streamKey());
+    }
+  }
+
+  private void enqueueDroppingOldest(StreamEvent event) {
+    while (!buffer.offer(event)) {
+      if (nonNull(buffer.poll())) {
+        droppedCounter.increment();
+      }
+    }
+  }
+
+  private void runFlushLoop() {
+    List<StreamEvent> batch = new ArrayList<>(properties.getSize());
+
+    while (running) {
+      try {
+        collectBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+      flush(batch);
+      batch.clear();
+    }
+  }
+
+  /**
+   * 첫 이벤트가 들어온 시점부터 linger 시간 동안, 최대 batch size 만큼 이벤트를 모음
+   */
+  private void collectBatch(List<StreamEvent> batch) throws InterruptedException {
+    StreamEvent first = buffer.poll(IDLE_POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    if (isNull(first)) {
+      return;
+    }
+    batch.add(first);
+
+    long deadline = System.nanoTime() + properties.getLinger().toNanos();
+    while (batch.size() < properties.getSize()) {
+      if (buffer.drainTo(batch, properties.getSize() - batch.size()) > 0) {
+        continue;
+      }
+
+      long remainingNanos = deadline - System.nanoTime();
+      if (remainingNanos <= 0) {
+        return;
+      }
+
+      StreamEvent next = buffer.poll(remainingNanos, TimeUnit.NANOSECONDS);
+      if (isNull(next)) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  /**
+   * 모아둔 이벤트를 하나의 pipeline 으로 XADD (스트림별 트리밍 옵션 적용)
+   * -> 실패 시 spill 큐에 보관하여 Redis 복구 후 재전송
+   * -> spill circuit 이 열려 있거나 재전송 대기 중인 이벤트가 있으면 Redis 를 호출하지 않고 바로 보관
+   */
+  void flush(List<StreamEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    if (nonNull(spillBuffer) && spillBuffer.isDiverting()) {
+      int spilled = spillBuffer.spill(events);
+      failedCounter.increment(events.size() - spilled);
+      log.debug("Spilled {} events to local queue.", spilled);
+      return;
+    }
+
+    try {
+      stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        StringRedisConnection stringConnection = (StringRedisConnection) connection;
+        for (StreamEvent event : events) {
+          trimPolicy.add(stringConnection, event.streamKey(), event.body());
+        }
+        return null;
+      });
+      flushSizeSummary.record(events.size());
+      log.debug("Flushed {} events to redis stream.", events.size());
+    } catch (Exception exception) {
+      int spilled = 0;
+      if (nonNull(spillBuffer)) {
+        spillBuffer.openCircuit(exception);
+        spilled = spillBuffer.spill(events);
+      }
+      failedCounter.increment(events.size() - spilled);
+      log.error("Failed to flush events. count={}, spilled={}, ErrorMessage={}",
+                events.size(), spilled, exception.getMessage(), exception);
+    }
+  }
+}
@@ -1,7 +1,20 @@
 package com.event.infra.event.producer;
 
+import com.event.infra.event.StreamEntryCodec;
+import com.event.infra.event.redis.StreamShardResolver;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties.Encoding;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties.PublishMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -10,18 +23,65 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.Objects.nonNull;
+
 @Slf4j
 @Component
 public class RedisStreamEventProducer implements EventProducer {
 
-  private static final String EVENT_STREAM_KEY = "EVENT_STREAM";
+  public static final String EVENT_STREAM_KEY = "EVENT_STREAM"; // 논리 스트림 키 (샤딩 시 StreamShardResolver 가 샤드 키로 변환)
 
 
   private final StringRedisTemplate stringRedisTemplate;
+  private final StreamTrimPolicy trimPolicy;
+  private final StreamShardResolver shardResolver;
+  private final RedisStreamSpillBuffer spillBuffer;
+  private final RedisStreamBatchPublisher batchPublisher; // BATCH 모드에서만 생성 (SYNC 모드는 null)
+  private final boolean compactEncoding;
+  private final Timer publishTimer;
+  private final Counter publishFailedCounter;
 
   @Autowired
-  public RedisStreamEventProducer(StringRedisTemplate stringRedisTemplate) {
+  public RedisStreamEventProducer(StringRedisTemplate stringRedisTemplate,
+                                  RedisStreamProducerProperties producerProperties,
+                                  StreamTrimPolicy trimPolicy,
+                                  StreamShardResolver shardResolver,
+                                  RedisStreamSpillBuffer spillBuffer,
+                                  MeterRegistry meterRegistry) {
     this.stringRedisTemplate = stringRedisTemplate;
+    this.trimPolicy = trimPolicy;
+    this.shardResolver = shardResolver;
+    this.spillBuffer = spillBuffer;
+    this.compactEncoding = producerProperties.encoding() == Encoding.COMPACT;
+    this.batchPublisher = producerProperties.mode() == PublishMode.BATCH
+        ? new RedisStreamBatchPublisher(stringRedisTemplate, producerProperties.batch(), trimPolicy, spillBuffer, meterRegistry)
+        : null;
+
+    // NOTE: SYNC 모드는 XADD 왕복 시간, BATCH 모드는 버퍼 적재 시간 (XADD 실패는 event.producer.batch.failed)
+    String mode = producerProperties.mode().name();
+    this.publishTimer = Timer.builder("event.producer.publish")
+                             .description("이벤트 발행 호출 소요 시간")
+                             .tag("mode", mode)
+                             .publishPercentileHistogram()
+                             .register(meterRegistry);
+    this.publishFailedCounter = Counter.builder("event.producer.publish.failed")
+                                       .description("이벤트 발행 실패 수")
+                                       .tag("mode", mode)
+                                       .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void init() {
+    if (nonNull(batchPublisher)) {
+      batchPublisher.start();
+    }
+  }
+
+  @PreDestroy
+  public void destroy() {
+    if (nonNull(batchPublisher)) {
+      batchPublisher.stop();
+    }
   }
 
   /**
@@ -38,6 +98,7 @@ public class RedisStreamEventProducer implements EventProducer {
    * @param userAgent      사용자 에이전트 정보
    * @param inputs         API 호출 시 전달된 입력 값
    * @param outputs        API 호출 후 반환된 출력 값
+   * @param sampleWeight   이 이벤트가 대표하는 요청 수 (샘플링하지 않으면 1)
    */
   @Override
   public void publishEvent(String type,
@@ -51,8 +112,10 @@ public class RedisStreamEventProducer implements EventProducer {
                            String ipAddress,
                            String userAgent,
                            String inputs,
-                           String outputs
+                           String outputs,
+                           double sampleWeight
   ) {
+    Timer.Sample sample = Timer.start();
     try {
       Map<String, String> eventData = new HashMap<>();
       eventData.put("type", type);
@@ -67,12 +130,49 @@ public class RedisStreamEventProducer implements EventProducer {
       eventData.put("userAgent", userAgent);
       eventData.put("inputs", inputs);
       eventData.put("outputs", outputs);
+      eventData.put("sampleWeight", String.valueOf(sampleWeight));
       eventData.put("createdAt", OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
 
-      stringRedisTemplate.opsForStream().add(EVENT_STREAM_KEY, eventData);
+      String streamKey = shardResolver.shardKeyOf(EVENT_STREAM_KEY, eventData); // 파티션 키 기준 샤드 선택
+      Map<String, String> entry = compactEncoding ? StreamEntryCodec.encode(eventData) : eventData;
+      if (nonNull(batchPublisher)) {
+        batchPublisher.enqueue(new StreamEvent(streamKey, entry));
+        log.debug("event buffered: type: {}, eventData: {}", type, eventData);
+        return;
+      }
+
+      publish(new StreamEvent(streamKey, entry));
       log.info("event published: type: {}, eventData: {}", type, eventData);
     } catch (Exception exception) {
+      publishFailedCounter.increment();
       log.error("Failed to publish event. Type={}, ErrorMessage={}", type, exception.getMessage(), exception);
+    } finally {
+      sample.stop(publishTimer);
+    }
+  }
+
+  /**
+   * XADD 실패 시 spill 큐에 보관 (보관하지 못한 경우에만 예외 전파)
+   * -> spill circuit 이 열려 있거나 재전송 대기 중인 이벤트가 있으면 Redis 를 호출하지 않고 바로 보관
+   */
+  private void publish(StreamEvent event) {
+    if (spillBuffer.isDiverting()) {
+      if (!spillBuffer.spill(event)) {
+        throw new IllegalStateException("Spill queue is full. streamKey=" + event.streamKey());
+      }
+      return;
+    }
+
+    try {
+      stringRedisTemplate.execute((RedisCallback<RecordId>) connection ->
+          trimPolicy.add((StringRedisConnection) connection, event.streamKey(), event.body()));
+    } catch (Exception exception) {
+      spillBuffer.openCircuit(exception);
+      if (!spillBuffer.spill(event)) {
+        throw exception;
+      }
+      log.warn("Failed to publish event. Spilled to local queue. streamKey={}, ErrorMessage={}",
+               event.streamKey(), exception.getMessage());
     }
   }
 }
\ No newline at end of file
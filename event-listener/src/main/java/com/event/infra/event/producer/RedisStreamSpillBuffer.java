@@ -0,0 +1,356 @@
+package com.event.infra.event.producer;
+
+import com.event.infra.event.monitoring.HealthChecker;
+import com.event.infra.event.producer.StreamSpillQueue.Entry;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties.Spill;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Redis 장애 중 발행된 이벤트를 로컬 spill 큐(StreamSpillQueue)에 보관하고, 복구 후 순서대로 재전송
+ * -> XADD/pipeline flush 가 한 번 실패하면 circuit 을 열고, 열려 있는 동안은 Redis 를 호출하지 않고 바로 큐에 보관
+ * -> 큐가 비어 있지 않은 동안에도 새 이벤트를 큐 뒤에 보관하여, 같은 샤드 키의 이벤트가 발행 순서대로 저장되도록 함
+ * -> 전용 replay 스레드가 replayInterval 마다 HealthChecker 로 상태를 확인하고, 정상이면 circuit 을 닫은 뒤
+ *    replayBatchSize 단위 pipeline XADD 로 초당 replayRatePerSecond 건 이하로 재전송
+ * -> pipeline 중 일부 엔트리가 실패하면 첫 번째 실패 엔트리 앞까지만 완료 처리하고, 실패 엔트리부터는 큐 앞에 남겨 순서를 유지
+ *    (실패 엔트리 뒤에서 이미 저장된 엔트리는 다시 전송되므로 중복 저장될 수 있음)
+ * -> 연결 오류, 노드 failover(CLUSTERDOWN, LOADING 등)는 시도 횟수에 포함하지 않고 circuit 을 다시 열어 복구 후 재전송
+ * -> 명령 오류(WRONGTYPE 등)만 시도 횟수에 포함하며, maxReplayAttempts 회 실패하면 dead-letter 큐로 이동
+ *    (dead-letter 큐는 재전송하지 않으므로 event.producer.spill.dead_lettered 알림 후 운영자가 확인)
+ */
+@Slf4j
+@Component
+public class RedisStreamSpillBuffer {
+
+  private static final String REPLAY_THREAD_NAME = "redis-stream-spill-replayer";
+  private static final String DEAD_LETTER_DIRECTORY = "dead-letter";
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+  // 노드 failover/재시작 중 일시적으로 반환되는 오류 (명령 오류가 아니므로 시도 횟수에 포함하지 않음)
+  private static final List<String> TRANSIENT_ERROR_PREFIXES =
+      List.of("CLUSTERDOWN", "LOADING", "TRYAGAIN", "READONLY", "MASTERDOWN", "MOVED", "ASK", "OOM");
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final StreamTrimPolicy trimPolicy;
+  private final HealthChecker healthChecker;
+  private final Spill properties;
+  private final StreamSpillQueue spillQueue;      // spill 비활성화 시 null
+  private final StreamSpillQueue deadLetterQueue; // spill 비활성화 시 null
+
+  private final Counter spilledCounter;
+  private final Counter droppedCounter;
+  private final Counter replayedCounter;
+  private final Counter retriedCounter;
+  private final Counter deadLetteredCounter;
+
+  private volatile boolean circuitOpen; // true 이면 Redis 를 호출하지 않고 큐에 보관
+  private ScheduledExecutorService replayExecutor;
+
+  @Autowired
+  public RedisStreamSpillBuffer(StringRedisTemplate stringRedisTemplate,
+                                RedisStreamProducerProperties producerProperties,
+                                StreamTrimPolicy trimPolicy,
+                                HealthChecker healthChecker,
+                                MeterRegistry meterRegistry) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.trimPolicy = trimPolicy;
+    this.healthChecker = healthChecker;
+    this.properties = producerProperties.spill();
+    this.spillQueue = properties.isEnabled()
+        ? openQueue(Path.of(properties.getDirectory()), properties.getMaxBytes())
+        : null;
+    this.deadLetterQueue = properties.isEnabled()
+        ? openQueue(Path.of(properties.getDirectory(), DEAD_LETTER_DIRECTORY),
+                    Math.max(properties.getSegmentBytes(), properties.getDeadLetterMaxBytes()))
+        : null;
+
+    this.spilledCounter = Counter.builder("event.producer.spill.spilled")
+                                 .description("Redis 장애로 로컬 spill 큐에 보관된 이벤트 수")
+                                 .register(meterRegistry);
+    this.droppedCounter = Counter.builder("event.producer.spill.dropped")
+                                 .description("spill 큐 디스크 상한 초과 또는 기록 실패로 유실된 이벤트 수")
+                                 .register(meterRegistry);
+    this.replayedCounter = Counter.builder("event.producer.spill.replayed")
+                                  .description("spill 큐에서 Redis 로 재전송된 이벤트 수")
+                                  .register(meterRegistry);
+    this.retriedCounter = Counter.builder("event.producer.spill.retried")
+                                 .description("명령 오류로 재전송에 실패하여 큐 앞에서 다시 시도할 이벤트 수")
+                                 .register(meterRegistry);
+    this.deadLetteredCounter = Counter.builder("event.producer.spill.dead_lettered")
+                                      .description("명령 오류로 maxReplayAttempts 회 재전송에 실패하여 dead-letter 큐로 이동한 이벤트 수")
+                                      .register(meterRegistry);
+    if (nonNull(spillQueue)) {
+      Gauge.builder("event.producer.spill.pending", spillQueue, StreamSpillQueue::pendingCount)
+           .description("spill 큐에서 재전송 대기 중인 이벤트 수")
+           .register(meterRegistry);
+      Gauge.builder("event.producer.spill.disk.bytes", spillQueue, StreamSpillQueue::diskBytes)
+           .description("spill 큐 세그먼트 파일 크기 합계")
+           .register(meterRegistry);
+      Gauge.builder("event.producer.spill.dead_letter.pending", deadLetterQueue, StreamSpillQueue::pendingCount)
+           .description("dead-letter 큐에 보관된 이벤트 수")
+           .register(meterRegistry);
+      Gauge.builder("event.producer.spill.circuit.open", this, buffer -> buffer.circuitOpen ? 1 : 0)
+           .description("Redis 호출 없이 spill 큐에 보관 중인지 여부 (1: circuit open)")
+           .register(meterRegistry);
+    }
+  }
+
+  private StreamSpillQueue openQueue(Path directory, long maxBytes) {
+    try {
+      StreamSpillQueue queue = new StreamSpillQueue(directory, properties.getSegmentBytes(), maxBytes);
+      log.info("Redis stream spill queue opened. directory={}, segmentBytes={}, maxBytes={}, pending={}",
+               directory, properties.getSegmentBytes(), maxBytes, queue.pendingCount());
+      return queue;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open spill directory: " + directory, e);
+    }
+  }
+
+  /**
+   * replay 전용 스레드 시작 (공용 TaskScheduler 스레드를 재전송 대기 시간 동안 점유하지 않도록 분리)
+   */
+  @PostConstruct
+  public void start() {
+    if (isNull(spillQueue)) {
+      return;
+    }
+    long intervalMillis = properties.getReplayInterval().toMillis();
+    replayExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                                                                      .name(REPLAY_THREAD_NAME)
+                                                                      .daemon(true)
+                                                                      .factory());
+    replayExecutor.scheduleWithFixedDelay(this::replay, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Redis 를 호출하지 않고 바로 큐에 보관해야 하는지 여부
+   * -> circuit 이 열려 있거나 재전송 대기 중인 이벤트가 남아 있으면 true (새 이벤트가 먼저 보관된 이벤트를 앞지르지 않도록 함)
+   */
+  public boolean isDiverting() {
+    return nonNull(spillQueue) && (circuitOpen || !spillQueue.isEmpty());
+  }
+
+  /**
+   * Redis 저장 실패 시 circuit 을 열어 이후 이벤트는 Redis 호출 없이 큐에 보관 (replay 가 복구를 확인하면 닫힘)
+   */
+  public void openCircuit(Exception cause) {
+    if (isNull(spillQueue) || circuitOpen) {
+      return;
+    }
+    circuitOpen = true;
+    log.warn("Redis write failed. Spill circuit opened. ErrorMessage={}", cause.getMessage());
+  }
+
+  /**
+   * 이벤트를 spill 큐에 보관
+   *
+   * @return 보관 여부 (spill 비활성화, 디스크 상한 초과, 기록 실패 시 false)
+   */
+  public boolean spill(StreamEvent event) {
+    if (isNull(spillQueue)) {
+      return false;
+    }
+
+    try {
+      if (spillQueue.append(event)) {
+        spilledCounter.increment();
+        return true;
+      }
+      log.warn("Spill queue is full. Event dropped. streamKey={}, maxBytes={}", event.streamKey(), properties.getMaxBytes());
+    } catch (IOException e) {
+      log.error("Failed to spill event. streamKey={}, ErrorMessage={}", event.streamKey(), e.getMessage(), e);
+    }
+    droppedCounter.increment();
+    return false;
+  }
+
+  /**
+   * @return 보관된 이벤트 수
+   */
+  public int spill(List<StreamEvent> events) {
+    int spilled = 0;
+    for (StreamEvent event : events) {
+      if (spill(event)) {
+        spilled++;
+      }
+    }
+    return spilled;
+  }
+
+  /**
+   * Redis 가 정상이면 circuit 을 닫고 보관된 이벤트를 기록 순서대로 재전송 (한 주기에 최대 replayRatePerSecond x replayInterval 건)
+   */
+  void replay() {
+    try {
+      if (!circuitOpen && spillQueue.isEmpty()) {
+        return;
+      }
+      if (!healthChecker.isHealthy()) {
+        circuitOpen = true;
+        log.warn("Redis is unhealthy. Spilled events will be replayed later. pending={}", spillQueue.pendingCount());
+        return;
+      }
+      if (circuitOpen) {
+        circuitOpen = false;
+        log.info("Redis recovered. Spill circuit closed. pending={}", spillQueue.pendingCount());
+      }
+      replayPending();
+    } catch (Exception e) {
+      log.error("Spill replay failed. pending={}, ErrorMessage={}", spillQueue.pendingCount(), e.getMessage(), e);
+    }
+  }
+
+  private void replayPending() throws IOException {
+    int ratePerSecond = Math.max(1, properties.getReplayRatePerSecond());
+    long budget = Math.max(1, ratePerSecond * properties.getReplayInterval().toMillis() / 1000);
+    long sent = 0; // 재전송 시도한 엔트리 수 (실패 엔트리 뒤의 엔트리는 다시 전송되므로 replayed 와 다를 수 있음)
+    long replayed = 0;
+
+    while (sent < budget) {
+      List<Entry> batch = spillQueue.peek((int) Math.min(properties.getReplayBatchSize(), budget - sent));
+      if (batch.isEmpty()) {
+        break;
+      }
+
+      List<Object> results;
+      try {
+        results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+          StringRedisConnection stringConnection = (StringRedisConnection) connection;
+          for (Entry entry : batch) {
+            trimPolicy.add(stringConnection, entry.event().streamKey(), entry.event().body());
+          }
+          return null;
+        });
+      } catch (RedisPipelineException e) {
+        results = e.getPipelineResult(); // 엔트리별 결과 (실패한 엔트리는 예외 객체)
+      } catch (Exception e) {
+        circuitOpen = true;
+        log.warn("Failed to replay spilled events. replayed={}, pending={}, ErrorMessage={}",
+                 replayed, spillQueue.pendingCount(), e.getMessage());
+        return;
+      }
+
+      if (results.size() != batch.size()) {
+        log.warn("Pipeline result size mismatch. Batch will be retried. expected={}, actual={}", batch.size(), results.size());
+        return;
+      }
+
+      sent += batch.size();
+      int succeeded = successPrefixLength(results);
+      spillQueue.commit(succeeded);
+      replayed += succeeded;
+      replayedCounter.increment(succeeded);
+
+      if (succeeded < batch.size() && !settleFailed(batch.get(succeeded), (Throwable) results.get(succeeded))) {
+        return; // 다음 주기에 상태 확인 후 실패한 엔트리부터 다시 시도
+      }
+
+      // NOTE: 묶음 크기만큼의 시간 간격을 두어 초당 replayRatePerSecond 건을 넘지 않도록 함 (전용 스레드에서만 대기)
+      try {
+        TimeUnit.MICROSECONDS.sleep(batch.size() * 1_000_000L / ratePerSecond);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+
+    log.info("Replayed spilled events. replayed={}, pending={}", replayed, spillQueue.pendingCount());
+  }
+
+  /**
+   * 앞에서부터 연속으로 저장에 성공한 엔트리 수
+   */
+  private static int successPrefixLength(List<Object> results) {
+    int succeeded = 0;
+    while (succeeded < results.size() && !(results.get(succeeded) instanceof Throwable)) {
+      succeeded++;
+    }
+    return succeeded;
+  }
+
+  /**
+   * 큐 맨 앞의 실패한 엔트리 처리
+   * -> 연결 오류/failover 는 circuit 을 열고 그대로 두며, 명령 오류는 시도 횟수를 늘리고 maxReplayAttempts 에 도달하면 dead-letter 큐로 이동
+   *
+   * @return 엔트리를 큐에서 제거하여 이어서 재전송해도 되면 true
+   */
+  private boolean settleFailed(Entry entry, Throwable error) throws IOException {
+    if (!isCommandError(error)) {
+      circuitOpen = true;
+      log.warn("Redis is unavailable during replay. Spill circuit opened. pending={}, ErrorMessage={}",
+               spillQueue.pendingCount(), error.getMessage());
+      return false;
+    }
+
+    int attempts = entry.attempts() + 1;
+    if (attempts < properties.getMaxReplayAttempts()) {
+      spillQueue.recordAttempt(attempts);
+      retriedCounter.increment();
+      log.warn("Spilled event replay failed. Will retry. attempts={}, streamKey={}, ErrorMessage={}",
+               attempts, entry.event().streamKey(), error.getMessage());
+      return false;
+    }
+
+    log.error("Spilled event failed {} replay attempts. Moving to dead-letter queue. streamKey={}, ErrorMessage={}",
+              attempts, entry.event().streamKey(), error.getMessage());
+    if (deadLetterQueue.append(entry.event(), attempts)) {
+      deadLetteredCounter.increment();
+    } else {
+      droppedCounter.increment();
+    }
+    spillQueue.commit(1);
+    return true;
+  }
+
+  /**
+   * Redis 가 명령을 거부한 오류인지 여부 (연결 오류, 타임아웃, failover 중 일시적 오류는 false)
+   */
+  static boolean isCommandError(Throwable error) {
+    for (Throwable cause = error; nonNull(cause); cause = cause.getCause()) {
+      if (cause instanceof RedisCommandExecutionException) {
+        String message = String.valueOf(cause.getMessage());
+        return TRANSIENT_ERROR_PREFIXES.stream().noneMatch(message::startsWith);
+      }
+    }
+    return false;
+  }
+
+  @PreDestroy
+  public void close() {
+    if (isNull(spillQueue)) {
+      return;
+    }
+    if (nonNull(replayExecutor)) {
+      replayExecutor.shutdownNow();
+      try {
+        replayExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    spillQueue.close();
+    deadLetterQueue.close();
+  }
+}
@@ -0,0 +1,12 @@
+package com.event.infra.event.producer;
+
+import java.util.Map;
+
+/**
+ * Redis Stream에 저장될 이벤트 (streamKey + field/value 데이터)
+ */
+public record StreamEvent(
+    String streamKey,
+    Map<String, String> body) {
+
+}
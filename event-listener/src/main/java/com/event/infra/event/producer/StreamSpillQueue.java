@@ -0,0 +1,360 @@
+package com.event.infra.event.producer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Redis 에 저장하지 못한 이벤트를 로컬 디스크에 보관하는 append-only 큐
+ * -> 고정 크기 세그먼트 파일을 memory-mapped 로 열어 순서대로 기록하고, 가득 차면 다음 세그먼트로 교체 (rotation)
+ * -> 레코드: [length(int)][state(byte)][payload] (length 는 payload 를 모두 쓴 뒤 기록하므로 중간에 종료되어도 불완전한 레코드는 읽지 않음)
+ * -> state 는 재전송 시도 횟수이며, 재전송이 끝난 레코드는 REPLAYED 로 표시하고 모두 재전송된 세그먼트는 삭제
+ * -> 세그먼트 수 x segmentBytes 가 maxBytes 를 넘으면 새 이벤트는 보관하지 않음 (디스크 사용량 상한)
+ * -> 매핑된 페이지는 OS 가 디스크에 기록하므로 프로세스 종료에는 안전하지만, OS 장애 시 rotation/close 이전 기록은 유실될 수 있음
+ */
+@Slf4j
+public class StreamSpillQueue implements AutoCloseable {
+
+  private static final String SEGMENT_PREFIX = "spill-";
+  private static final String SEGMENT_SUFFIX = ".seg";
+  private static final int HEADER_BYTES = Integer.BYTES + Byte.BYTES;
+  private static final byte REPLAYED = -1;
+  private static final int NULL_LENGTH = -1;
+
+  private final Path directory;
+  private final int segmentBytes;
+  private final long maxBytes;
+  private final Deque<Segment> segments = new ArrayDeque<>(); // head: 재전송 중인 세그먼트, tail: 기록 중인 세그먼트
+
+  private volatile long pendingCount; // 변경은 lock 안에서만 수행 (isEmpty 는 lock 없이 조회)
+
+  public StreamSpillQueue(Path directory, long segmentBytes, long maxBytes) throws IOException {
+    if (segmentBytes <= HEADER_BYTES || segmentBytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("segmentBytes must be between " + (HEADER_BYTES + 1) + " and " + Integer.MAX_VALUE);
+    }
+    if (maxBytes < segmentBytes) {
+      throw new IllegalArgumentException("maxBytes must be greater than or equal to segmentBytes");
+    }
+    this.directory = directory;
+    this.segmentBytes = (int) segmentBytes;
+    this.maxBytes = maxBytes;
+
+    Files.createDirectories(directory);
+    recover();
+  }
+
+  /**
+   * 이전 실행에서 남은 세그먼트를 순서대로 열어 재전송 위치/기록 위치 복원
+   */
+  private void recover() throws IOException {
+    List<Path> paths;
+    try (Stream<Path> files = Files.list(directory)) {
+      paths = files.filter(StreamSpillQueue::isSegmentFile)
+                   .sorted()
+                   .toList();
+    }
+
+    for (Path path : paths) {
+      Segment segment = Segment.open(path, sequenceOf(path), segmentBytes);
+      if (segment.isFullyReplayed()) {
+        Files.deleteIfExists(path);
+        continue;
+      }
+      segments.addLast(segment);
+      pendingCount += segment.pendingCount;
+    }
+
+    if (pendingCount > 0) {
+      log.warn("Recovered spilled events. pending={}, segments={}, directory={}", pendingCount, segments.size(), directory);
+    }
+  }
+
+  /**
+   * 이벤트를 tail 세그먼트에 기록 (공간이 없으면 새 세그먼트 생성)
+   *
+   * @return 보관 여부 (레코드가 세그먼트보다 크거나 디스크 상한에 도달한 경우 false)
+   */
+  public boolean append(StreamEvent event) throws IOException {
+    return append(event, 0);
+  }
+
+  /**
+   * 이벤트를 시도 횟수와 함께 기록 (dead-letter 큐로 옮길 때 사용)
+   */
+  public synchronized boolean append(StreamEvent event, int attempts) throws IOException {
+    byte[] payload = serialize(event);
+    if (HEADER_BYTES + payload.length > segmentBytes) {
+      return false;
+    }
+
+    Segment tail = segments.peekLast();
+    if (isNull(tail) || !tail.hasRoomFor(payload.length)) {
+      if ((long) (segments.size() + 1) * segmentBytes > maxBytes) {
+        return false;
+      }
+      if (!isNull(tail)) {
+        tail.force();
+      }
+      long sequence = isNull(tail) ? 0 : tail.sequence + 1;
+      tail = Segment.create(directory.resolve(segmentName(sequence)), sequence, segmentBytes);
+      segments.addLast(tail);
+    }
+
+    tail.append(payload, (byte) Math.min(attempts, Byte.MAX_VALUE));
+    pendingCount++;
+    return true;
+  }
+
+  /**
+   * 재전송 대기 중인 이벤트를 기록 순서대로 최대 maxCount 건 조회 (상태는 변경하지 않음)
+   */
+  public synchronized List<Entry> peek(int maxCount) {
+    List<Entry> events = new ArrayList<>(Math.min(maxCount, (int) Math.min(pendingCount, Integer.MAX_VALUE)));
+    for (Segment segment : segments) {
+      int position = segment.readPosition;
+      while (events.size() < maxCount && position < segment.writePosition) {
+        int length = segment.buffer.getInt(position);
+        events.add(new Entry(deserialize(segment.read(position + HEADER_BYTES, length)),
+                             segment.buffer.get(position + Integer.BYTES)));
+        position += HEADER_BYTES + length;
+      }
+      if (events.size() >= maxCount) {
+        break;
+      }
+    }
+    return events;
+  }
+
+  /**
+   * peek 으로 조회한 앞쪽 count 건을 재전송 완료로 표시하고, 모두 재전송된 세그먼트 삭제
+   */
+  public synchronized void commit(int count) throws IOException {
+    int remaining = count;
+    Iterator<Segment> iterator = segments.iterator();
+    while (remaining > 0 && iterator.hasNext()) {
+      Segment segment = iterator.next();
+      while (remaining > 0 && segment.readPosition < segment.writePosition) {
+        segment.markReplayed();
+        remaining--;
+        pendingCount--;
+      }
+
+      if (segment.isFullyReplayed() && segment != segments.peekLast()) {
+        iterator.remove();
+        Files.deleteIfExists(segment.path); // 매핑은 GC 시점에 해제 (삭제된 파일의 공간도 그때 반환)
+      }
+    }
+  }
+
+  /**
+   * 재전송에 실패한 맨 앞 이벤트의 시도 횟수 갱신 (순서가 바뀌지 않도록 위치는 그대로 두고 다음 재전송에서 다시 시도)
+   */
+  public synchronized void recordAttempt(int attempts) {
+    for (Segment segment : segments) {
+      if (segment.readPosition < segment.writePosition) {
+        segment.buffer.put(segment.readPosition + Integer.BYTES, (byte) Math.min(attempts, Byte.MAX_VALUE));
+        return;
+      }
+    }
+  }
+
+  public boolean isEmpty() {
+    return pendingCount == 0;
+  }
+
+  public long pendingCount() {
+    return pendingCount;
+  }
+
+  /**
+   * 세그먼트 파일이 차지하는 디스크 크기 (세그먼트는 생성 시 segmentBytes 만큼 할당)
+   */
+  public synchronized long diskBytes() {
+    return (long) segments.size() * segmentBytes;
+  }
+
+  @Override
+  public synchronized void close() {
+    segments.forEach(Segment::force);
+  }
+
+  private static boolean isSegmentFile(Path path) {
+    String name = path.getFileName().toString();
+    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+  }
+
+  private static long sequenceOf(Path path) {
+    String name = path.getFileName().toString();
+    return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  private static String segmentName(long sequence) {
+    return SEGMENT_PREFIX + String.format("%020d", sequence) + SEGMENT_SUFFIX; // 파일명 정렬 = 생성 순서
+  }
+
+  /**
+   * payload: [field 수(int)][streamKey]([field][value])* (문자열은 [length(int)][UTF-8], null 은 length -1)
+   */
+  static byte[] serialize(StreamEvent event) {
+    List<byte[]> strings = new ArrayList<>(event.body().size() * 2 + 1);
+    strings.add(bytesOf(event.streamKey()));
+    event.body().forEach((field, value) -> {
+      strings.add(bytesOf(field));
+      strings.add(bytesOf(value));
+    });
+
+    int size = Integer.BYTES;
+    for (byte[] string : strings) {
+      size += Integer.BYTES + (isNull(string) ? 0 : string.length);
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.putInt(event.body().size());
+    for (byte[] string : strings) {
+      if (isNull(string)) {
+        buffer.putInt(NULL_LENGTH);
+        continue;
+      }
+      buffer.putInt(string.length);
+      buffer.put(string);
+    }
+    return buffer.array();
+  }
+
+  static StreamEvent deserialize(byte[] payload) {
+    ByteBuffer buffer = ByteBuffer.wrap(payload);
+    int fieldCount = buffer.getInt();
+    String streamKey = readString(buffer);
+    Map<String, String> body = new LinkedHashMap<>(fieldCount * 2);
+    for (int i = 0; i < fieldCount; i++) {
+      body.put(readString(buffer), readString(buffer));
+    }
+    return new StreamEvent(streamKey, body);
+  }
+
+  private static byte[] bytesOf(String value) {
+    return isNull(value) ? null : value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+    String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+    buffer.position(buffer.position() + length);
+    return value;
+  }
+
+  private static class Segment {
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+
+    private int readPosition;  // 재전송되지 않은 첫 레코드 위치
+    private int writePosition; // 다음 레코드를 기록할 위치
+    private long pendingCount;
+
+    private Segment(Path path, long sequence, MappedByteBuffer buffer) {
+      this.path = path;
+      this.sequence = sequence;
+      this.buffer = buffer;
+    }
+
+    static Segment create(Path path, long sequence, int segmentBytes) throws IOException {
+      return new Segment(path, sequence, map(path, segmentBytes, StandardOpenOption.CREATE_NEW));
+    }
+
+    /**
+     * 레코드를 처음부터 읽어 기록/재전송 위치 복원 (length 가 0 이거나 범위를 벗어나면 기록 끝)
+     */
+    static Segment open(Path path, long sequence, int segmentBytes) throws IOException {
+      Segment segment = new Segment(path, sequence, map(path, segmentBytes));
+      MappedByteBuffer buffer = segment.buffer;
+
+      int position = 0;
+      boolean replaying = true;
+      while (position + HEADER_BYTES <= segmentBytes) {
+        int length = buffer.getInt(position);
+        if (length <= 0 || position + HEADER_BYTES + length > segmentBytes) {
+          break;
+        }
+        if (buffer.get(position + Integer.BYTES) == REPLAYED && replaying) {
+          segment.readPosition = position + HEADER_BYTES + length;
+        } else {
+          replaying = false;
+          segment.pendingCount++;
+        }
+        position += HEADER_BYTES + length;
+      }
+      segment.writePosition = position;
+      return segment;
+    }
+
+    private static MappedByteBuffer map(Path path, int segmentBytes, StandardOpenOption... extraOptions) throws IOException {
+      List<StandardOpenOption> options = new ArrayList<>(List.of(StandardOpenOption.READ, StandardOpenOption.WRITE));
+      options.addAll(List.of(extraOptions));
+      try (FileChannel channel = FileChannel.open(path, options.toArray(StandardOpenOption[]::new))) {
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes); // 채널을 닫아도 매핑은 유지
+      }
+    }
+
+    boolean hasRoomFor(int payloadLength) {
+      return (long) writePosition + HEADER_BYTES + payloadLength <= buffer.capacity();
+    }
+
+    void append(byte[] payload, byte attempts) {
+      buffer.put(writePosition + Integer.BYTES, attempts);
+      buffer.put(writePosition + HEADER_BYTES, payload);
+      buffer.putInt(writePosition, payload.length); // 마지막에 기록하여 레코드 완료 표시
+      writePosition += HEADER_BYTES + payload.length;
+      pendingCount++;
+    }
+
+    byte[] read(int position, int length) {
+      byte[] payload = new byte[length];
+      buffer.get(position, payload);
+      return payload;
+    }
+
+    void markReplayed() {
+      int length = buffer.getInt(readPosition);
+      buffer.put(readPosition + Integer.BYTES, REPLAYED);
+      readPosition += HEADER_BYTES + length;
+      pendingCount--;
+    }
+
+    boolean isFullyReplayed() {
+      return pendingCount == 0;
+    }
+
+    void force() {
+      buffer.force();
+    }
+  }
+
+  /**
+   * 재전송 대기 중인 이벤트와 지금까지의 재전송 시도 횟수
+   */
+  public record Entry(StreamEvent event, int attempts) {
+
+  }
+}
@@ -0,0 +1,85 @@
+package com.event.infra.event.producer;
+
+import com.event.infra.event.redis.StreamShardResolver;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties.Trim;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties.TrimStrategy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * streamKey 별 XADD 트리밍(MAXLEN ~ / MINID ~) 옵션
+ * -> 발행 시점에 오래된 엔트리를 함께 잘라내어 정리 스케줄러 실행 사이에도 스트림 메모리를 일정하게 유지
+ * -> 샤드 스트림은 논리 스트림 키의 설정을 따름 (MAXLEN 은 샤드별 상한)
+ * -> NOTE: MAXLEN 은 컨슈머 처리 여부와 관계없이 잘라내므로, 컨슈머 장애로 적체되면 아직 전달되지 않았거나
+ *    pending(미 ACK) 상태인 엔트리도 삭제됨 (유실을 허용할 수 없으면 MINID 를 사용하거나 장애 허용 시간 동안의 유입량보다 크게 설정)
+ */
+@Component
+public class StreamTrimPolicy {
+
+  private final Map<String, Trim> trims;
+
+  @Autowired
+  public StreamTrimPolicy(RedisStreamProducerProperties producerProperties) {
+    this(producerProperties.trim());
+  }
+
+  public StreamTrimPolicy(Map<String, Trim> trims) {
+    this.trims = Map.copyOf(trims);
+  }
+
+  public static StreamTrimPolicy none() {
+    return new StreamTrimPolicy(Map.of());
+  }
+
+  /**
+   * 발행 시점에 트리밍되는 스트림인지 여부 (정리 스케줄러는 해당 스트림의 XTRIM 을 생략)
+   */
+  public boolean isTrimmedOnAdd(String streamKey) {
+    Trim trim = trimOf(streamKey);
+    return !isNull(trim) && trim.getStrategy() != TrimStrategy.NONE;
+  }
+
+  /**
+   * 트리밍 옵션을 적용하여 XADD (트리밍 대상이 아니면 일반 XADD)
+   */
+  public RecordId add(StringRedisConnection connection, String streamKey, Map<String, String> body) {
+    XAddOptions options = resolveOptions(streamKey);
+    if (isNull(options)) {
+      return connection.xAdd(streamKey, body);
+    }
+    return connection.xAdd(StreamRecords.string(body).withStreamKey(streamKey), options);
+  }
+
+  private Trim trimOf(String streamKey) {
+    return trims.get(StreamShardResolver.logicalKeyOf(streamKey));
+  }
+
+  private XAddOptions resolveOptions(String streamKey) {
+    Trim trim = trimOf(streamKey);
+    if (isNull(trim)) {
+      return null;
+    }
+
+    return switch (trim.getStrategy()) {
+      case NONE -> null;
+      case MAXLEN -> XAddOptions.maxlen(trim.getMaxLen())
+                                .approximateTrimming(trim.isApproximate());
+      case MINID -> {
+        // NOTE: 스트림 ID 의 앞부분은 XADD 시각(ms)이므로 (now - minIdAge) 이전 엔트리가 제거 대상
+        long minIdMillis = System.currentTimeMillis() - trim.getMinIdAge().toMillis();
+        yield XAddOptions.none()
+                         .minId(RecordId.of(minIdMillis, 0))
+                         .approximateTrimming(trim.isApproximate());
+      }
+    };
+  }
+}
@@ -0,0 +1,122 @@
+package com.event.infra.event.redis;
+
+import com.event.infra.event.redis.config.RedisStreamShardProperties;
+import com.event.infra.event.redis.config.RedisStreamShardProperties.Shard;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 논리 스트림 키(예: EVENT_STREAM)를 샤드 스트림 키 목록으로 변환하고, 이벤트를 파티션 키 기준으로 샤드에 배정
+ * -> 샤드 키는 "EVENT_STREAM:{i-salt}" 형태이며, 해시 태그({...})로 i 번째 샤드가 전체 슬롯의 i 번째 구간에 놓이도록 salt 를 선택
+ * -> 마스터가 슬롯을 균등 분할해 담당하는 기본 클러스터 구성에서, 샤드 수가 마스터 수의 배수이면 쓰기 부하가 마스터 간에 고르게 분산
+ * -> 같은 파티션 키 값은 항상 같은 샤드로 발행되므로 키 단위 순서가 유지됨
+ * -> 샤딩 전환 시 drainLegacy 를 켜면 기존 단일 스트림 키도 consumerKeys 에 포함되어, 남은 엔트리/PEL 이 리스너와 회수기에서 처리됨
+ */
+@Component
+public class StreamShardResolver {
+
+  private static final String SHARD_SEPARATOR = ":{";
+
+  private final Map<String, Shard> shards;
+  private final Map<String, List<String>> shardKeysCache = new ConcurrentHashMap<>();
+  private final Map<String, List<String>> consumerKeysCache = new ConcurrentHashMap<>();
+
+  @Autowired
+  public StreamShardResolver(RedisStreamShardProperties properties) {
+    this.shards = Map.copyOf(properties.streams());
+    this.shards.forEach((streamKey, shard) -> {
+      if (shard.getCount() < 1 || shard.getCount() > ClusterSlotHashUtil.SLOT_COUNT) {
+        throw new IllegalArgumentException(
+            "Shard count must be between 1 and %d. streamKey=%s, count=%d"
+                .formatted(ClusterSlotHashUtil.SLOT_COUNT, streamKey, shard.getCount()));
+      }
+    });
+  }
+
+  /**
+   * 논리 스트림 키에 해당하는 샤드 스트림 키 목록 (샤딩하지 않는 스트림은 자기 자신)
+   */
+  public List<String> shardKeys(String streamKey) {
+    return shardKeysCache.computeIfAbsent(streamKey, this::createShardKeys);
+  }
+
+  /**
+   * 컨슈머(리스너, 회수기, 정리 스케줄러, 지표)가 처리할 스트림 키 목록
+   * -> 샤드 키 목록에 drainLegacy 가 켜진 경우 샤딩 전 단일 스트림 키를 추가 (발행은 샤드 키로만 수행)
+   */
+  public List<String> consumerKeys(String streamKey) {
+    return consumerKeysCache.computeIfAbsent(streamKey, this::createConsumerKeys);
+  }
+
+  /**
+   * 이벤트가 발행될 샤드 스트림 키
+   */
+  public String shardKeyOf(String streamKey, Map<String, String> body) {
+    List<String> shardKeys = shardKeys(streamKey);
+    if (shardKeys.size() == 1) {
+      return shardKeys.get(0);
+    }
+
+    String partitionValue = body.get(shards.get(streamKey).getPartitionKey().getField());
+    // NOTE: String.hashCode 는 JVM 과 무관하게 동일하므로 인스턴스가 여러 대여도 같은 샤드로 배정됨
+    int hash = isNull(partitionValue) ? 0 : partitionValue.hashCode();
+    return shardKeys.get(Math.floorMod(hash, shardKeys.size()));
+  }
+
+  /**
+   * 샤드 스트림 키의 논리 스트림 키 (샤드 키가 아니면 그대로 반환)
+   */
+  public static String logicalKeyOf(String shardKey) {
+    int index = shardKey.lastIndexOf(SHARD_SEPARATOR);
+    return index < 0 || !shardKey.endsWith("}") ? shardKey : shardKey.substring(0, index);
+  }
+
+  private List<String> createConsumerKeys(String streamKey) {
+    List<String> shardKeys = shardKeys(streamKey);
+    Shard shard = shards.get(streamKey);
+    if (isNull(shard) || !shard.isDrainLegacy() || shardKeys.contains(streamKey)) {
+      return shardKeys;
+    }
+
+    List<String> consumerKeys = new ArrayList<>(shardKeys);
+    consumerKeys.add(streamKey);
+    return List.copyOf(consumerKeys);
+  }
+
+  private List<String> createShardKeys(String streamKey) {
+    Shard shard = shards.get(streamKey);
+    if (isNull(shard) || shard.getCount() == 1) {
+      return List.of(streamKey);
+    }
+
+    int count = shard.getCount();
+    List<String> shardKeys = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int slotFrom = ClusterSlotHashUtil.SLOT_COUNT * i / count;
+      int slotTo = ClusterSlotHashUtil.SLOT_COUNT * (i + 1) / count;
+      shardKeys.add(findShardKey(streamKey, i, slotFrom, slotTo));
+    }
+    return List.copyOf(shardKeys);
+  }
+
+  /**
+   * [slotFrom, slotTo) 구간의 슬롯에 속하는 첫 번째 salt 로 샤드 키 생성 (같은 설정이면 항상 같은 키)
+   */
+  private static String findShardKey(String streamKey, int index, int slotFrom, int slotTo) {
+    for (int salt = 0; ; salt++) {
+      String shardKey = streamKey + SHARD_SEPARATOR + index + "-" + salt + "}";
+      int slot = ClusterSlotHashUtil.calculateSlot(shardKey);
+      if (slot >= slotFrom && slot < slotTo) {
+        return shardKey;
+      }
+    }
+  }
+}
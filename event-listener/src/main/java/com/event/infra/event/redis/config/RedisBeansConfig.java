@@ -17,9 +17,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.stream.StreamMessageListenerContainer;
 
 import java.time.Duration;
 import java.util.List;
@@ -28,8 +26,6 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RedisBeansConfig {
 
-  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
-
   @Value("${spring.data.redis.cluster.nodes}")
   private List<String> redisClusterNodes;
 
@@ -126,20 +122,6 @@ public class RedisBeansConfig {
     return new StringRedisTemplate(redisConnectionFactory);
   }
 
-  /**
-   * Redis Stream Listener Container Bean 정의
-   * @return StreamMessageListenerContainer
-   */
-  @Bean(destroyMethod = "stop")
-  public StreamMessageListenerContainer<String, ?> streamMessageListenerContainer() {
-    var options = StreamMessageListenerContainer
-        .StreamMessageListenerContainerOptions
-        .<String, MapRecord<String, String, String>>builder()
-        .pollTimeout(POLL_TIMEOUT)
-        .build();
-    return StreamMessageListenerContainer.create(redisConnectionFactory(), options);
-  }
-
   /**
    * Redis 에러 이벤트 리스너 Bean 정의
    * @param runnableMonitor HealthChecker
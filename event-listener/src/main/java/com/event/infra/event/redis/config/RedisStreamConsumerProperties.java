@@ -1,13 +1,25 @@
 package com.event.infra.event.redis.config;
 
+import com.event.infra.event.redis.config.RedisStreamShardProperties.PartitionKey;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.List;
 
 @ConfigurationProperties(prefix = "spring.data.redis.streams")
 public record RedisStreamConsumerProperties(List<RedisStreamConsumerSet> consumers) {
 
+  public enum ConsumeMode {
+    SINGLE, // StreamMessageListenerContainer 를 통해 레코드 단위로 처리
+    BATCH   // XREADGROUP 으로 batchSize 만큼 읽어 한 번에 처리 후 일괄 XACK
+  }
+
+  public enum ListenerExecutor {
+    PLATFORM, // 컨슈머마다 플랫폼 스레드에서 poll
+    VIRTUAL   // 컨슈머마다 가상 스레드에서 poll (BLOCK 대기 중 캐리어 스레드를 점유하지 않음)
+  }
+
   @Data
   public static class RedisStreamConsumerSet {
 
@@ -15,5 +27,29 @@ public record RedisStreamConsumerProperties(List<RedisStreamConsumerSet> consume
     private String groupName;
     private String consumerPrefix;
     private int consumerCount;
+    private ConsumeMode consumeMode = ConsumeMode.SINGLE;
+    private int batchSize = 100;                                 // XREADGROUP COUNT (SINGLE 모드는 컨테이너 batchSize)
+    private Duration batchMaxWait = Duration.ofSeconds(1);       // XREADGROUP BLOCK (SINGLE 모드는 컨테이너 pollTimeout, redis timeout 보다 짧아야 함)
+    private ListenerExecutor executor = ListenerExecutor.PLATFORM; // poll 루프 스레드 종류
+    private int ackBatchSize = 100;                              // 모인 ID 가 이 수에 도달하면 즉시 XACK
+    private Duration ackFlushInterval = Duration.ofMillis(200);  // 모인 ID 를 주기적으로 XACK 하는 간격
+    private Duration reclaimMinIdle = Duration.ofMinutes(5);     // 이 시간 이상 ACK 되지 않은 pending 엔트리를 회수하여 재처리
+    private int reclaimBatchSize = 100;                          // 1회 회수(XPENDING/XCLAIM) 최대 건수
+    private int maxDeliveryCount = 5;                            // 전달 횟수가 이 값에 도달하면 dead-letter 스트림(<streamKey>:DLQ)으로 이동
+    private int handlerConcurrency = 1;                          // 컨슈머당 동시 처리 lane 수 (1 이면 poll 스레드에서 순차 처리, 2 이상이면 가상 스레드 lane 으로 병렬 처리)
+    private PartitionKey orderingKey = PartitionKey.CATEGORY;    // 병렬 처리 시 같은 값의 레코드는 같은 lane 에서 순서대로 처리
+    private Autoscale autoscale = new Autoscale();               // 적체량 기준 컨슈머 수 자동 조정 (샤드별)
+  }
+
+  @Data
+  public static class Autoscale {
+
+    private boolean enabled = false;
+    private int minConsumers = 1;
+    private int maxConsumers = 8;
+    private long scaleOutBacklog = 1_000;                        // lag + pending 이 이 값을 넘으면 컨슈머 추가
+    private long scaleInBacklog = 100;                           // lag + pending 이 이 값 이하이면 컨슈머 제거
+    private Duration maxHandleLatency = Duration.ofMillis(500);  // 레코드 1건 평균 처리 시간이 이 값을 넘으면 (DB 포화) 컨슈머를 추가하지 않음
+    private Duration cooldown = Duration.ofMinutes(1);           // 조정 후 다음 조정까지 최소 간격
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.event.infra.event.redis.config;
+
+import com.event.infra.event.producer.OverflowPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+@ConfigurationProperties(prefix = "spring.data.redis.streams.producer")
+public record RedisStreamProducerProperties(PublishMode mode,
+                                            Batch batch,
+                                            Map<String, Trim> trim,
+                                            Encoding encoding,
+                                            Spill spill) {
+
+  public RedisStreamProducerProperties {
+    if (isNull(mode)) {
+      mode = PublishMode.SYNC;
+    }
+    if (isNull(batch)) {
+      batch = new Batch();
+    }
+    if (isNull(trim)) {
+      trim = Map.of(); // streamKey 별 XADD 트리밍 설정 (없으면 트리밍하지 않음)
+    }
+    if (isNull(encoding)) {
+      encoding = Encoding.MAP;
+    }
+    if (isNull(spill)) {
+      spill = new Spill();
+    }
+  }
+
+  public enum PublishMode {
+    SYNC,  // 요청 스레드에서 이벤트마다 XADD 수행
+    BATCH  // 메모리 버퍼에 적재 후 pipeline XADD로 일괄 저장
+  }
+
+  public enum Encoding {
+    MAP,     // 필드마다 field/value 쌍으로 저장
+    COMPACT  // 스키마 순서대로 값만 하나의 필드에 저장 (StreamEntryCodec, listener 는 두 형식 모두 처리)
+  }
+
+  @Data
+  public static class Batch {
+
+    private int size = 100;                                  // 한 번에 flush 할 최대 이벤트 수
+    private Duration linger = Duration.ofMillis(20);         // 첫 이벤트 적재 후 flush 까지 최대 대기 시간
+    private int capacity = 10_000;                           // 버퍼 최대 크기
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private Duration blockTimeout = Duration.ofMillis(500);  // BLOCK 정책에서 최대 대기 시간
+  }
+
+  public enum TrimStrategy {
+    NONE,   // 트리밍하지 않음 (정리 스케줄러가 보관 기간 기준으로 XTRIM)
+    MAXLEN, // XADD ... MAXLEN ~ maxLen : 스트림 길이 상한 유지 (컨슈머 장애 중에는 미전달/미 ACK 엔트리도 삭제될 수 있음)
+    MINID   // XADD ... MINID ~ (now - minIdAge) : 일정 시간 이전 엔트리 제거
+  }
+
+  @Data
+  public static class Trim {
+
+    private TrimStrategy strategy = TrimStrategy.NONE;
+    private long maxLen = 1_000_000;                  // MAXLEN 전략의 최대 엔트리 수
+    private Duration minIdAge = Duration.ofDays(1);   // MINID 전략의 보관 시간
+    private boolean approximate = true;               // true 이면 "~" 근사 트리밍 (노드 단위로 잘라내어 XADD 비용 최소화)
+  }
+
+  @Data
+  public static class Spill {
+
+    private boolean enabled = false;                          // true 이면 Redis 장애 중 이벤트를 로컬 디스크에 보관 후 재전송
+    private String directory = "./data/spill";                // 세그먼트 파일 디렉터리
+    private long segmentBytes = 64L * 1024 * 1024;            // 세그먼트 파일 크기 (가득 차면 다음 세그먼트로 교체)
+    private long maxBytes = 1024L * 1024 * 1024;              // 세그먼트 전체 크기 상한 (초과 시 새 이벤트는 유실)
+    private int replayBatchSize = 100;                        // pipeline XADD 한 번에 재전송할 최대 이벤트 수
+    private int replayRatePerSecond = 2_000;                  // 초당 최대 재전송 수 (복구 직후 클러스터 부하 제한)
+    private Duration replayInterval = Duration.ofSeconds(1);  // 재전송 주기 (Redis 상태 확인 후 재전송)
+    private int maxReplayAttempts = 3;                        // 명령 오류로 이 횟수만큼 재전송에 실패한 이벤트는 dead-letter 큐로 이동 (연결 오류는 제외)
+    private long deadLetterMaxBytes = 256L * 1024 * 1024;     // dead-letter 큐(directory/dead-letter) 크기 상한
+  }
+}
@@ -0,0 +1,46 @@
+package com.event.infra.event.redis.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 스트림 샤딩 설정 (streamKey 별 샤드 수와 파티션 키)
+ * -> 설정이 없거나 count 가 1 이면 기존처럼 단일 스트림 키를 사용
+ */
+@ConfigurationProperties(prefix = "spring.data.redis.streams.sharding")
+public record RedisStreamShardProperties(Map<String, Shard> streams) {
+
+  public RedisStreamShardProperties {
+    if (isNull(streams)) {
+      streams = Map.of();
+    }
+  }
+
+  public enum PartitionKey {
+    CATEGORY("categoryCode"), // categoryCode 기준 (같은 카테고리 이벤트는 같은 샤드)
+    USER("userId"),           // userId 기준
+    ENDPOINT("endpoint");     // endpoint 기준
+
+    private final String field; // 이벤트 레코드의 필드명
+
+    PartitionKey(String field) {
+      this.field = field;
+    }
+
+    public String getField() {
+      return field;
+    }
+  }
+
+  @Data
+  public static class Shard {
+
+    private int count = 1;                                  // 샤드(스트림 키) 수 - 클러스터 마스터 수의 배수 권장
+    private PartitionKey partitionKey = PartitionKey.CATEGORY;
+    private boolean drainLegacy = false;                    // 샤딩 전 단일 스트림 키에 남은 엔트리도 리스너/회수/정리 대상에 포함 (모두 처리되면 false)
+  }
+}
@@ -1,25 +1,31 @@
 package com.event.infra.scheduler;
 
-import com.event.core.domain.access.event.AccessEventRepository;
+import com.event.core.config.EventRetentionProperties;
+import com.event.core.domain.access.event.AccessEventPartitionManager;
+import com.event.infra.event.producer.StreamTrimPolicy;
+import com.event.infra.event.redis.StreamShardResolver;
 import com.event.infra.event.redis.config.RedisStreamConsumerProperties;
 import com.event.infra.util.DateTimeUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Range;
-import org.springframework.data.redis.connection.Limit;
-import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.stream.PendingMessage;
 import org.springframework.data.redis.connection.stream.PendingMessages;
 import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.IntSupplier;
 
 import static java.util.Objects.isNull;
 
@@ -30,106 +36,163 @@ import static java.util.Objects.isNull;
 public class RedisStreamAndDataBaseClearScheduler {
 
   private final StringRedisTemplate redisTemplate;
-  private final AccessEventRepository accessEventRepository;
+  private final AccessEventPartitionManager accessEventPartitionManager;
   private final RedisStreamConsumerProperties redisStreamConsumerProperties;
-  private static final Duration EVENT_RETENTION_PERIOD = Duration.ofDays(60);
+  private final EventRetentionProperties retentionProperties;
+  private final StreamTrimPolicy streamTrimPolicy;
+  private final StreamShardResolver streamShardResolver;
+  private final MeterRegistry meterRegistry;
 
   /**
    * NOTE: 오래된 이벤트 정리 스케줄러 - Redis Stream 및 DB 이벤트를 주기적으로 삭제
+   * -> 보관 기간 이전 데이터를 chunkSize 단위로 나누어 cutoff 에 도달할 때까지 반복 정리 (청크 사이 chunkPause 대기)
+   * -> 청크마다 개별 커밋되므로 긴 트랜잭션/락 없이 진행되며, maxDuration 초과 시 다음 실행에서 이어서 정리
    */
   @Scheduled(cron = "0 0 10 * * *") // 매일 오전 10시에 실행
-  @Transactional
   public void cleanUpExpiredEventData() {
-    cleanUpOldRedisStreams();
-    cleanUpOldDatabaseEvents();
-  }
-
-  protected void cleanUpOldRedisStreams() {
-    redisStreamConsumerProperties.consumers().forEach(consumer -> {
-      String streamKey = consumer.getStreamKey();
-      String groupName = consumer.getGroupName();
-      StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+    OffsetDateTime threshold = DateTimeUtils.nowKoreaOffset().minus(retentionProperties.period());
+    long deadlineNanos = System.nanoTime() + retentionProperties.maxDuration().toNanos();
 
-      log.info("[RedisStream Cleanup Start] streamKey={}, groupName={}", streamKey, groupName);
+    cleanUpOldRedisStreams(threshold, deadlineNanos);
+    cleanUpOldDatabaseEvents(threshold, deadlineNanos);
+  }
 
-      acknowledgePendingMessages(ops, streamKey, groupName);
-      removeExpiredStreamMessages(ops, streamKey);
+  protected void cleanUpOldRedisStreams(OffsetDateTime threshold, long deadlineNanos) {
+    // NOTE: 스트림 ID 는 "XADD 시각(ms)-순번" 이므로 threshold 시각의 ID 보다 작은 엔트리가 정리 대상
+    String cutoffId = threshold.toInstant().toEpochMilli() + "-0";
 
-      log.info("[RedisStream Complete] streamKey={}, groupName={}", streamKey, groupName);
-    });
+    for (var consumer : redisStreamConsumerProperties.consumers()) {
+      for (String streamKey : streamShardResolver.consumerKeys(consumer.getStreamKey())) { // 샤딩된 스트림은 샤드별로 정리
+        cleanUpOldRedisStream(streamKey, consumer.getGroupName(), cutoffId, deadlineNanos);
+      }
+    }
   }
 
-  private void acknowledgePendingMessages(StreamOperations<String, Object, Object> ops,
-                                          String streamKey,
-                                          String groupName) {
-
-    PendingMessages pendingMessages = ops.pending(streamKey, groupName, Range.unbounded(), 1000L);
+  private void cleanUpOldRedisStream(String streamKey, String groupName, String cutoffId, long deadlineNanos) {
+    log.info("[RedisStream Cleanup Start] streamKey={}, groupName={}, cutoffId={}", streamKey, groupName, cutoffId);
 
-    if (pendingMessages.isEmpty()) {
-      log.info("No pending messages to acknowledge in stream: {}", streamKey);
-      return;
-    }
+    long acknowledged = runInChunks(retentionCounter("pending_ack", streamKey), deadlineNanos,
+                                    () -> acknowledgeExpiredPendingMessages(streamKey, groupName, cutoffId));
+    // NOTE: XADD 시점에 트리밍되는 스트림은 길이가 이미 제한되므로 범위 정리(XTRIM)를 생략
+    long trimmed = streamTrimPolicy.isTrimmedOnAdd(streamKey)
+        ? 0
+        : runInChunks(retentionCounter("stream_trim", streamKey), deadlineNanos,
+                      () -> trimExpiredStreamMessages(streamKey, cutoffId));
 
-    String[] idsToAck = pendingMessages.stream()
-                                       .map(pending -> pending.getId().getValue())
-                                       .toArray(String[]::new);
+    log.info("[RedisStream Complete] streamKey={}, groupName={}, acknowledged={}, trimmed={}",
+             streamKey, groupName, acknowledged, trimmed);
+  }
 
-    // TODO: Pending 메시지 재처리 정책 필요 (메시지를 복구 큐로 보내거나 재처리 시도)
-    if (idsToAck.length > 0) {
-      Long ackCount = ops.acknowledge(streamKey, groupName, idsToAck);
-      log.info("Acknowledged {} pending messages in stream: {}", ackCount, streamKey);
+  /**
+   * cutoff 이전에 전달되어 아직 ACK 되지 않은 메시지를 최대 chunkSize 건 승인
+   * -> cutoff 이후의 pending 메시지는 재처리 대상이므로 건드리지 않음
+   *
+   * @return 승인한 메시지 수
+   */
+  private int acknowledgeExpiredPendingMessages(String streamKey, String groupName, String cutoffId) {
+    StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+    PendingMessages pendingMessages = ops.pending(streamKey,
+                                                  groupName,
+                                                  Range.leftUnbounded(Range.Bound.inclusive(cutoffId)),
+                                                  retentionProperties.chunkSize());
+
+    if (isNull(pendingMessages) || pendingMessages.isEmpty()) {
+      return 0;
     }
+
+    RecordId[] idsToAck = pendingMessages.stream()
+                                         .map(PendingMessage::getId)
+                                         .toArray(RecordId[]::new);
+    Long ackCount = ops.acknowledge(streamKey, groupName, idsToAck);
+    return isNull(ackCount) ? 0 : ackCount.intValue();
   }
 
-  private void removeExpiredStreamMessages(StreamOperations<String, Object, Object> ops,
-                                           String streamKey) {
+  /**
+   * XTRIM MINID ~ cutoffId LIMIT chunkSize
+   * -> 범위 조회 후 삭제하지 않고, 스트림 앞부분의 노드 단위로 잘라내므로 비용이 삭제 건수에 비례
+   * -> 근사(~) 트리밍이므로 cutoff 직전의 일부 엔트리는 다음 실행까지 남을 수 있음
+   *
+   * @return 삭제한 엔트리 수
+   */
+  private int trimExpiredStreamMessages(String streamKey, String cutoffId) {
+    byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+    List<byte[]> args = List.of(bytes("MINID"), bytes("~"), bytes(cutoffId),
+                                bytes("LIMIT"), bytes(String.valueOf(retentionProperties.chunkSize())));
 
-    String cutoffId = toStreamId(DateTimeUtils.nowKoreaOffset().minus(EVENT_RETENTION_PERIOD));
+    Object result = redisTemplate.execute((RedisCallback<Object>) connection ->
+        connection instanceof RedisClusterConnection clusterConnection
+            ? clusterConnection.execute("XTRIM", key, args) // 키가 속한 노드로 전송
+            : connection.execute("XTRIM", concat(key, args)), true);
 
-    // NOTE: "0-0"은 가장 처음에 추가된 메시지의 ID를 의미 (5000개까지 삭제)
-    List<MapRecord<String, Object, Object>> expiredRecords =
-        ops.range(streamKey, Range.closed("0-0", cutoffId), Limit.limit().count(5000));
+    return result instanceof Number trimmed ? trimmed.intValue() : 0;
+  }
 
-    if (isNull(expiredRecords) || expiredRecords.isEmpty() || expiredRecords.size() == 1) {
-      log.info("No expired stream messages found in stream: {}", streamKey);
-      return;
-    }
+  protected void cleanUpOldDatabaseEvents(OffsetDateTime threshold, long deadlineNanos) {
+    log.info("[Database Cleanup Start] table=access_event, threshold={}", threshold);
 
-    // NOTE: 맨 앞 하나 제외하고 삭제 대상 찾기 (모든 메시지가 지워지면 streamKey가 사라짐)
-    RecordId[] idsToDelete = expiredRecords.subList(1, expiredRecords.size()).stream()
-                                           .map(MapRecord::getId)
-                                           .toArray(RecordId[]::new);
+    // NOTE: 행 단위 DELETE 대신 보관 기간이 지난 일 단위 파티션을 DROP
+    int droppedCount = accessEventPartitionManager.dropPartitionsBefore(threshold);
+    retentionCounter("db_partition", "access_event").increment(droppedCount);
 
-    Long deletedCount = ops.delete(streamKey, idsToDelete);
-    log.info("Deleted {} expired messages from stream: {} before cutoffId: {}",
-             deletedCount, streamKey, cutoffId);
+    // 기본 파티션에 남은 행은 chunkSize 단위로 삭제
+    long deletedCount = runInChunks(retentionCounter("db_row", "access_event_default"), deadlineNanos,
+                                    () -> accessEventPartitionManager.deleteDefaultPartitionRowsBefore(
+                                        threshold, retentionProperties.chunkSize()));
+
+    log.info("[Database Cleanup Complete] table=access_event, droppedPartitions={}, deletedRows={}",
+             droppedCount, deletedCount);
   }
 
-  private String toStreamId(OffsetDateTime offsetDateTime) {
-    // nanosecond까지 정확하게 표현하기 위해 toInstant().toEpochMilli() 사용
-    long epochMilli = offsetDateTime.toInstant().toEpochMilli();
-    long nanoAdjustment = offsetDateTime.getNano() / 1_000_000; // millisecond 이하 부분
+  /**
+   * 청크 작업을 더 이상 처리할 항목이 없을 때까지 반복 (청크 사이 chunkPause 대기, deadline 초과 시 중단)
+   * -> 근사 트리밍은 LIMIT 보다 적게 삭제될 수 있으므로 처리 건수가 0 이 될 때 종료
+   *
+   * @return 전체 처리 건수
+   */
+  private long runInChunks(Counter progressCounter, long deadlineNanos, IntSupplier chunk) {
+    long total = 0;
+    try {
+      while (true) {
+        int processed = chunk.getAsInt();
+        total += processed;
+        progressCounter.increment(processed);
+
+        if (processed == 0) {
+          return total;
+        }
+        if (System.nanoTime() > deadlineNanos) {
+          log.warn("Retention run exceeded maxDuration. Remaining entries will be cleaned up in the next run. processed={}", total);
+          return total;
+        }
+        Thread.sleep(retentionProperties.chunkPause().toMillis());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Retention run interrupted. processed={}", total);
+    } catch (Exception e) {
+      log.error("Retention chunk failed. processed={}, ErrorMessage={}", total, e.getMessage(), e);
+    }
+    return total;
+  }
 
-    // Redis Stream ID 형식: milliseconds-sequence
-    return String.format("%d-%03d", epochMilli, nanoAdjustment);
+  private Counter retentionCounter(String target, String name) {
+    return Counter.builder("event.retention.removed")
+                  .description("보관 기간 만료로 정리된 항목 수")
+                  .tag("target", target)
+                  .tag("name", name)
+                  .register(meterRegistry);
   }
 
-  private OffsetDateTime fromStreamId(String streamId) {
-    String[] parts = streamId.split("-");
-    if (parts.length != 2) {
-      throw new IllegalArgumentException("Invalid stream ID format: " + streamId);
-    }
-    long epochMilli = Long.parseLong(parts[0]);
-    int nanoAdjustment = Integer.parseInt(parts[1]) * 1_000_000;
-    return OffsetDateTime.ofInstant(java.time.Instant.ofEpochMilli(epochMilli),
-                                    java.time.ZoneOffset.UTC).withNano(nanoAdjustment);
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
   }
 
-  protected void cleanUpOldDatabaseEvents() {
-    OffsetDateTime threshold = DateTimeUtils.nowKoreaOffset().minus(EVENT_RETENTION_PERIOD);
-    log.info("[Database Cleanup Start] table=access_event, threshold={}", threshold);
-    int deletedCount = accessEventRepository.deleteByCreatedAtBefore(threshold);
-    log.info("Deleted {} old events from DB before {}", deletedCount, threshold);
-    log.info("[Database Cleanup Complete] table=access_event.");
+  private static byte[][] concat(byte[] key, List<byte[]> args) {
+    byte[][] command = new byte[args.size() + 1][];
+    command[0] = key;
+    for (int i = 0; i < args.size(); i++) {
+      command[i + 1] = args.get(i);
+    }
+    return command;
   }
 }
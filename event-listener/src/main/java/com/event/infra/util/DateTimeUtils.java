@@ -3,6 +3,7 @@ package com.event.infra.util;
 import static java.time.format.DateTimeFormatter.ISO_DATE_TIME;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -11,6 +12,8 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -26,6 +29,17 @@ public class DateTimeUtils {
   private static final String REGEX_NO_OFFSET =
       "^\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{6}$";
 
+  // NOTE: String.matches / replaceAll 은 호출마다 Pattern 을 컴파일하므로 미리 컴파일해서 사용
+  private static final Pattern PATTERN_WITH_SPACE_OFFSET = Pattern.compile(REGEX_WITH_SPACE_OFFSET);
+  private static final Pattern PATTERN_NO_OFFSET = Pattern.compile(REGEX_NO_OFFSET);
+  private static final Pattern PATTERN_ZONED = Pattern.compile("^.*T.*[+-]\\d{2}:\\d{2}$");
+  private static final Pattern PATTERN_ISO_OFFSET =
+      Pattern.compile("^\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?([+-]\\d{4}|Z)$");
+  private static final Pattern PATTERN_COMPACT_OFFSET = Pattern.compile("([+-]\\d{2})(\\d{2})$");
+
+  private static final int SPACE_FORMAT_FRACTION_DIGITS = 6; // 공백 포함 포맷은 마이크로초(6자리) 고정
+  private static final int MAX_FRACTION_DIGITS = 9;
+
   private static final DateTimeFormatter FORMAT_WITH_SPACE_OFFSET =
       DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS xxx");
 
@@ -53,6 +67,8 @@ public class DateTimeUtils {
    * - "2025-04-10T17:45:00Z" (ISO UTC Z 포맷)
    * </pre>
    *
+   * 문자 위치로 포맷을 판별하는 fast path 를 먼저 시도하고, 해당하지 않는 형태만 정규식/DateTimeFormatter 로 처리
+   *
    * @param dateTimeStr 문자열 형태의 날짜
    * @return OffsetDateTime 객체 또는 파싱 실패 시 null
    */
@@ -62,45 +78,178 @@ public class DateTimeUtils {
     }
 
     try {
-      // ISO 형식 (오프셋 또는 Z 포함)
-      if (isZonedFormat(dateTimeStr) || isIsoOffsetFormat(dateTimeStr)) {
-        // +0900 -> +09:00 형식으로 변환
-        String formattedDateTime = dateTimeStr.replaceAll("([+-]\\d{2})(\\d{2})$", "$1:$2");
-        return OffsetDateTime.parse(formattedDateTime, ISO_DATE_TIME);
+      OffsetDateTime parsed = parseFast(dateTimeStr);
+      if (nonNull(parsed)) {
+        return parsed;
       }
+      return parseWithFormatter(dateTimeStr);
+    } catch (Exception exception) {
+      log.error("Failed to parse dateTime: {}, {}", dateTimeStr, exception.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 문자 위치 기반 파싱 (RedisStreamEventProducer 가 발행하는 ISO_OFFSET_DATE_TIME 형태 포함)
+   * -> yyyy-MM-dd'T'HH:mm:ss[.f{1,9}][Z|+HH:MM|+HHMM]
+   * -> yyyy-MM-dd HH:mm:ss.SSSSSS[ +HH:MM]
+   *
+   * @return 판별할 수 없는 형태이면 null (fallback 처리 대상)
+   */
+  static OffsetDateTime parseFast(String str) {
+    int length = str.length();
+    if (length < 19
+        || str.charAt(4) != '-' || str.charAt(7) != '-'
+        || str.charAt(13) != ':' || str.charAt(16) != ':') {
+      return null;
+    }
+
+    char separator = str.charAt(10);
+    if (separator != 'T' && separator != ' ') {
+      return null;
+    }
 
-      // 공백 포함 + 오프셋 포함 (yyyy-MM-dd HH:mm:ss.SSSSSS X) - 수정된 형식
-      if (dateTimeStr.contains(" ") && dateTimeStr.matches(REGEX_WITH_SPACE_OFFSET)) {
-        return OffsetDateTime.parse(dateTimeStr, FORMAT_WITH_SPACE_OFFSET);
+    int year = parseDigits(str, 0, 4);
+    int month = parseDigits(str, 5, 2);
+    int day = parseDigits(str, 8, 2);
+    int hour = parseDigits(str, 11, 2);
+    int minute = parseDigits(str, 14, 2);
+    int second = parseDigits(str, 17, 2);
+    if ((year | month | day | hour | minute | second) < 0) {
+      return null;
+    }
+
+    // 소수점 이하 (최대 9자리, 나노초로 환산)
+    int position = 19;
+    int fractionDigits = 0;
+    int nano = 0;
+    if (position < length && str.charAt(position) == '.') {
+      position++;
+      while (position < length && isDigit(str.charAt(position))) {
+        if (++fractionDigits > MAX_FRACTION_DIGITS) {
+          return null;
+        }
+        nano = nano * 10 + (str.charAt(position) - '0');
+        position++;
+      }
+      if (fractionDigits == 0) {
+        return null;
+      }
+      for (int i = fractionDigits; i < MAX_FRACTION_DIGITS; i++) {
+        nano *= 10;
       }
+    }
 
-      // 공백 포함 + 오프셋 없음 → UTC 기준으로 OffsetDateTime 생성
-      if (dateTimeStr.matches(REGEX_NO_OFFSET)) {
-        LocalDateTime localDateTime = LocalDateTime.parse(dateTimeStr, FORMAT_NO_OFFSET);
-        return localDateTime.atZone(UTC_OFFSET).toOffsetDateTime();
+    if (separator == ' ') {
+      if (fractionDigits != SPACE_FORMAT_FRACTION_DIGITS) {
+        return null;
+      }
+      if (position == length) {
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nano, UTC_OFFSET); // 오프셋 없음 → UTC
       }
+      if (str.charAt(position) != ' ' || length - position != 7) {
+        return null;
+      }
+      ZoneOffset offset = parseOffset(str, position + 1, true);
+      return isNull(offset) ? null : OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+    }
 
-      // ISO_LOCAL_DATE_TIME → UTC 기준 처리
-      LocalDateTime localDateTime = LocalDateTime.parse(dateTimeStr, ISO_LOCAL_DATE_TIME);
-      return localDateTime.atZone(UTC_OFFSET).toOffsetDateTime();
-    } catch (Exception exception) {
-      log.error("Failed to parse dateTime: {}, {}", dateTimeStr, exception.getMessage());
+    if (position == length) {
+      return OffsetDateTime.of(year, month, day, hour, minute, second, nano, UTC_OFFSET); // ISO Local → UTC
+    }
+
+    ZoneOffset offset;
+    int remaining = length - position;
+    if (remaining == 1 && str.charAt(position) == 'Z') {
+      offset = UTC_OFFSET;
+    } else if (remaining == 6) {
+      offset = parseOffset(str, position, true);   // +HH:MM
+    } else if (remaining == 5) {
+      offset = parseOffset(str, position, false);  // +HHMM
+    } else {
       return null;
     }
+    return isNull(offset) ? null : OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+  }
+
+  /**
+   * 정규식(사전 컴파일) + DateTimeFormatter 기반 파싱 (fast path 에서 판별하지 못한 형태 처리)
+   */
+  private static OffsetDateTime parseWithFormatter(String dateTimeStr) {
+    // ISO 형식 (오프셋 또는 Z 포함)
+    if (isZonedFormat(dateTimeStr) || isIsoOffsetFormat(dateTimeStr)) {
+      // +0900 -> +09:00 형식으로 변환
+      String formattedDateTime = PATTERN_COMPACT_OFFSET.matcher(dateTimeStr).replaceAll("$1:$2");
+      return OffsetDateTime.parse(formattedDateTime, ISO_DATE_TIME);
+    }
+
+    // 공백 포함 + 오프셋 포함 (yyyy-MM-dd HH:mm:ss.SSSSSS X) - 수정된 형식
+    if (dateTimeStr.contains(" ") && PATTERN_WITH_SPACE_OFFSET.matcher(dateTimeStr).matches()) {
+      return OffsetDateTime.parse(dateTimeStr, FORMAT_WITH_SPACE_OFFSET);
+    }
+
+    // 공백 포함 + 오프셋 없음 → UTC 기준으로 OffsetDateTime 생성
+    if (PATTERN_NO_OFFSET.matcher(dateTimeStr).matches()) {
+      LocalDateTime localDateTime = LocalDateTime.parse(dateTimeStr, FORMAT_NO_OFFSET);
+      return localDateTime.atZone(UTC_OFFSET).toOffsetDateTime();
+    }
+
+    // ISO_LOCAL_DATE_TIME → UTC 기준 처리
+    LocalDateTime localDateTime = LocalDateTime.parse(dateTimeStr, ISO_LOCAL_DATE_TIME);
+    return localDateTime.atZone(UTC_OFFSET).toOffsetDateTime();
   }
 
   /**
    * 문자열에 오프셋(+hh:mm / -hh:mm) 또는 'Z'가 포함되어 있는지 여부
    */
   private static boolean isZonedFormat(String str) {
-    return str.endsWith("Z") || str.matches("^.*T.*[+-]\\d{2}:\\d{2}$");
+    return str.endsWith("Z") || PATTERN_ZONED.matcher(str).matches();
   }
 
   /**
    * ISO_OFFSET_DATE_TIME 형식 검증용 예: 2025-04-10T17:45:00+09:00, 2025-04-10T17:45:00Z
    */
   private static boolean isIsoOffsetFormat(String str) {
-    return str.matches("^\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?([+-]\\d{4}|Z)$");
+    return PATTERN_ISO_OFFSET.matcher(str).matches();
+  }
+
+  /**
+   * +HH:MM (withColon) 또는 +HHMM 형식의 오프셋 파싱 (ZoneOffset 은 내부 캐시를 사용하므로 추가 할당 없음)
+   */
+  private static ZoneOffset parseOffset(String str, int position, boolean withColon) {
+    char sign = str.charAt(position);
+    if (sign != '+' && sign != '-') {
+      return null;
+    }
+    if (withColon && str.charAt(position + 3) != ':') {
+      return null;
+    }
+
+    int hours = parseDigits(str, position + 1, 2);
+    int minutes = parseDigits(str, withColon ? position + 4 : position + 3, 2);
+    if ((hours | minutes) < 0) {
+      return null;
+    }
+    return sign == '+' ? ZoneOffset.ofHoursMinutes(hours, minutes) : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+  }
+
+  /**
+   * position 부터 count 자리 숫자를 int 로 변환 (숫자가 아닌 문자가 있으면 -1)
+   */
+  private static int parseDigits(String str, int position, int count) {
+    int value = 0;
+    for (int i = position; i < position + count; i++) {
+      char c = str.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
   }
 
 
@@ -118,6 +267,19 @@ public class DateTimeUtils {
     return endOfDay.atZone(KOREA_ZONE).toOffsetDateTime();
   }
 
+  /**
+   * KST 기준 정시(hour)로 절삭 (집계 시간 버킷 계산용)
+   */
+  public static OffsetDateTime truncateToKoreaHour(OffsetDateTime offsetDateTime) {
+    return offsetDateTime.atZoneSameInstant(KOREA_ZONE)
+                         .truncatedTo(ChronoUnit.HOURS)
+                         .toOffsetDateTime();
+  }
+
+  public static LocalDate toKoreaLocalDate(OffsetDateTime offsetDateTime) {
+    return offsetDateTime.atZoneSameInstant(KOREA_ZONE).toLocalDate();
+  }
+
   public static LocalDate nowKoreaLocalDate() {
     return LocalDate.now(KOREA_ZONE);
   }
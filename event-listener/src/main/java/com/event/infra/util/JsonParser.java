@@ -28,10 +28,10 @@ public class JsonParser {
   }
 
   // 일반 JSON 파싱 - camelCase 사용
+  // NOTE: JSON 문자열을 만들지 않고 Map 을 바로 바인딩 (문자열 -> 숫자 변환 등 타입 강제 변환 규칙은 readValue 와 동일)
   public <T> T parseCamel(Map<String, String> map, Class<T> clazz) {
     try {
-      String json = camelCaseObjectMapper.writeValueAsString(map);
-      return camelCaseObjectMapper.readValue(json, clazz);
+      return camelCaseObjectMapper.convertValue(map, clazz);
     } catch (Exception e) {
       throw new JsonParsingException("CamelCase JSON 파싱 실패: " + clazz.getSimpleName(), e);
     }
@@ -0,0 +1,120 @@
+package com.event.infra.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 이벤트 inputs/outputs 값 인코딩 (값 앞의 마커로 인코딩 방식을 구분)
+ * -> "deflate:" + Base64(Deflate(UTF-8)) : 압축, decode 시 원문으로 복원
+ * -> "sha256:" + hex                     : 해시만 저장 (복원 불가)
+ * -> "truncated:<원본 바이트 수>:" + 앞부분 : 잘라서 저장 (복원 불가)
+ * NOTE: JSON 값은 위 마커로 시작할 수 없으므로 마커가 없는 값은 원문 그대로 취급
+ */
+public class PayloadCodec {
+
+  public static final String DEFLATE_MARKER = "deflate:";
+  public static final String SHA256_MARKER = "sha256:";
+  public static final String TRUNCATED_MARKER = "truncated:";
+
+  private static final int BUFFER_SIZE = 4096;
+
+  private PayloadCodec() {
+  }
+
+  /**
+   * 압축한 값 (압축 결과가 원문보다 크거나 같으면 원문 반환)
+   */
+  public static String compress(String value) {
+    if (isNull(value)) {
+      return null;
+    }
+
+    byte[] input = value.getBytes(StandardCharsets.UTF_8);
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(input);
+      deflater.finish();
+      ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!deflater.finished()) {
+        output.write(buffer, 0, deflater.deflate(buffer));
+      }
+
+      String compressed = DEFLATE_MARKER + Base64.getEncoder().encodeToString(output.toByteArray());
+      return compressed.length() < input.length ? compressed : value;
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * 앞부분 maxBytes(UTF-8) 만 남긴 값 (문자 중간에서 자르지 않음)
+   */
+  public static String truncate(String value, int maxBytes) {
+    if (isNull(value)) {
+      return null;
+    }
+
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length <= maxBytes) {
+      return value;
+    }
+
+    int end = maxBytes;
+    while (end > 0 && (bytes[end] & 0xC0) == 0x80) { // UTF-8 연속 바이트면 문자 시작 위치까지 이동
+      end--;
+    }
+    return TRUNCATED_MARKER + bytes.length + ":" + new String(bytes, 0, end, StandardCharsets.UTF_8);
+  }
+
+  public static String hash(String value) {
+    if (isNull(value)) {
+      return null;
+    }
+
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+      return SHA256_MARKER + HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  /**
+   * 압축된 값은 원문으로 복원하고, 그 외 값은 그대로 반환
+   */
+  public static String decode(String value) {
+    if (isNull(value) || !value.startsWith(DEFLATE_MARKER)) {
+      return value;
+    }
+
+    byte[] input = Base64.getDecoder().decode(value.substring(DEFLATE_MARKER.length()));
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(input);
+      ByteArrayOutputStream output = new ByteArrayOutputStream(input.length * 4);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!inflater.finished()) {
+        int inflated = inflater.inflate(buffer);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("Truncated deflate payload");
+        }
+        output.write(buffer, 0, inflated);
+      }
+      return output.toString(StandardCharsets.UTF_8);
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("Invalid deflate payload", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
@@ -0,0 +1,46 @@
+SET
+TIMEZONE = 'Asia/Seoul';
+
+---------------------- AccessEventHourlyRollup 테이블 ----------------------
+-- 이벤트 저장 시점에 (시간 버킷, 카테고리, 엔드포인트, 상태 코드 분류) 단위로 누적되는 집계 테이블
+CREATE TABLE access_event_hourly_rollup
+(
+    bucket_start      TIMESTAMPTZ      NOT NULL, -- KST 정시 기준 시간 버킷 시작 시각
+    category_id       BIGINT           NOT NULL, -- AccessCategory의 id와 연관 (카테고리 코드 변경에 영향받지 않도록 id 로 집계)
+    endpoint          VARCHAR(255)     NOT NULL,
+    status_class      SMALLINT         NOT NULL, -- response_status / 100 (2 = 2xx, 4 = 4xx ...)
+    access_count      BIGINT           NOT NULL DEFAULT 0,
+    response_time_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_access_event_hourly_rollup PRIMARY KEY (bucket_start, category_id, endpoint, status_class),
+    CONSTRAINT fk_access_event_hourly_rollup_category_id FOREIGN KEY (category_id)
+        REFERENCES access_category (id)
+        ON DELETE CASCADE
+);
+
+-- AccessEventHourlyRollup 테이블에 대한 주석
+COMMENT
+ON TABLE access_event_hourly_rollup IS 'API 접근 이벤트 시간 단위 집계 데이터';
+COMMENT
+ON COLUMN access_event_hourly_rollup.bucket_start IS '집계 시간 버킷 시작 일시 (KST 정시)';
+COMMENT
+ON COLUMN access_event_hourly_rollup.category_id IS '접근 카테고리 ID (외래 키)';
+COMMENT
+ON COLUMN access_event_hourly_rollup.endpoint IS '요청 엔드포인트 (URI)';
+COMMENT
+ON COLUMN access_event_hourly_rollup.status_class IS 'HTTP 응답 상태 코드 분류 (response_status / 100)';
+COMMENT
+ON COLUMN access_event_hourly_rollup.access_count IS '접근 이벤트 수';
+COMMENT
+ON COLUMN access_event_hourly_rollup.response_time_sum IS '응답 시간 합계 (ms, 평균 계산용)';
+
+-- 기존 이벤트 데이터 집계 (backfill)
+INSERT INTO access_event_hourly_rollup (bucket_start, category_id, endpoint, status_class, access_count, response_time_sum)
+SELECT date_trunc('hour', created_at),
+       category_id,
+       endpoint,
+       response_status / 100,
+       count(*),
+       sum(response_time)
+FROM access_event
+GROUP BY date_trunc('hour', created_at), category_id, endpoint, response_status / 100;
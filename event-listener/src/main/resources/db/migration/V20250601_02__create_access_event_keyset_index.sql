@@ -0,0 +1,2 @@
+-- 카테고리별 이벤트 스트리밍 조회의 (created_at, id) keyset 페이지네이션용 인덱스
+CREATE INDEX idx_access_event_category_code_created_at_id ON access_event (category_code, created_at, id);
@@ -0,0 +1,121 @@
+SET
+TIMEZONE = 'Asia/Seoul';
+
+---------------------- AccessEvent 테이블 파티셔닝 ----------------------
+-- created_at 기준 일 단위(KST) RANGE 파티션으로 전환
+-- -> 보관 기간이 지난 이벤트는 행 단위 DELETE 대신 파티션 DROP 으로 정리 (AccessEventPartitionManager)
+-- -> 날짜 구간 조회 시 해당 일자의 파티션만 조회 (partition pruning)
+
+-- 1. 기존 테이블 이름 변경
+ALTER TABLE access_event RENAME TO access_event_legacy;
+
+-- 2. 파티션 테이블 생성
+-- NOTE: PostgreSQL 17 미만은 파티션 테이블에 IDENTITY 컬럼을 둘 수 없으므로 시퀀스 기본값으로 대체
+--       기본 키/유니크 제약에는 파티션 키(created_at)가 포함되어야 함
+CREATE TABLE access_event
+(
+    id              BIGINT           NOT NULL,
+    category_id     BIGINT           NOT NULL, -- AccessCategory의 id와 연관
+    category_code   VARCHAR(50)      NOT NULL, -- AccessCategory와 연관
+    user_id         VARCHAR(255)     NOT NULL,
+    endpoint        VARCHAR(255)     NOT NULL,
+    http_method     VARCHAR(10)      NOT NULL CHECK (http_method IN ('GET', 'POST', 'PUT', 'DELETE', 'PATCH')),
+    response_status INT              NOT NULL,
+    response_time   DOUBLE PRECISION NOT NULL,
+    ip_address      VARCHAR(50)      NOT NULL,
+    user_agent      TEXT NULL,                 -- 클라이언트 및 브라우저 정보
+    inputs          TEXT NULL,                 -- 요청 파라미터 (JSON 형태)
+    outputs         TEXT NULL,                 -- 요청 바디 (JSON 형태)
+    created_at      TIMESTAMPTZ      NOT NULL DEFAULT CURRENT_TIMESTAMP
+) PARTITION BY RANGE (created_at);
+
+-- 3. 범위에 해당하는 파티션이 없을 때 저장되는 기본 파티션
+CREATE TABLE access_event_default PARTITION OF access_event DEFAULT;
+
+-- 4. 기존 데이터 기간 + 앞으로 7일간의 일 단위 파티션 생성 (이후는 AccessEventPartitionManager 가 미리 생성)
+DO
+$$
+DECLARE
+    partition_date DATE := COALESCE((SELECT min(created_at)::date FROM access_event_legacy), current_date);
+BEGIN
+    WHILE partition_date <= current_date + 7
+        LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF access_event FOR VALUES FROM (%L) TO (%L)',
+                           'access_event_p' || to_char(partition_date, 'YYYYMMDD'),
+                           partition_date::timestamptz,
+                           (partition_date + 1)::timestamptz);
+            partition_date := partition_date + 1;
+        END LOOP;
+END
+$$;
+
+-- 5. 기존 데이터 이관
+INSERT INTO access_event (id, category_id, category_code, user_id, endpoint, http_method, response_status,
+                          response_time, ip_address, user_agent, inputs, outputs, created_at)
+SELECT id,
+       category_id,
+       category_code,
+       user_id,
+       endpoint,
+       http_method,
+       response_status,
+       response_time,
+       ip_address,
+       user_agent,
+       inputs,
+       outputs,
+       created_at
+FROM access_event_legacy;
+
+-- 6. 기존 테이블 삭제 (기존 IDENTITY 시퀀스, 인덱스, 제약 조건 함께 삭제)
+DROP TABLE access_event_legacy;
+
+-- 7. ID 시퀀스 생성 (기존 최대 ID 이후부터 발급)
+CREATE SEQUENCE access_event_id_seq OWNED BY access_event.id;
+SELECT setval('access_event_id_seq', COALESCE((SELECT max(id) FROM access_event), 0) + 1, false);
+ALTER TABLE access_event
+    ALTER COLUMN id SET DEFAULT nextval('access_event_id_seq');
+
+-- 8. 제약 조건 및 인덱스 추가 (파티션 테이블에 생성하면 모든 파티션에 적용)
+ALTER TABLE access_event
+    ADD CONSTRAINT access_event_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE access_event
+    ADD CONSTRAINT fk_access_event_category_id FOREIGN KEY (category_id)
+        REFERENCES access_category (id)
+        ON DELETE CASCADE;
+
+CREATE INDEX idx_access_event_category_id ON access_event (category_id);
+CREATE INDEX idx_access_event_category_code ON access_event (category_code);
+CREATE INDEX idx_access_event_user_id ON access_event (user_id);
+CREATE INDEX idx_access_event_http_method ON access_event (http_method);
+CREATE INDEX idx_access_event_created_at ON access_event (created_at);
+CREATE INDEX idx_access_event_response_status ON access_event (response_status);
+CREATE INDEX idx_access_event_category_code_created_at_id ON access_event (category_code, created_at, id);
+
+-- AccessEvent 테이블에 대한 주석
+COMMENT
+ON TABLE access_event IS 'API 접근 이벤트 데이터 (created_at 기준 일 단위 파티션)';
+COMMENT
+ON COLUMN access_event.category_id IS '접근 카테고리 ID (외래 키)';
+COMMENT
+ON COLUMN access_event.category_code IS '접근 카테고리 코드 (외래 키)';
+COMMENT
+ON COLUMN access_event.user_id IS 'API 요청 사용자 ID';
+COMMENT
+ON COLUMN access_event.endpoint IS '요청 엔드포인트 (URI)';
+COMMENT
+ON COLUMN access_event.http_method IS 'HTTP 요청 방식';
+COMMENT
+ON COLUMN access_event.response_status IS 'HTTP 응답 상태 코드';
+COMMENT
+ON COLUMN access_event.response_time IS 'HTTP 응답 시간 (ms, 소수점 포함)';
+COMMENT
+ON COLUMN access_event.ip_address IS '요청 IP 주소';
+COMMENT
+ON COLUMN access_event.user_agent IS '클라이언트 User-Agent 정보';
+COMMENT
+ON COLUMN access_event.inputs IS '요청 파라미터 (JSON 형태)';
+COMMENT
+ON COLUMN access_event.outputs IS '응답 파라미터 (JSON 형태)';
+COMMENT
+ON COLUMN access_event.created_at IS '이벤트 생성 일시';
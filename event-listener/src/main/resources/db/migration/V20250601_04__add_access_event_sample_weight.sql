@@ -0,0 +1,21 @@
+SET
+TIMEZONE = 'Asia/Seoul';
+
+---------------------- 이벤트 샘플링 가중치 ----------------------
+-- 샘플링 수집된 이벤트가 대표하는 요청 수 (샘플링하지 않은 이벤트는 1)
+-- NOTE: PostgreSQL 11 이상은 상수 기본값 컬럼 추가 시 테이블을 다시 쓰지 않음
+ALTER TABLE access_event
+    ADD COLUMN sample_weight DOUBLE PRECISION NOT NULL DEFAULT 1;
+
+-- 집계 테이블: 저장된 이벤트 수(access_count)와 별도로 sample_weight 합계를 누적
+ALTER TABLE access_event_hourly_rollup
+    ADD COLUMN estimated_count DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+-- 기존 집계는 모두 샘플링 없이 수집된 이벤트이므로 이벤트 수와 동일
+UPDATE access_event_hourly_rollup
+SET estimated_count = access_count;
+
+COMMENT
+ON COLUMN access_event.sample_weight IS '샘플링 가중치 (이 이벤트가 대표하는 요청 수)';
+COMMENT
+ON COLUMN access_event_hourly_rollup.estimated_count IS '샘플링 가중치 합계 (추정 요청 수)';
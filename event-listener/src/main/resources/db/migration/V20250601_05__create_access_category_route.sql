@@ -0,0 +1,40 @@
+SET
+TIMEZONE = 'Asia/Seoul';
+
+---------------------- AccessCategoryRoute 테이블 ----------------------
+-- 요청 URI 접두사 → AccessCategory 분류 규칙 (UriCategoryClassifier 가 prefix trie 로 컴파일, 가장 긴 접두사 적용)
+CREATE TABLE access_category_route
+(
+    id          BIGINT       NOT NULL PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    category_id BIGINT       NOT NULL, -- AccessCategory의 id와 연관
+    uri_prefix  VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_access_category_route_uri_prefix UNIQUE (uri_prefix),
+    CONSTRAINT fk_access_category_route_category_id FOREIGN KEY (category_id)
+        REFERENCES access_category (id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_access_category_route_category_id ON access_category_route (category_id);
+
+-- AccessCategoryRoute 테이블에 대한 주석
+COMMENT
+ON TABLE access_category_route IS 'URI 접두사별 접근 카테고리 분류 규칙';
+COMMENT
+ON COLUMN access_category_route.category_id IS '접근 카테고리 ID (외래 키)';
+COMMENT
+ON COLUMN access_category_route.uri_prefix IS '요청 URI 접두사 (문자열 접두사 비교)';
+COMMENT
+ON COLUMN access_category_route.created_at IS '규칙 생성 일시';
+
+-- 기존 CategoryCode.determineCategoryFromURI 규칙 이관
+INSERT INTO access_category_route (category_id, uri_prefix)
+SELECT c.id, r.uri_prefix
+FROM (VALUES ('/admin', 'API_ADMIN'),
+             ('/external', 'API_EXTERNAL'),
+             ('/internal', 'API_INTERNAL'),
+             ('/health', 'HEALTH_SYSTEM'),
+             ('/queue', 'SERVICE_QUEUE'),
+             ('/api', 'API_PUBLIC')) AS r (uri_prefix, category_code)
+         JOIN access_category c ON c.category_code = r.category_code;
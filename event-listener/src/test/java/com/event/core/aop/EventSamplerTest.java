@@ -0,0 +1,113 @@
+package com.event.core.aop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.event.core.config.EventCaptureProperties;
+import com.event.core.config.EventCaptureProperties.SamplingMode;
+import com.event.core.config.EventCaptureProperties.SamplingRule;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class EventSamplerTest {
+
+  private static final String HEALTH_ENDPOINT = "/health/check";
+  private static final String HEALTH_CATEGORY = "HEALTH_SYSTEM";
+
+  @Test
+  void 규칙이_없으면_모든_이벤트를_가중치_1로_수집한다() {
+    EventSampler sampler = new EventSampler(new EventCaptureProperties(null, null, null));
+
+    assertEquals(1, sampler.sample("/api/test", "API_PUBLIC", 200, 0.01));
+  }
+
+  @Test
+  void 비율_샘플링은_수집된_이벤트에_역비율_가중치를_부여하고_합계는_전체_요청_수에_가깝다() {
+    EventSampler sampler = new EventSampler(properties(rule(SamplingMode.RATIO, rule -> rule.setRatio(0.1))));
+
+    double estimated = 0;
+    for (int i = 0; i < 100_000; i++) {
+      double weight = sampler.sample(HEALTH_ENDPOINT, HEALTH_CATEGORY, 200, 0.001);
+      if (weight != EventSampler.NOT_SAMPLED) {
+        assertEquals(10, weight, 1e-9);
+        estimated += weight;
+      }
+    }
+
+    assertEquals(100_000, estimated, 5_000);
+  }
+
+  @Test
+  void 토큰_버킷은_버려진_요청_수를_다음_수집_이벤트의_가중치로_넘긴다() {
+    AtomicLong nanoTime = new AtomicLong();
+    EventSampler.TokenBucket tokenBucket = new EventSampler.TokenBucket(1, 1, nanoTime::get); // 초당 1개, 버킷 크기 1
+
+    assertEquals(1, tokenBucket.tryAcquire());
+    assertEquals(EventSampler.NOT_SAMPLED, tokenBucket.tryAcquire());
+    assertEquals(EventSampler.NOT_SAMPLED, tokenBucket.tryAcquire());
+
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1)); // 1초 후 토큰 1개 충전
+    assertEquals(3, tokenBucket.tryAcquire()); // 버려진 2건 + 자기 자신
+    assertEquals(EventSampler.NOT_SAMPLED, tokenBucket.tryAcquire());
+  }
+
+  @Test
+  void 토큰_버킷은_동시_요청에서도_가중치_합계가_전체_요청_수와_같다() throws InterruptedException {
+    AtomicLong nanoTime = new AtomicLong();
+    EventSampler.TokenBucket tokenBucket = new EventSampler.TokenBucket(1, 10, nanoTime::get);
+    DoubleAdder totalWeight = new DoubleAdder();
+
+    int threadCount = 4;
+    int requestsPerThread = 10_000;
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < threadCount; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < requestsPerThread; i++) {
+          nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+          totalWeight.add(tokenBucket.tryAcquire());
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // 마지막 수집 이후 버려진 요청은 아직 정산되지 않았으므로, 토큰을 하나 더 채워 정산
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    totalWeight.add(tokenBucket.tryAcquire());
+
+    assertEquals(threadCount * requestsPerThread + 1, totalWeight.sum(), 1e-9);
+  }
+
+  @Test
+  void 오류_응답과_느린_응답은_규칙과_관계없이_수집한다() {
+    EventSampler sampler = new EventSampler(properties(rule(SamplingMode.NONE,
+                                                            rule -> rule.setSlowThreshold(Duration.ofSeconds(1)))));
+
+    assertEquals(EventSampler.NOT_SAMPLED, sampler.sample(HEALTH_ENDPOINT, HEALTH_CATEGORY, 200, 0.5));
+    assertEquals(1, sampler.sample(HEALTH_ENDPOINT, HEALTH_CATEGORY, 503, 0.5));
+    assertEquals(1, sampler.sample(HEALTH_ENDPOINT, HEALTH_CATEGORY, 200, 1.5));
+    assertEquals(1, sampler.sample("/api/test", "API_PUBLIC", 200, 0.5)); // 규칙에 해당하지 않는 요청은 defaults(ALL)
+  }
+
+  private static SamplingRule rule(SamplingMode mode, Consumer<SamplingRule> customizer) {
+    SamplingRule rule = new SamplingRule();
+    rule.setCategoryCode(HEALTH_CATEGORY);
+    rule.setMode(mode);
+    customizer.accept(rule);
+    return rule;
+  }
+
+  private static EventCaptureProperties properties(SamplingRule rule) {
+    EventCaptureProperties.Sampling sampling = new EventCaptureProperties.Sampling();
+    sampling.setRules(List.of(rule));
+    return new EventCaptureProperties(null, null, sampling);
+  }
+}
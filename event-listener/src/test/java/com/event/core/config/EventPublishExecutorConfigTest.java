@@ -0,0 +1,138 @@
+package com.event.core.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.event.infra.event.producer.OverflowPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+class EventPublishExecutorConfigTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch workerStarted = new CountDownLatch(1);
+  private final CountDownLatch releaseWorker = new CountDownLatch(1);
+
+  private ThreadPoolTaskExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    releaseWorker.countDown();
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void async_비활성화시_호출_스레드에서_실행한다() {
+    // given
+    EventCaptureProperties.Async async = new EventCaptureProperties.Async();
+    async.setEnabled(false);
+
+    // when
+    var taskExecutor = new EventPublishExecutorConfig().eventPublishExecutor(new EventCaptureProperties(async, null, null), meterRegistry);
+
+    // then
+    assertInstanceOf(SyncTaskExecutor.class, taskExecutor);
+  }
+
+  @Test
+  void DROP_OLDEST_정책은_가장_오래된_대기_작업을_버리고_유실_건수를_기록한다() throws InterruptedException {
+    // given
+    executor = newExecutor(OverflowPolicy.DROP_OLDEST);
+    occupyWorker();
+    AtomicBoolean oldestRan = new AtomicBoolean();
+    CountDownLatch newestRan = new CountDownLatch(1);
+    executor.execute(() -> oldestRan.set(true));
+    assertEquals(1.0, meterRegistry.get("event.capture.queued").gauge().value());
+
+    // when
+    executor.execute(newestRan::countDown); // 대기열(1) 초과
+
+    // then
+    assertEquals(1.0, meterRegistry.get("event.capture.dropped").counter().count());
+    releaseWorker.countDown();
+    assertTrue(newestRan.await(1, TimeUnit.SECONDS));
+    assertFalse(oldestRan.get());
+  }
+
+  @Test
+  void BLOCK_정책은_blockTimeout_동안_공간이_없으면_작업을_버린다() {
+    // given
+    executor = newExecutor(OverflowPolicy.BLOCK);
+    occupyWorker();
+    executor.execute(() -> { });
+    AtomicBoolean rejectedRan = new AtomicBoolean();
+
+    // when
+    long startNanos = System.nanoTime();
+    executor.execute(() -> rejectedRan.set(true));
+    long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    // then
+    assertTrue(waitedMillis >= 40, "blockTimeout 만큼 대기해야 함: " + waitedMillis);
+    assertEquals(1.0, meterRegistry.get("event.capture.dropped").counter().count());
+    assertEquals(1.0, meterRegistry.get("event.capture.queued").gauge().value());
+    assertFalse(rejectedRan.get());
+  }
+
+  @Test
+  void CALLER_RUNS_정책은_호출_스레드에서_직접_실행하고_유실로_기록하지_않는다() {
+    // given
+    executor = newExecutor(OverflowPolicy.CALLER_RUNS);
+    occupyWorker();
+    executor.execute(() -> { });
+    AtomicReference<Thread> runThread = new AtomicReference<>();
+
+    // when
+    executor.execute(() -> runThread.set(Thread.currentThread()));
+
+    // then
+    assertEquals(Thread.currentThread(), runThread.get());
+    assertEquals(0.0, meterRegistry.get("event.capture.dropped").counter().count());
+  }
+
+  private ThreadPoolTaskExecutor newExecutor(OverflowPolicy overflowPolicy) {
+    EventCaptureProperties.Async async = new EventCaptureProperties.Async();
+    async.setPoolSize(1);
+    async.setQueueCapacity(1);
+    async.setOverflowPolicy(overflowPolicy);
+    async.setBlockTimeout(Duration.ofMillis(50));
+
+    var taskExecutor = (ThreadPoolTaskExecutor) new EventPublishExecutorConfig()
+        .eventPublishExecutor(new EventCaptureProperties(async, null, null), meterRegistry);
+    taskExecutor.initialize(); // 컨테이너 밖이므로 직접 초기화
+    return taskExecutor;
+  }
+
+  /**
+   * 발행 스레드(1개)가 releaseWorker 전까지 작업을 끝내지 못하도록 점유
+   */
+  private void occupyWorker() {
+    executor.execute(() -> {
+      workerStarted.countDown();
+      try {
+        releaseWorker.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    try {
+      assertTrue(workerStarted.await(1, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
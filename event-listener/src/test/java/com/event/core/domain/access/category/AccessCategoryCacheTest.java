@@ -0,0 +1,79 @@
+package com.event.core.domain.access.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.core.domain.access.category.entity.AccessCategory;
+import com.event.core.exception.DataNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+class AccessCategoryCacheTest {
+
+  private static final String DUMMY_CATEGORY_CODE = "API_CATEGORY_CODE";
+
+  private final AccessCategoryRepository accessCategoryRepository = mock(AccessCategoryRepository.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AccessCategoryCache cache = new AccessCategoryCache(accessCategoryRepository, meterRegistry);
+
+  @Test
+  void 갱신된_카테고리는_DB_조회_없이_반환된다() {
+    // given
+    when(accessCategoryRepository.findAllByIsDeletedFalse()).thenReturn(List.of(newCategory()));
+    cache.refresh();
+
+    // when
+    cache.get(DUMMY_CATEGORY_CODE);
+    cache.get(DUMMY_CATEGORY_CODE);
+
+    // then
+    verify(accessCategoryRepository, never()).findByCategoryCodeAndIsDeletedFalse(anyString());
+    assertEquals(2.0, meterRegistry.get("event.category.cache.gets").tag("result", "hit").counter().count());
+  }
+
+  @Test
+  void 무효화된_카테고리는_다음_조회시_DB_에서_다시_적재한다() {
+    // given
+    when(accessCategoryRepository.findByCategoryCodeAndIsDeletedFalse(DUMMY_CATEGORY_CODE))
+        .thenReturn(Optional.of(newCategory()));
+    cache.get(DUMMY_CATEGORY_CODE);
+
+    // when
+    cache.onCategoryChanged(new AccessCategoryChangedEvent(DUMMY_CATEGORY_CODE));
+    cache.get(DUMMY_CATEGORY_CODE);
+    cache.get(DUMMY_CATEGORY_CODE);
+
+    // then
+    verify(accessCategoryRepository, times(2)).findByCategoryCodeAndIsDeletedFalse(DUMMY_CATEGORY_CODE);
+    assertEquals(2.0, meterRegistry.get("event.category.cache.gets").tag("result", "miss").counter().count());
+  }
+
+  @Test
+  void 존재하지_않는_카테고리는_예외가_발생한다() {
+    // given
+    when(accessCategoryRepository.findByCategoryCodeAndIsDeletedFalse(DUMMY_CATEGORY_CODE)).thenReturn(Optional.empty());
+
+    // then
+    assertThrows(DataNotFoundException.class, () -> cache.get(DUMMY_CATEGORY_CODE));
+  }
+
+  private AccessCategory newCategory() {
+    return AccessCategory.builder()
+                         .id(1L)
+                         .categoryCode(DUMMY_CATEGORY_CODE)
+                         .name("API Category")
+                         .createdAt(OffsetDateTime.now())
+                         .build();
+  }
+}
@@ -0,0 +1,74 @@
+package com.event.core.domain.access.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.event.core.config.CategoryRouteProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class UriCategoryClassifierTest {
+
+  private final AccessCategoryRouteJdbcRepository accessCategoryRouteJdbcRepository =
+      mock(AccessCategoryRouteJdbcRepository.class);
+
+  @Test
+  void 가장_긴_접두사_규칙의_카테고리로_분류한다() {
+    UriCategoryTrie trie = UriCategoryTrie.compile(List.of(new UriCategoryRule("/api", "API_PUBLIC"),
+                                                           new UriCategoryRule("/api/v1/admin", "API_ADMIN"),
+                                                           new UriCategoryRule("/health", "HEALTH_SYSTEM")),
+                                                   "UNKNOWN");
+
+    assertEquals("API_PUBLIC", trie.classify("/api/v1/users"));
+    assertEquals("API_ADMIN", trie.classify("/api/v1/admin/users"));
+    assertEquals("API_PUBLIC", trie.classify("/api/v1/adm"));      // 더 긴 규칙의 중간에서 끝나면 마지막으로 일치한 규칙
+    assertEquals("HEALTH_SYSTEM", trie.classify("/health"));
+    assertEquals("UNKNOWN", trie.classify("/access-category/1"));
+    assertEquals("UNKNOWN", trie.classify(null));
+  }
+
+  @Test
+  void DB_규칙을_읽기_전에는_기본_규칙으로_분류한다() {
+    UriCategoryClassifier classifier = newClassifier(List.of());
+
+    assertEquals("API_ADMIN", classifier.classify("/admin/api/v1/event/access/categories"));
+    assertEquals("API_EXTERNAL", classifier.classify("/external-api/orders"));
+    assertEquals("HEALTH_SYSTEM", classifier.classify("/health"));
+    assertEquals("UNKNOWN", classifier.classify("/access-category/1"));
+  }
+
+  @Test
+  void 갱신하면_DB_규칙과_설정_규칙으로_교체되고_같은_접두사는_설정이_우선한다() {
+    CategoryRouteProperties.Rule configRule = new CategoryRouteProperties.Rule();
+    configRule.setUriPrefix("/queue");
+    configRule.setCategoryCode("API_INTERNAL");
+    UriCategoryClassifier classifier = newClassifier(List.of(configRule));
+    when(accessCategoryRouteJdbcRepository.findAllActive()).thenReturn(List.of(new UriCategoryRule("/queue", "SERVICE_QUEUE"),
+                                                                               new UriCategoryRule("/batch", "SERVICE_QUEUE")));
+
+    classifier.refresh();
+
+    assertEquals("API_INTERNAL", classifier.classify("/queue/jobs"));
+    assertEquals("SERVICE_QUEUE", classifier.classify("/batch/jobs"));
+    assertEquals("UNKNOWN", classifier.classify("/admin/users")); // DB 에 없는 기본 규칙은 더 이상 사용하지 않음
+  }
+
+  @Test
+  void 갱신에_실패하면_기존_규칙을_유지한다() {
+    UriCategoryClassifier classifier = newClassifier(List.of());
+    when(accessCategoryRouteJdbcRepository.findAllActive()).thenThrow(new IllegalStateException("DB unavailable"));
+
+    classifier.refresh();
+
+    assertEquals("API_ADMIN", classifier.classify("/admin/users"));
+  }
+
+  private UriCategoryClassifier newClassifier(List<CategoryRouteProperties.Rule> configRules) {
+    return new UriCategoryClassifier(accessCategoryRouteJdbcRepository,
+                                     new CategoryRouteProperties(configRules),
+                                     new SimpleMeterRegistry());
+  }
+}
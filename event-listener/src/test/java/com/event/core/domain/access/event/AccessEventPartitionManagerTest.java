@@ -0,0 +1,120 @@
+package com.event.core.domain.access.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.core.config.AccessEventPartitionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+class AccessEventPartitionManagerTest {
+
+  private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private AccessEventPartitionManager partitionManager;
+
+  @BeforeEach
+  void setUp() {
+    partitionManager = new AccessEventPartitionManager(jdbcTemplate, transactionManager,
+                                                       new AccessEventPartitionProperties(null), meterRegistry);
+  }
+
+  @Test
+  void 파티션_이름은_KST_날짜를_접미사로_사용한다() {
+    assertEquals("access_event_p20250601", AccessEventPartitionManager.partitionNameOf(LocalDate.of(2025, 6, 1)));
+  }
+
+  @Test
+  void threshold_이전에_끝나는_파티션만_삭제하고_threshold_가_걸친_파티션은_유지한다() {
+    // given
+    when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("access_event")))
+        .thenReturn(List.of("access_event_p20250530", "access_event_p20250531", "access_event_p20250601",
+                            "access_event_default"));
+
+    // when
+    int droppedCount = partitionManager.dropPartitionsBefore(OffsetDateTime.of(2025, 6, 1, 12, 0, 0, 0, KST));
+
+    // then
+    assertEquals(2, droppedCount);
+    verify(jdbcTemplate).execute("DROP TABLE access_event_p20250530");
+    verify(jdbcTemplate).execute("DROP TABLE access_event_p20250531"); // 종료 시각(6/1 0시)이 threshold 이전
+    verify(jdbcTemplate, never()).execute("DROP TABLE access_event_p20250601");
+    verify(jdbcTemplate, never()).execute("DROP TABLE access_event_default");
+  }
+
+  @Test
+  void 기본_파티션에_해당_구간의_행이_없으면_파티션만_생성한다() {
+    // given
+    when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(OffsetDateTime.class), any(OffsetDateTime.class)))
+        .thenReturn(false);
+
+    // when
+    partitionManager.createPartition(LocalDate.of(2025, 6, 1));
+
+    // then
+    verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS access_event_p20250601 PARTITION OF access_event"));
+    verify(jdbcTemplate, never()).execute(contains("DETACH PARTITION access_event_default"));
+  }
+
+  @Test
+  void 기본_파티션에_해당_구간의_행이_있으면_한_트랜잭션에서_분리_생성_이동_재연결한다() {
+    // given
+    when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(OffsetDateTime.class), any(OffsetDateTime.class)))
+        .thenReturn(true);
+    OffsetDateTime from = OffsetDateTime.of(2025, 6, 1, 0, 0, 0, 0, KST);
+    OffsetDateTime to = from.plusDays(1);
+
+    // when
+    partitionManager.createPartition(LocalDate.of(2025, 6, 1));
+
+    // then
+    InOrder inOrder = inOrder(transactionManager, jdbcTemplate);
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(jdbcTemplate).execute("ALTER TABLE access_event DETACH PARTITION access_event_default");
+    inOrder.verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS access_event_p20250601"));
+    inOrder.verify(jdbcTemplate).update(contains("DELETE FROM access_event_default"), eq(from), eq(to));
+    inOrder.verify(jdbcTemplate).execute("ALTER TABLE access_event ATTACH PARTITION access_event_default DEFAULT");
+    inOrder.verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void 기본_파티션_분리_중_생성에_실패하면_롤백하고_실패_건수를_기록한다() {
+    // given
+    when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(OffsetDateTime.class), any(OffsetDateTime.class)))
+        .thenReturn(true);
+    doThrow(new IllegalStateException("lock timeout"))
+        .when(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS"));
+
+    // when
+    partitionManager.createPartition(LocalDate.of(2025, 6, 1));
+
+    // then
+    verify(transactionManager).rollback(any());
+    verify(transactionManager, never()).commit(any());
+    assertEquals(1.0, meterRegistry.get("event.partition.create.failed").counter().count());
+  }
+}
@@ -0,0 +1,122 @@
+package com.event.core.domain.access.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.core.domain.access.category.entity.AccessCategory;
+import com.event.core.domain.access.event.AccessEventRollupJdbcRepository.AccessEventCount;
+import com.event.core.domain.access.event.entity.AccessEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+class AccessEventRollupJdbcRepositoryTest {
+
+  private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+  private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 4, 27, 10, 5, 0, 0, KST);
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final AccessEventRollupJdbcRepository repository = new AccessEventRollupJdbcRepository(jdbcTemplate);
+  private final AccessCategory category = AccessCategory.builder().id(1L).categoryCode("API_PUBLIC").build();
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void 같은_시간_버킷_카테고리_엔드포인트_상태_분류의_이벤트는_합산하여_시간순으로_upsert_한다() throws SQLException {
+    // given
+    List<AccessEvent> accessEvents = List.of(
+        newEvent("/api/test", 200, 0.1, 10.0, BASE_TIME),
+        newEvent("/api/test", 204, 0.3, null, BASE_TIME.plusMinutes(30)), // 같은 10시 버킷, 같은 2xx 분류
+        newEvent("/api/test", 200, 0.2, 1.0, BASE_TIME.minusHours(1))     // 9시 버킷
+    );
+
+    // when
+    repository.increment(accessEvents);
+
+    // then
+    ArgumentCaptor<Collection> entriesCaptor = ArgumentCaptor.forClass(Collection.class);
+    ArgumentCaptor<ParameterizedPreparedStatementSetter> setterCaptor =
+        ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+    verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT"), entriesCaptor.capture(), eq(2), setterCaptor.capture());
+
+    List<Object> entries = new ArrayList<>(entriesCaptor.getValue());
+    PreparedStatement nineOClock = mock(PreparedStatement.class);
+    setterCaptor.getValue().setValues(nineOClock, entries.get(0)); // 잠금 순서를 고정하기 위해 버킷 시각 순으로 정렬
+    verify(nineOClock).setObject(1, OffsetDateTime.of(2025, 4, 27, 9, 0, 0, 0, KST), Types.TIMESTAMP_WITH_TIMEZONE);
+    verify(nineOClock).setLong(5, 1L);
+
+    PreparedStatement tenOClock = mock(PreparedStatement.class);
+    setterCaptor.getValue().setValues(tenOClock, entries.get(1));
+    verify(tenOClock).setObject(1, OffsetDateTime.of(2025, 4, 27, 10, 0, 0, 0, KST), Types.TIMESTAMP_WITH_TIMEZONE);
+    verify(tenOClock).setLong(2, 1L);
+    verify(tenOClock).setString(3, "/api/test");
+    verify(tenOClock).setInt(4, 2);
+    verify(tenOClock).setLong(5, 2L);        // 저장된 이벤트 수
+    verify(tenOClock).setDouble(6, 11.0);    // sampleWeight 합계 (null 은 1)
+    verify(tenOClock).setDouble(7, 0.4);     // 응답 시간 합계
+  }
+
+  @Test
+  void 저장할_이벤트가_없으면_upsert_하지_않는다() {
+    // when
+    repository.increment(List.of());
+
+    // then
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 구간_조회_결과를_카테고리_상태_분류별_이벤트_수로_변환한다() throws SQLException {
+    // given
+    OffsetDateTime start = OffsetDateTime.of(2025, 4, 27, 0, 0, 0, 0, KST);
+    OffsetDateTime end = start.plusDays(1);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getLong("category_id")).thenReturn(1L);
+    when(resultSet.getInt("status_class")).thenReturn(5);
+    when(resultSet.getLong("access_count")).thenReturn(3L);
+    when(resultSet.getDouble("estimated_count")).thenReturn(30.0);
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(start), eq(end))).thenAnswer(invocation -> {
+      RowMapper<AccessEventCount> rowMapper = invocation.getArgument(1);
+      return List.of(rowMapper.mapRow(resultSet, 0));
+    });
+
+    // when
+    List<AccessEventCount> counts = repository.findCounts(start, end);
+
+    // then
+    assertEquals(List.of(new AccessEventCount(1L, 5, 3L, 30.0)), counts);
+  }
+
+  private AccessEvent newEvent(String endpoint, int responseStatus, double responseTime, Double sampleWeight,
+                               OffsetDateTime createdAt) {
+    return AccessEvent.builder()
+                      .accessCategory(category)
+                      .categoryCode(category.getCategoryCode())
+                      .endpoint(endpoint)
+                      .responseStatus(responseStatus)
+                      .responseTime(responseTime)
+                      .sampleWeight(sampleWeight)
+                      .createdAt(createdAt)
+                      .build();
+  }
+}
@@ -0,0 +1,77 @@
+package com.event.core.domain.access.summary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.event.core.config.JacksonConfig;
+import com.event.core.domain.access.event.entity.AccessEvent;
+import com.event.core.domain.access.event.inout.AccessEventCursor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+class AccessEventNdjsonWriterTest {
+
+  private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 4, 27, 10, 0, 0, 123_456_000, ZoneOffset.ofHours(9));
+
+  private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+  @Test
+  void limit_까지만_출력하고_다음_페이지_커서를_마지막_줄에_출력한다() throws Exception {
+    // given
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    AccessEventNdjsonWriter writer = new AccessEventNdjsonWriter(objectMapper, outputStream, 2);
+
+    // when
+    writer.accept(newEvent(1L));
+    writer.accept(newEvent(2L));
+    writer.accept(newEvent(3L)); // limit + 1 번째 이벤트
+    writer.finish();
+
+    // then
+    String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(3, lines.length);
+    assertEquals(1L, objectMapper.readTree(lines[0]).get("id").asLong());
+    assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong());
+
+    AccessEventCursor nextCursor = AccessEventCursor.decode(objectMapper.readTree(lines[2]).get("nextCursor").asText());
+    assertEquals(2L, nextCursor.id());
+    assertTrue(BASE_TIME.plusSeconds(2).isEqual(nextCursor.createdAt()));
+  }
+
+  @Test
+  void 남은_이벤트가_없으면_nextCursor_는_null_이다() throws Exception {
+    // given
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    AccessEventNdjsonWriter writer = new AccessEventNdjsonWriter(objectMapper, outputStream, 2);
+
+    // when
+    writer.accept(newEvent(1L));
+    writer.finish();
+
+    // then
+    String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    JsonNode trailer = objectMapper.readTree(lines[1]);
+    assertTrue(trailer.get("nextCursor").isNull());
+  }
+
+  private AccessEvent newEvent(long id) {
+    return AccessEvent.builder()
+                      .id(id)
+                      .categoryCode("API_PUBLIC")
+                      .userId("user")
+                      .endpoint("/api/test")
+                      .httpMethod("GET")
+                      .responseStatus(200)
+                      .responseTime(0.01)
+                      .ipAddress("127.0.0.1")
+                      .createdAt(BASE_TIME.plusSeconds(id))
+                      .build();
+  }
+}
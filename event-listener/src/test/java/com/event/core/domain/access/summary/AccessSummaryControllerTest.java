@@ -0,0 +1,47 @@
+package com.event.core.domain.access.summary;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.event.core.exception.InvalidDataException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+class AccessSummaryControllerTest {
+
+  private static final LocalDate DUMMY_DATE = LocalDate.of(2025, 4, 27);
+
+  private final AccessSummaryService accessSummaryService = mock(AccessSummaryService.class);
+  private final AccessSummaryController controller = new AccessSummaryController(accessSummaryService);
+
+  @Test
+  void limit_가_양수가_아니면_서비스를_호출하지_않고_예외가_발생한다() {
+    assertThrows(InvalidDataException.class, () -> controller.streamAccessEvents(DUMMY_DATE, "API_PUBLIC", null, 0));
+    assertThrows(InvalidDataException.class, () -> controller.streamAccessEvents(DUMMY_DATE, "API_PUBLIC", null, -1));
+
+    verify(accessSummaryService, never()).streamAccessEvents(any(), any(), any(), any());
+  }
+
+  @Test
+  void limit_가_최대값을_넘으면_서비스를_호출하지_않고_예외가_발생한다() {
+    assertThrows(InvalidDataException.class,
+                 () -> controller.streamAccessEvents(DUMMY_DATE, "API_PUBLIC", null, AccessSummaryController.MAX_EVENTS_LIMIT + 1));
+    assertThrows(InvalidDataException.class,
+                 () -> controller.streamAccessEvents(DUMMY_DATE, "API_PUBLIC", null, Integer.MAX_VALUE));
+
+    verify(accessSummaryService, never()).streamAccessEvents(any(), any(), any(), any());
+  }
+
+  @Test
+  void limit_가_범위_안이거나_지정하지_않으면_서비스에_그대로_전달한다() {
+    controller.streamAccessEvents(DUMMY_DATE, "API_PUBLIC", null, AccessSummaryController.MAX_EVENTS_LIMIT);
+    controller.streamAccessEvents(DUMMY_DATE, "API_PUBLIC", null, null);
+
+    verify(accessSummaryService).streamAccessEvents(DUMMY_DATE, "API_PUBLIC", null, AccessSummaryController.MAX_EVENTS_LIMIT);
+    verify(accessSummaryService).streamAccessEvents(DUMMY_DATE, "API_PUBLIC", null, null);
+  }
+}
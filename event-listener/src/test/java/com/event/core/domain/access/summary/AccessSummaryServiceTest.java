@@ -0,0 +1,61 @@
+package com.event.core.domain.access.summary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.event.core.config.JacksonConfig;
+import com.event.core.domain.access.category.AccessCategoryService;
+import com.event.core.domain.access.category.inout.AccessCategoryDto;
+import com.event.core.domain.access.event.AccessEventRollupJdbcRepository.AccessEventCount;
+import com.event.core.domain.access.event.AccessEventService;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+class AccessSummaryServiceTest {
+
+  private static final LocalDate DUMMY_DATE = LocalDate.of(2025, 4, 27);
+
+  private final AccessEventService accessEventService = mock(AccessEventService.class);
+  private final AccessCategoryService accessCategoryService = mock(AccessCategoryService.class);
+  private final AccessSummaryService accessSummaryService =
+      new AccessSummaryService(accessEventService, accessCategoryService, new JacksonConfig().objectMapper());
+
+  @Test
+  void 집계_테이블의_이벤트_수를_카테고리별_상태_코드_분류로_합산한다() {
+    // given
+    when(accessCategoryService.getAllCategoriesNotDeleted()).thenReturn(List.of(
+        AccessCategoryDto.builder().id(1L).categoryCode("API_PUBLIC").build(),
+        AccessCategoryDto.builder().id(2L).categoryCode("ADMIN").build()
+    ));
+    OffsetDateTime startOfDay = OffsetDateTime.of(2025, 4, 27, 0, 0, 0, 0, ZoneOffset.ofHours(9));
+    when(accessEventService.countByCreatedAtRange(startOfDay, startOfDay.plusDays(1))).thenReturn(List.of(
+        new AccessEventCount(1L, 2, 5, 50.0),
+        new AccessEventCount(1L, 5, 1, 1.0)
+    ));
+
+    // when
+    AccessCountSummary summary = accessSummaryService.getAccessCountSummary(DUMMY_DATE);
+
+    // then
+    assertEquals(DUMMY_DATE, summary.accessDate());
+    assertEquals(6, summary.totalAccessCount());
+    assertEquals(51, summary.estimatedTotalAccessCount());
+
+    AccessCategoryCount apiPublic = summary.accessCategoryCounts().get(0);
+    assertEquals("API_PUBLIC", apiPublic.categoryCode());
+    assertEquals(6, apiPublic.accessCount());
+    assertEquals(51, apiPublic.estimatedAccessCount());
+    assertEquals(Map.of("2xx", 5L, "5xx", 1L), apiPublic.statusClassCounts());
+
+    AccessCategoryCount admin = summary.accessCategoryCounts().get(1);
+    assertEquals("ADMIN", admin.categoryCode());
+    assertEquals(0, admin.accessCount());
+    assertEquals(Map.of(), admin.statusClassCounts());
+  }
+}
@@ -0,0 +1,92 @@
+package com.event.infra.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+class StreamEntryCodecTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+
+  @Test
+  void COMPACT_인코딩한_필드를_그대로_복원한다() {
+    Map<String, String> body = accessEventBody();
+    body.put("userAgent", "");                              // 빈 문자열
+    body.put("inputs", "a\u001Fb\u001Bc\u0000d");           // 구분자/이스케이프 문자 포함
+
+    Map<String, String> encoded = StreamEntryCodec.encode(body);
+
+    assertTrue(StreamEntryCodec.isCompact(encoded));
+    assertEquals(body, StreamEntryCodec.decode(encoded));
+  }
+
+  @Test
+  void null_값_필드는_복원_시_제외된다() {
+    Map<String, String> body = accessEventBody();
+    body.put("outputs", null);
+
+    Map<String, String> decoded = StreamEntryCodec.decode(StreamEntryCodec.encode(body));
+
+    body.remove("outputs");
+    assertEquals(body, decoded);
+  }
+
+  @Test
+  void 스키마에_없는_필드가_있으면_MAP_형식을_유지한다() {
+    Map<String, String> body = accessEventBody();
+    body.put("unknownField", "value");
+
+    assertSame(body, StreamEntryCodec.encode(body));
+  }
+
+  @Test
+  void MAP_형식_레코드는_그대로_반환한다() {
+    MapRecord<String, String, String> record = MapRecord.create(DUMMY_STREAM_KEY, accessEventBody());
+
+    assertSame(record, StreamEntryCodec.decodeRecord(record));
+  }
+
+  @Test
+  void COMPACT_레코드는_ID를_유지하여_복원한다() {
+    RecordId recordId = RecordId.of("1700000000000-0");
+    MapRecord<String, String, String> record =
+        MapRecord.create(DUMMY_STREAM_KEY, StreamEntryCodec.encode(accessEventBody())).withId(recordId);
+
+    MapRecord<String, String, String> decoded = StreamEntryCodec.decodeRecord(record);
+
+    assertEquals(recordId, decoded.getId());
+    assertEquals(accessEventBody(), decoded.getValue());
+  }
+
+  @Test
+  void 지원하지_않는_스키마_버전이면_예외발생() {
+    assertThrows(IllegalArgumentException.class,
+                 () -> StreamEntryCodec.decode(Map.of(StreamEntryCodec.COMPACT_FIELD, "9\u001FACCESS")));
+  }
+
+  private static Map<String, String> accessEventBody() {
+    Map<String, String> body = new HashMap<>();
+    body.put("type", "ACCESS");
+    body.put("categoryCode", "API_PUBLIC");
+    body.put("userId", "anonymous");
+    body.put("endpoint", "/api/test");
+    body.put("httpMethod", "GET");
+    body.put("methodName", "TestController.get(..)");
+    body.put("responseStatus", "200");
+    body.put("responseTime", "0.012");
+    body.put("ipAddress", "127.0.0.1");
+    body.put("userAgent", "PostmanRuntime");
+    body.put("inputs", "[1]");
+    body.put("outputs", "{\"result\":\"success\"}");
+    body.put("sampleWeight", "1.0");
+    body.put("createdAt", "2025-05-18T12:34:56+09:00");
+    return body;
+  }
+}
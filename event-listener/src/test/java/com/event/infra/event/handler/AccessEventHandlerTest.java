@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
@@ -16,6 +17,7 @@ import com.event.core.domain.access.category.AccessCategoryService;
 import com.event.core.domain.access.category.entity.AccessCategory;
 import com.event.core.domain.access.category.inout.AccessCategoryDto;
 import com.event.core.domain.access.event.AccessEventService;
+import com.event.core.domain.access.event.entity.AccessEvent;
 import com.event.core.domain.access.event.inout.AccessEventDto;
 import com.event.infra.util.JsonParser;
 import com.event.infra.util.JsonParsingException;
@@ -29,6 +31,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.connection.stream.MapRecord;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +49,9 @@ class AccessEventHandlerTest {
   @Captor
   private ArgumentCaptor<AccessCategory> accessCategoryCaptor;
 
+  @Captor
+  private ArgumentCaptor<List<AccessEvent>> accessEventsCaptor;
+
   @InjectMocks
   private AccessEventHandler handler;
 
@@ -61,6 +67,7 @@ class AccessEventHandlerTest {
   private static final String DUMMY_USER_AGENT = "PostmanRuntime";
   private static final String DUMMY_INPUTS = "{\"key\": \"value\"}";
   private static final String DUMMY_OUTPUTS = "{\"result\": \"success\"}";
+  private static final double DUMMY_SAMPLE_WEIGHT = 10.0;
   private static final String DUMMY_CREATED_AT = "2025-05-18T12:34:56+09:00";
 
   @Test
@@ -77,6 +84,7 @@ class AccessEventHandlerTest {
     valueMap.put("userAgent", DUMMY_USER_AGENT);
     valueMap.put("inputs", DUMMY_INPUTS);
     valueMap.put("outputs", DUMMY_OUTPUTS);
+    valueMap.put("sampleWeight", String.valueOf(DUMMY_SAMPLE_WEIGHT));
     valueMap.put("createdAt", DUMMY_CREATED_AT);
 
     MapRecord<String, String, String> record = MapRecord.create(DUMMY_STREAM_KEY, valueMap);
@@ -92,6 +100,7 @@ class AccessEventHandlerTest {
                                                   .userAgent(DUMMY_USER_AGENT)
                                                   .inputs(DUMMY_INPUTS)
                                                   .outputs(DUMMY_OUTPUTS)
+                                                  .sampleWeight(DUMMY_SAMPLE_WEIGHT)
                                                   .createdAt(DUMMY_CREATED_AT)
                                                   .build();
 
@@ -120,6 +129,7 @@ class AccessEventHandlerTest {
         eq(DUMMY_USER_AGENT),
         eq(DUMMY_INPUTS),
         eq(DUMMY_OUTPUTS),
+        eq(DUMMY_SAMPLE_WEIGHT),
         eq(DUMMY_CREATED_AT)
     );
 
@@ -153,7 +163,7 @@ class AccessEventHandlerTest {
                                                       () -> handler.handleEvent(record));
 
     assertEquals("Category not found: " + INVALID_CATEGORY_CODE, exception.getMessage());
-    verify(accessEventService, never()).create(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    verify(accessEventService, never()).create(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -173,6 +183,60 @@ class AccessEventHandlerTest {
                                                   () -> handler.handleEvent(record));
 
     assertEquals("Failed to parse Map to class", exception.getMessage());
-    verify(accessEventService, never()).create(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    verify(accessEventService, never()).create(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void handleEvents_한번의_batch_insert_로_저장되고_카테고리는_코드별로_한번만_조회한다() {
+    // given
+    Map<String, String> valueMap = Map.of("categoryCode", DUMMY_CATEGORY_CODE);
+    List<MapRecord<String, String, String>> records = List.of(MapRecord.create(DUMMY_STREAM_KEY, valueMap),
+                                                              MapRecord.create(DUMMY_STREAM_KEY, valueMap),
+                                                              MapRecord.create(DUMMY_STREAM_KEY, valueMap));
+
+    AccessEventDto accessEventDto = AccessEventDto.builder()
+                                                  .categoryCode(DUMMY_CATEGORY_CODE)
+                                                  .userId(DUMMY_USER_ID)
+                                                  .endpoint(DUMMY_ENDPOINT)
+                                                  .httpMethod(DUMMY_METHOD)
+                                                  .responseStatus(DUMMY_STATUS)
+                                                  .responseTime(DUMMY_RESPONSE_TIME)
+                                                  .ipAddress(DUMMY_IP)
+                                                  .createdAt(DUMMY_CREATED_AT)
+                                                  .build();
+
+    AccessCategoryDto accessCategoryDto = AccessCategoryDto.builder()
+                                                           .id(1L)
+                                                           .categoryCode(DUMMY_CATEGORY_CODE)
+                                                           .name("API Category")
+                                                           .build();
+
+    // when
+    when(jsonParser.parseCamel(valueMap, AccessEventDto.class)).thenReturn(accessEventDto);
+    when(accessCategoryService.getByCategoryCodeNotDeleted(DUMMY_CATEGORY_CODE)).thenReturn(accessCategoryDto);
+
+    handler.handleEvents(records);
+
+    // then
+    verify(accessCategoryService, times(1)).getByCategoryCodeNotDeleted(DUMMY_CATEGORY_CODE);
+    verify(accessEventService, times(1)).createAll(accessEventsCaptor.capture());
+    verify(accessEventService, never()).create(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+
+    List<AccessEvent> savedEvents = accessEventsCaptor.getValue();
+    assertAll(
+        () -> assertEquals(3, savedEvents.size()),
+        () -> assertEquals(DUMMY_CATEGORY_CODE, savedEvents.get(0).getCategoryCode()),
+        () -> assertEquals(DUMMY_USER_ID, savedEvents.get(0).getUserId()),
+        () -> assertEquals(1.0, savedEvents.get(0).getSampleWeight()) // sampleWeight 가 없으면 1건으로 저장
+    );
+  }
+
+  @Test
+  void handleEvents_빈_목록이면_저장하지_않는다() {
+    // when
+    handler.handleEvents(List.of());
+
+    // then
+    verify(accessEventService, never()).createAll(anyList());
   }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.event.infra.event.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.util.List;
+
+class RedisStreamAckAccumulatorTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+  private static final String DUMMY_GROUP_NAME = "EVENT_GROUP";
+
+  private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  @SuppressWarnings("unchecked")
+  private final StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private RedisStreamAckAccumulator accumulator;
+
+  @BeforeEach
+  void setUp() {
+    when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+    accumulator = new RedisStreamAckAccumulator(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME, 3, Duration.ofSeconds(1),
+                                                redisTemplate, mock(TaskScheduler.class), meterRegistry);
+  }
+
+  @Test
+  void ackBatchSize_에_도달하면_하나의_XACK_로_승인한다() {
+    // when
+    accumulator.add(RecordId.of("1-0"));
+    accumulator.add(RecordId.of("2-0"));
+    accumulator.add(RecordId.of("3-0"));
+
+    // then
+    verify(streamOperations, times(1)).acknowledge(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME,
+                                                   RecordId.of("1-0"), RecordId.of("2-0"), RecordId.of("3-0"));
+    assertEquals(0, accumulator.getPendingCount());
+    assertEquals(3.0, meterRegistry.get("event.consumer.ack.flush.size").summary().totalAmount());
+  }
+
+  @Test
+  void 중지시_대기중인_ID_를_모두_승인한다() {
+    // given
+    accumulator.add(List.of(RecordId.of("1-0"), RecordId.of("2-0")));
+    verify(streamOperations, never()).acknowledge(eq(DUMMY_STREAM_KEY), eq(DUMMY_GROUP_NAME), any(RecordId[].class));
+    assertEquals(2.0, meterRegistry.get("event.consumer.ack.pending").gauge().value());
+
+    // when
+    accumulator.stop();
+
+    // then
+    verify(streamOperations, times(1)).acknowledge(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME,
+                                                   RecordId.of("1-0"), RecordId.of("2-0"));
+    assertEquals(0.0, meterRegistry.get("event.consumer.ack.pending").gauge().value());
+  }
+}
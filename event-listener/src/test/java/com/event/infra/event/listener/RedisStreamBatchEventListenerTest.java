@@ -0,0 +1,145 @@
+package com.event.infra.event.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.infra.event.EventType;
+import com.event.infra.event.handler.EventHandler;
+import com.event.infra.event.handler.EventHandlerResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RedisStreamBatchEventListenerTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+
+  private final EventHandler eventHandler = mock(EventHandler.class);
+  private final RedisStreamAckAccumulator ackAccumulator = mock(RedisStreamAckAccumulator.class);
+  private final RedisStreamLaneExecutor laneExecutor = new RedisStreamLaneExecutor("EVENT_CONSUMER-1", "categoryCode", 4);
+
+  private RedisStreamBatchEventListener listener;
+
+  @BeforeEach
+  void setUp() {
+    EventHandlerResolver eventHandlerResolver = mock(EventHandlerResolver.class);
+    when(eventHandlerResolver.getEventHandler(EventType.ACCESS)).thenReturn(eventHandler);
+    var metrics = new RedisStreamConsumerMetrics(DUMMY_STREAM_KEY, "EVENT_GROUP", "EVENT_CONSUMER-1", new SimpleMeterRegistry());
+    listener = new RedisStreamBatchEventListener("EVENT_CONSUMER-1", eventHandlerResolver, ackAccumulator, metrics, laneExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    laneExecutor.shutdown(Duration.ofSeconds(1));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void lane_별_처리가_모두_끝난_뒤에_ACK_를_flush_한다() {
+    // given
+    List<MapRecord<String, String, String>> records = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      records.add(newRecord(i + "-0", "CATEGORY_" + (i % 5)));
+    }
+    AtomicInteger handled = new AtomicInteger();
+    doAnswer(invocation -> {
+      Thread.sleep(50);
+      handled.addAndGet(invocation.<List<?>>getArgument(0).size());
+      return null;
+    }).when(eventHandler).handleEvents(anyList());
+    AtomicInteger handledAtFlush = new AtomicInteger(-1);
+    doAnswer(invocation -> {
+      handledAtFlush.set(handled.get());
+      return null;
+    }).when(ackAccumulator).flush();
+
+    // when
+    listener.onMessages(DUMMY_STREAM_KEY, records);
+
+    // then
+    assertEquals(records.size(), handledAtFlush.get());
+    ArgumentCaptor<List<RecordId>> idsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(ackAccumulator, atLeastOnce()).add(idsCaptor.capture());
+    assertEquals(records.size(), idsCaptor.getAllValues().stream().mapToInt(List::size).sum());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 같은_순서_키의_레코드는_수신_순서대로_처리된다() {
+    // given
+    List<MapRecord<String, String, String>> records = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      records.add(newRecord(i + "-0", "CATEGORY_" + (i % 3)));
+    }
+    Map<String, List<String>> handledByKey = new ConcurrentHashMap<>();
+    doAnswer(invocation -> {
+      List<MapRecord<String, String, String>> batch = invocation.getArgument(0);
+      batch.forEach(record -> handledByKey.computeIfAbsent(record.getValue().get("categoryCode"),
+                                                           key -> Collections.synchronizedList(new ArrayList<>()))
+                                          .add(record.getId().getValue()));
+      return null;
+    }).when(eventHandler).handleEvents(anyList());
+
+    // when
+    listener.onMessages(DUMMY_STREAM_KEY, records);
+
+    // then
+    for (int key = 0; key < 3; key++) {
+      List<String> expected = new ArrayList<>();
+      for (int i = key; i < 30; i += 3) {
+        expected.add(i + "-0");
+      }
+      assertEquals(expected, handledByKey.get("CATEGORY_" + key));
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 묶음_처리에_실패하면_레코드_단위로_재처리하여_성공한_레코드만_ACK_한다() {
+    // given
+    List<MapRecord<String, String, String>> records = List.of(newRecord("1-0", "ADMIN"), newRecord("2-0", "ADMIN"));
+    doAnswer(invocation -> {
+      throw new IllegalStateException("batch failed");
+    }).when(eventHandler).handleEvents(anyList());
+    doAnswer(invocation -> {
+      MapRecord<String, String, String> record = invocation.getArgument(0);
+      if (record.getId().equals(RecordId.of("2-0"))) {
+        throw new IllegalStateException("record failed");
+      }
+      return null;
+    }).when(eventHandler).handleEvent(any());
+
+    // when
+    listener.onMessages(DUMMY_STREAM_KEY, records);
+
+    // then
+    verify(ackAccumulator).add(List.of(RecordId.of("1-0")));
+    verify(ackAccumulator).flush();
+  }
+
+  private MapRecord<String, String, String> newRecord(String id, String categoryCode) {
+    return StreamRecords.newRecord()
+                        .in("EVENT_STREAM")
+                        .withId(RecordId.of(id))
+                        .ofMap(Map.of("type", "ACCESS", "categoryCode", categoryCode));
+  }
+}
@@ -0,0 +1,146 @@
+package com.event.infra.event.listener;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.infra.event.redis.StreamShardResolver;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.RedisStreamConsumerSet;
+import com.event.infra.event.redis.config.RedisStreamShardProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+class RedisStreamConsumerAutoscalerTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+  private static final String DUMMY_GROUP_NAME = "EVENT_GROUP";
+
+  private final RedisStreamListenerContainerManager containerManager = mock(RedisStreamListenerContainerManager.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicLong lag = new AtomicLong();
+  private final RedisStreamConsumerSet consumerSet = new RedisStreamConsumerSet();
+
+  private RedisStreamConsumerAutoscaler autoscaler;
+
+  @BeforeEach
+  void setUp() {
+    consumerSet.setStreamKey(DUMMY_STREAM_KEY);
+    consumerSet.setGroupName(DUMMY_GROUP_NAME);
+    consumerSet.getAutoscale().setEnabled(true);
+    consumerSet.getAutoscale().setMinConsumers(1);
+    consumerSet.getAutoscale().setMaxConsumers(4);
+    consumerSet.getAutoscale().setScaleOutBacklog(1_000);
+    consumerSet.getAutoscale().setScaleInBacklog(100);
+    consumerSet.getAutoscale().setMaxHandleLatency(Duration.ofMillis(500));
+    consumerSet.getAutoscale().setCooldown(Duration.ZERO);
+
+    Gauge.builder("event.stream.group.lag", lag, AtomicLong::get)
+         .tags("stream", DUMMY_STREAM_KEY, "group", DUMMY_GROUP_NAME)
+         .register(meterRegistry);
+    Gauge.builder("event.stream.group.pending", () -> 0)
+         .tags("stream", DUMMY_STREAM_KEY, "group", DUMMY_GROUP_NAME)
+         .register(meterRegistry);
+
+    autoscaler = new RedisStreamConsumerAutoscaler(new RedisStreamConsumerProperties(List.of(consumerSet)),
+                                                   new StreamShardResolver(new RedisStreamShardProperties(Map.of())),
+                                                   containerManager,
+                                                   meterRegistry);
+  }
+
+  @Test
+  void 적체량이_scaleOutBacklog_를_넘으면_컨슈머를_추가한다() {
+    // given
+    lag.set(5_000);
+    when(containerManager.getConsumerCount(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME)).thenReturn(2);
+
+    // when
+    autoscaler.autoscale();
+
+    // then
+    verify(containerManager).scaleOut(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME);
+  }
+
+  @Test
+  void 레코드_1건_평균_처리_시간이_maxHandleLatency_를_넘으면_컨슈머를_추가하지_않는다() {
+    // given
+    lag.set(5_000);
+    when(containerManager.getConsumerCount(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME)).thenReturn(2);
+    Timer handleTimer = Timer.builder("event.consumer.handle")
+                             .tags("stream", DUMMY_STREAM_KEY, "group", DUMMY_GROUP_NAME, "consumer", "EVENT_CONSUMER-1")
+                             .register(meterRegistry);
+    handleTimer.record(Duration.ofSeconds(1));
+    handleTimer.record(Duration.ofSeconds(1));
+
+    // when
+    autoscaler.autoscale();
+
+    // then
+    verify(containerManager, never()).scaleOut(anyString(), anyString());
+  }
+
+  @Test
+  void maxConsumers_에_도달하면_컨슈머를_추가하지_않는다() {
+    // given
+    lag.set(5_000);
+    when(containerManager.getConsumerCount(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME)).thenReturn(4);
+
+    // when
+    autoscaler.autoscale();
+
+    // then
+    verify(containerManager, never()).scaleOut(anyString(), anyString());
+  }
+
+  @Test
+  void 적체량이_scaleInBacklog_이하이면_컨슈머를_제거한다() {
+    // given
+    lag.set(10);
+    when(containerManager.getConsumerCount(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME)).thenReturn(2);
+
+    // when
+    autoscaler.autoscale();
+
+    // then
+    verify(containerManager).scaleIn(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME);
+  }
+
+  @Test
+  void minConsumers_에_도달하면_컨슈머를_제거하지_않는다() {
+    // given
+    lag.set(10);
+    when(containerManager.getConsumerCount(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME)).thenReturn(1);
+
+    // when
+    autoscaler.autoscale();
+
+    // then
+    verify(containerManager, never()).scaleIn(anyString(), anyString());
+  }
+
+  @Test
+  void cooldown_동안은_조정하지_않고_이관되지_않은_pending_엔트리만_다시_이관한다() {
+    // given
+    consumerSet.getAutoscale().setCooldown(Duration.ofHours(1));
+    lag.set(5_000);
+    when(containerManager.getConsumerCount(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME)).thenReturn(2);
+
+    // when
+    autoscaler.autoscale();
+
+    // then
+    verify(containerManager).retryHandOffs(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME);
+    verify(containerManager, never()).scaleOut(anyString(), anyString());
+  }
+}
@@ -0,0 +1,46 @@
+package com.event.infra.event.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class RedisStreamConsumerMetricsTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RedisStreamConsumerMetrics metrics =
+      new RedisStreamConsumerMetrics("EVENT_STREAM", "EVENT_GROUP", "EVENT_CONSUMER-1", meterRegistry);
+
+  @Test
+  void 묶음_처리_시간은_batch_timer_에_레코드_단위_처리_시간은_handle_timer_에_기록한다() {
+    // given
+    Timer.Sample sample = metrics.startHandle();
+
+    // when
+    metrics.stopBatchHandle(sample, 4);
+
+    // then
+    Timer batchTimer = meterRegistry.get("event.consumer.handle.batch").timer();
+    Timer handleTimer = meterRegistry.get("event.consumer.handle").timer();
+    assertEquals(1, batchTimer.count());
+    assertEquals(4, handleTimer.count());
+    assertEquals(batchTimer.totalTime(TimeUnit.NANOSECONDS), handleTimer.totalTime(TimeUnit.NANOSECONDS), 4);
+  }
+
+  @Test
+  void 레코드_단위로_재처리할_실패_묶음은_handle_timer_에_기록하지_않는다() {
+    // given
+    Timer.Sample sample = metrics.startHandle();
+
+    // when
+    metrics.stopBatchHandle(sample, 0);
+
+    // then
+    assertEquals(1, meterRegistry.get("event.consumer.handle.batch").timer().count());
+    assertEquals(0, meterRegistry.get("event.consumer.handle").timer().count());
+  }
+}
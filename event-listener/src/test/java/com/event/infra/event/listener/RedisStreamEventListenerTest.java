@@ -0,0 +1,84 @@
+package com.event.infra.event.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.infra.event.EventType;
+import com.event.infra.event.handler.EventHandler;
+import com.event.infra.event.handler.EventHandlerResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class RedisStreamEventListenerTest {
+
+  private final EventHandler eventHandler = mock(EventHandler.class);
+  private final RedisStreamAckAccumulator ackAccumulator = mock(RedisStreamAckAccumulator.class);
+  private final RedisStreamLaneExecutor laneExecutor = new RedisStreamLaneExecutor("EVENT_CONSUMER-1", "categoryCode", 2);
+
+  private RedisStreamEventListener listener;
+
+  @BeforeEach
+  void setUp() {
+    EventHandlerResolver eventHandlerResolver = mock(EventHandlerResolver.class);
+    when(eventHandlerResolver.getEventHandler(EventType.ACCESS)).thenReturn(eventHandler);
+    var metrics = new RedisStreamConsumerMetrics("EVENT_STREAM", "EVENT_GROUP", "EVENT_CONSUMER-1", new SimpleMeterRegistry());
+    listener = new RedisStreamEventListener("EVENT_CONSUMER-1", eventHandlerResolver, ackAccumulator, metrics, laneExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    laneExecutor.shutdown(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void lane_에서_처리가_끝난_뒤에만_ACK_한다() throws InterruptedException {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(eventHandler).handleEvent(any());
+
+    // when
+    listener.onMessage(newRecord("1-0", "ADMIN")); // lane 에 넘기고 바로 반환
+
+    // then
+    Thread.sleep(100);
+    verify(ackAccumulator, never()).add(RecordId.of("1-0"));
+    release.countDown();
+    verify(ackAccumulator, timeout(1000)).add(RecordId.of("1-0"));
+  }
+
+  @Test
+  void 처리에_실패한_레코드는_ACK_하지_않는다() {
+    // given
+    doThrow(new IllegalStateException("db down")).when(eventHandler).handleEvent(any());
+
+    // when
+    listener.onMessage(newRecord("1-0", "ADMIN"));
+    laneExecutor.awaitIdle(Duration.ofSeconds(1));
+
+    // then
+    verify(ackAccumulator, never()).add(any(RecordId.class));
+  }
+
+  private MapRecord<String, String, String> newRecord(String id, String categoryCode) {
+    return StreamRecords.newRecord()
+                        .in("EVENT_STREAM")
+                        .withId(RecordId.of(id))
+                        .ofMap(Map.of("type", "ACCESS", "categoryCode", categoryCode));
+  }
+}
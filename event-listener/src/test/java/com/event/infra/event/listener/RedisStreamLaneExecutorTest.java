@@ -0,0 +1,145 @@
+package com.event.infra.event.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class RedisStreamLaneExecutorTest {
+
+  private static final String ORDERING_FIELD = "categoryCode";
+
+  private final RedisStreamLaneExecutor laneExecutor = new RedisStreamLaneExecutor("EVENT_CONSUMER-1", ORDERING_FIELD, 4);
+
+  @AfterEach
+  void tearDown() {
+    laneExecutor.shutdown(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void 같은_순서_키의_레코드는_항상_같은_lane_에_배정된다() {
+    // when
+    int lane = laneExecutor.laneOf(newRecord("1-0", "ADMIN"));
+
+    // then
+    assertEquals(lane, laneExecutor.laneOf(newRecord("2-0", "ADMIN")));
+    IntStream.range(0, 100)
+             .map(i -> laneExecutor.laneOf(newRecord(i + "-0", "CATEGORY_" + i)))
+             .forEach(index -> assertTrue(index >= 0 && index < laneExecutor.getConcurrency()));
+  }
+
+  @Test
+  void 순서_키가_없는_레코드는_첫_번째_lane_에_배정된다() {
+    // given
+    Map<String, String> body = new HashMap<>();
+    body.put("type", "ACCESS");
+    body.put(ORDERING_FIELD, null);
+
+    // when & then
+    assertEquals(0, laneExecutor.laneOf(StreamRecords.newRecord().in("EVENT_STREAM").withId(RecordId.of("1-0")).ofMap(body)));
+  }
+
+  @Test
+  void 같은_lane_의_작업은_제출한_순서대로_처리된다() {
+    // given
+    List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < 50; i++) {
+      int sequence = i;
+      futures.add(laneExecutor.submit(1, () -> processed.add(sequence)));
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    // then
+    assertEquals(IntStream.range(0, 50).boxed().toList(), processed);
+  }
+
+  @Test
+  void 동시_작업_수가_concurrency_에_도달하면_빈_자리가_생길_때까지_제출을_대기한다() throws InterruptedException {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    Runnable blockingTask = () -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      running.decrementAndGet();
+    };
+    for (int lane = 0; lane < laneExecutor.getConcurrency(); lane++) {
+      laneExecutor.submit(lane, blockingTask);
+    }
+
+    // when
+    AtomicBoolean submitted = new AtomicBoolean();
+    Thread submitter = Thread.ofVirtual().start(() -> {
+      laneExecutor.submit(0, blockingTask);
+      submitted.set(true);
+    });
+
+    // then
+    submitter.join(200);
+    assertFalse(submitted.get());
+    release.countDown();
+    submitter.join(1000);
+    assertTrue(submitted.get());
+    laneExecutor.awaitIdle(Duration.ofSeconds(1));
+    assertEquals(laneExecutor.getConcurrency(), maxRunning.get());
+  }
+
+  @Test
+  void awaitIdle_은_제출된_작업이_모두_끝날_때까지_대기한다() {
+    // given
+    AtomicInteger completed = new AtomicInteger();
+    for (int lane = 0; lane < laneExecutor.getConcurrency(); lane++) {
+      laneExecutor.submit(lane, () -> {
+        sleepQuietly(100);
+        completed.incrementAndGet();
+      });
+    }
+
+    // when
+    laneExecutor.awaitIdle(Duration.ofSeconds(5));
+
+    // then
+    assertEquals(laneExecutor.getConcurrency(), completed.get());
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private MapRecord<String, String, String> newRecord(String id, String orderingKey) {
+    return StreamRecords.newRecord()
+                        .in("EVENT_STREAM")
+                        .withId(RecordId.of(id))
+                        .ofMap(Map.of("type", "ACCESS", ORDERING_FIELD, orderingKey));
+  }
+}
@@ -0,0 +1,151 @@
+package com.event.infra.event.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.infra.event.handler.EventHandlerResolver;
+import com.event.infra.event.redis.StreamShardResolver;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.ConsumeMode;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.RedisStreamConsumerSet;
+import com.event.infra.event.redis.config.RedisStreamShardProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+class RedisStreamListenerContainerManagerTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+  private static final String DUMMY_GROUP_NAME = "EVENT_GROUP";
+  private static final Consumer REMOVED_CONSUMER = Consumer.from(DUMMY_GROUP_NAME, "EVENT_CONSUMER-2");
+
+  private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  @SuppressWarnings("unchecked")
+  private final StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+  private final RedisConnection redisConnection = mock(RedisConnection.class);
+  private final RedisStreamCommands streamCommands = mock(RedisStreamCommands.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private RedisStreamListenerContainerManager manager;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+    when(redisTemplate.execute(any(RedisCallback.class), eq(true)))
+        .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(redisConnection));
+    when(redisConnection.streamCommands()).thenReturn(streamCommands);
+
+    RedisStreamConsumerSet consumerSet = new RedisStreamConsumerSet();
+    consumerSet.setStreamKey(DUMMY_STREAM_KEY);
+    consumerSet.setGroupName(DUMMY_GROUP_NAME);
+    consumerSet.setConsumerPrefix("EVENT_CONSUMER");
+    consumerSet.setConsumerCount(2);
+    consumerSet.setConsumeMode(ConsumeMode.BATCH);
+
+    manager = new RedisStreamListenerContainerManager(new RedisStreamConsumerProperties(List.of(consumerSet)),
+                                                      redisTemplate,
+                                                      mock(EventHandlerResolver.class),
+                                                      mock(ApplicationEventPublisher.class),
+                                                      mock(RedisStreamListenerContainerFactory.class),
+                                                      mock(TaskScheduler.class),
+                                                      meterRegistry,
+                                                      new StreamShardResolver(new RedisStreamShardProperties(Map.of())));
+    manager.registerListeners(); // 컨테이너는 시작하지 않음
+  }
+
+  @Test
+  void 축소시_pending_엔트리를_JUSTID_로_이관하고_컨슈머와_지표를_삭제한다() {
+    // given
+    when(streamOperations.pending(eq(DUMMY_STREAM_KEY), eq(REMOVED_CONSUMER), any(), anyLong()))
+        .thenReturn(pendingMessages("1-0", "2-0"))
+        .thenReturn(pendingMessages());
+    when(streamCommands.xClaimJustId(any(byte[].class), eq(DUMMY_GROUP_NAME), eq("EVENT_CONSUMER-1"), any(XClaimOptions.class)))
+        .thenReturn(List.of(RecordId.of("1-0"), RecordId.of("2-0")));
+    assertNotNull(meterRegistry.find("event.consumer.handle").tag("consumer", "EVENT_CONSUMER-2").timer());
+
+    // when
+    int consumerCount = manager.scaleIn(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME);
+
+    // then
+    assertEquals(1, consumerCount);
+    verify(streamCommands, times(1)).xClaimJustId(any(byte[].class), eq(DUMMY_GROUP_NAME), eq("EVENT_CONSUMER-1"), any(XClaimOptions.class));
+    verify(streamOperations, times(1)).deleteConsumer(DUMMY_STREAM_KEY, REMOVED_CONSUMER);
+    assertNull(meterRegistry.find("event.consumer.handle").tag("consumer", "EVENT_CONSUMER-2").timer());
+    assertNull(meterRegistry.find("event.consumer.records").tag("consumer", "EVENT_CONSUMER-2").counter());
+    assertNotNull(meterRegistry.find("event.consumer.handle").tag("consumer", "EVENT_CONSUMER-1").timer());
+  }
+
+  @Test
+  void 이관되지_않은_엔트리가_남으면_컨슈머를_삭제하지_않고_다음_주기에_다시_이관한다() {
+    // given
+    when(streamOperations.pending(eq(DUMMY_STREAM_KEY), eq(REMOVED_CONSUMER), any(), anyLong()))
+        .thenReturn(pendingMessages("1-0"))  // 축소: 이관 시도
+        .thenReturn(pendingMessages("1-0"))  // 축소: 남은 엔트리 확인
+        .thenReturn(pendingMessages("1-0"))  // 재시도: 이관 시도
+        .thenReturn(pendingMessages());      // 재시도: 이관 완료
+    when(streamCommands.xClaimJustId(any(byte[].class), eq(DUMMY_GROUP_NAME), eq("EVENT_CONSUMER-1"), any(XClaimOptions.class)))
+        .thenReturn(List.of())
+        .thenReturn(List.of(RecordId.of("1-0")));
+
+    // when
+    manager.scaleIn(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME);
+
+    // then
+    verify(streamOperations, never()).deleteConsumer(DUMMY_STREAM_KEY, REMOVED_CONSUMER);
+
+    // when
+    manager.retryHandOffs(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME);
+
+    // then
+    verify(streamOperations, times(1)).deleteConsumer(DUMMY_STREAM_KEY, REMOVED_CONSUMER);
+  }
+
+  @Test
+  void 컨슈머가_하나만_남으면_더_이상_축소하지_않는다() {
+    // given
+    when(streamOperations.pending(eq(DUMMY_STREAM_KEY), any(Consumer.class), any(), anyLong())).thenReturn(pendingMessages());
+    manager.scaleIn(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME);
+
+    // when
+    int consumerCount = manager.scaleIn(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME);
+
+    // then
+    assertEquals(1, consumerCount);
+    verify(streamOperations, times(1)).deleteConsumer(eq(DUMMY_STREAM_KEY), any(Consumer.class));
+  }
+
+  private PendingMessages pendingMessages(String... ids) {
+    List<PendingMessage> messages = Arrays.stream(ids)
+                                          .map(id -> new PendingMessage(RecordId.of(id), REMOVED_CONSUMER, Duration.ofSeconds(1), 1))
+                                          .toList();
+    return new PendingMessages(DUMMY_GROUP_NAME, messages);
+  }
+}
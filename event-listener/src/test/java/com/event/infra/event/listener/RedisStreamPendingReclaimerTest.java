@@ -0,0 +1,197 @@
+package com.event.infra.event.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.infra.event.EventType;
+import com.event.infra.event.handler.EventHandler;
+import com.event.infra.event.handler.EventHandlerResolver;
+import com.event.infra.event.redis.StreamShardResolver;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties;
+import com.event.infra.event.redis.config.RedisStreamConsumerProperties.RedisStreamConsumerSet;
+import com.event.infra.event.redis.config.RedisStreamShardProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.connection.stream.StringRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+class RedisStreamPendingReclaimerTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+  private static final String DUMMY_GROUP_NAME = "EVENT_GROUP";
+  private static final Duration RECLAIM_MIN_IDLE = Duration.ofMinutes(5);
+
+  private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  @SuppressWarnings("unchecked")
+  private final StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+  private final StringRedisConnection stringRedisConnection = mock(StringRedisConnection.class);
+  private final EventHandler eventHandler = mock(EventHandler.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private RedisStreamPendingReclaimer reclaimer;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+    when(redisTemplate.execute(any(RedisCallback.class)))
+        .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(stringRedisConnection));
+    EventHandlerResolver eventHandlerResolver = mock(EventHandlerResolver.class);
+    when(eventHandlerResolver.getEventHandler(EventType.ACCESS)).thenReturn(eventHandler);
+
+    RedisStreamConsumerSet consumerSet = new RedisStreamConsumerSet();
+    consumerSet.setStreamKey(DUMMY_STREAM_KEY);
+    consumerSet.setGroupName(DUMMY_GROUP_NAME);
+    consumerSet.setConsumerPrefix("EVENT_CONSUMER");
+    consumerSet.setReclaimMinIdle(RECLAIM_MIN_IDLE);
+    consumerSet.setReclaimBatchSize(2);
+    consumerSet.setMaxDeliveryCount(5);
+
+    reclaimer = new RedisStreamPendingReclaimer(new RedisStreamConsumerProperties(List.of(consumerSet)),
+                                                new StreamShardResolver(new RedisStreamShardProperties(Map.of())),
+                                                redisTemplate,
+                                                eventHandlerResolver,
+                                                meterRegistry);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 재시도된_엔트리가_PEL_앞쪽을_차지해도_다음_페이지에서_방치된_엔트리를_회수한다() {
+    // given
+    when(streamOperations.pending(eq(DUMMY_STREAM_KEY), eq(DUMMY_GROUP_NAME), any(Range.class), anyLong()))
+        .thenReturn(pendingMessages(pendingMessage("1-0", Duration.ofSeconds(1), 2),  // 직전에 재시도되어 idle 초기화
+                                    pendingMessage("2-0", Duration.ofSeconds(1), 2)))
+        .thenReturn(pendingMessages(pendingMessage("3-0", RECLAIM_MIN_IDLE.plusMinutes(1), 1)));
+    when(stringRedisConnection.xClaim(eq(DUMMY_STREAM_KEY), eq(DUMMY_GROUP_NAME), eq("EVENT_CONSUMER-reclaimer"), any(XClaimOptions.class)))
+        .thenReturn(List.of(record("3-0")));
+
+    // when
+    reclaimer.reclaim();
+
+    // then
+    ArgumentCaptor<Range<?>> rangeCaptor = ArgumentCaptor.forClass(Range.class);
+    verify(streamOperations, times(2)).pending(eq(DUMMY_STREAM_KEY), eq(DUMMY_GROUP_NAME), rangeCaptor.capture(), eq(2L));
+    Range.Bound<?> lowerBound = rangeCaptor.getAllValues().get(1).getLowerBound();
+    assertEquals("2-0", lowerBound.getValue().orElseThrow());
+    assertFalse(lowerBound.isInclusive());
+
+    ArgumentCaptor<XClaimOptions> claimCaptor = ArgumentCaptor.forClass(XClaimOptions.class);
+    verify(stringRedisConnection).xClaim(eq(DUMMY_STREAM_KEY), eq(DUMMY_GROUP_NAME), eq("EVENT_CONSUMER-reclaimer"), claimCaptor.capture());
+    assertEquals(List.of(RecordId.of("3-0")), claimCaptor.getValue().getIds());
+    verify(streamOperations).acknowledge(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME, RecordId.of("3-0"));
+    assertEquals(1.0, reclaimCount("recovered"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 전달_횟수가_maxDeliveryCount_에_도달하면_오류_정보와_함께_DLQ_로_옮긴_뒤_ACK_한다() {
+    // given
+    when(streamOperations.pending(eq(DUMMY_STREAM_KEY), eq(DUMMY_GROUP_NAME), any(Range.class), anyLong()))
+        .thenReturn(pendingMessages(pendingMessage("1-0", RECLAIM_MIN_IDLE, 5)));
+    when(stringRedisConnection.xClaim(anyString(), anyString(), anyString(), any(XClaimOptions.class)))
+        .thenReturn(List.of(record("1-0")));
+
+    // when
+    reclaimer.reclaim();
+
+    // then
+    ArgumentCaptor<Map<String, String>> bodyCaptor = ArgumentCaptor.forClass(Map.class);
+    InOrder inOrder = inOrder(streamOperations);
+    inOrder.verify(streamOperations).add(eq(DUMMY_STREAM_KEY + RedisStreamPendingReclaimer.DEAD_LETTER_SUFFIX), bodyCaptor.capture());
+    inOrder.verify(streamOperations).acknowledge(DUMMY_STREAM_KEY, DUMMY_GROUP_NAME, RecordId.of("1-0"));
+
+    Map<String, String> body = bodyCaptor.getValue();
+    assertEquals("ACCESS", body.get("type"));
+    assertEquals(DUMMY_STREAM_KEY, body.get("dlqSourceStream"));
+    assertEquals("1-0", body.get("dlqSourceId"));
+    assertEquals(DUMMY_GROUP_NAME, body.get("dlqGroup"));
+    assertEquals("5", body.get("dlqDeliveryCount"));
+    assertEquals("MaxDeliveryCountExceeded", body.get("dlqErrorClass"));
+    verify(eventHandler, never()).handleEvent(any());
+    assertEquals(1.0, reclaimCount("dead_lettered"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 재처리에_다시_실패하면_ACK_하지_않고_PEL_에_남긴다() {
+    // given
+    when(streamOperations.pending(eq(DUMMY_STREAM_KEY), eq(DUMMY_GROUP_NAME), any(Range.class), anyLong()))
+        .thenReturn(pendingMessages(pendingMessage("1-0", RECLAIM_MIN_IDLE, 1)));
+    when(stringRedisConnection.xClaim(anyString(), anyString(), anyString(), any(XClaimOptions.class)))
+        .thenReturn(List.of(record("1-0")));
+    doThrow(new IllegalStateException("db down")).when(eventHandler).handleEvent(any());
+
+    // when
+    reclaimer.reclaim();
+
+    // then
+    verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+    verify(streamOperations, never()).add(anyString(), anyMap());
+    assertEquals(1.0, reclaimCount("retry_failed"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void reclaimMinIdle_이상_방치된_엔트리가_없으면_회수하지_않는다() {
+    // given
+    when(streamOperations.pending(eq(DUMMY_STREAM_KEY), eq(DUMMY_GROUP_NAME), any(Range.class), anyLong()))
+        .thenReturn(pendingMessages(pendingMessage("1-0", Duration.ofSeconds(1), 1)));
+
+    // when
+    reclaimer.reclaim();
+
+    // then
+    verify(stringRedisConnection, never()).xClaim(anyString(), anyString(), anyString(), any(XClaimOptions.class));
+  }
+
+  private double reclaimCount(String result) {
+    return meterRegistry.get("event.consumer.reclaim")
+                        .tags("stream", DUMMY_STREAM_KEY, "group", DUMMY_GROUP_NAME, "result", result)
+                        .counter()
+                        .count();
+  }
+
+  private PendingMessages pendingMessages(PendingMessage... messages) {
+    return new PendingMessages(DUMMY_GROUP_NAME, List.of(messages));
+  }
+
+  private PendingMessage pendingMessage(String id, Duration idle, long deliveryCount) {
+    return new PendingMessage(RecordId.of(id), Consumer.from(DUMMY_GROUP_NAME, "EVENT_CONSUMER-1"), idle, deliveryCount);
+  }
+
+  private StringRecord record(String id) {
+    return StreamRecords.string(Map.of("type", "ACCESS", "userId", "user1"))
+                        .withStreamKey(DUMMY_STREAM_KEY)
+                        .withId(RecordId.of(id));
+  }
+}
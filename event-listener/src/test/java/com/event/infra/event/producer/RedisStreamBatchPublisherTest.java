@@ -0,0 +1,166 @@
+package com.event.infra.event.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.infra.event.redis.config.RedisStreamProducerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class RedisStreamBatchPublisherTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+
+  private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+  private final StringRedisConnection stringRedisConnection = mock(StringRedisConnection.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private RedisStreamBatchPublisher publisher;
+
+  @AfterEach
+  void tearDown() {
+    if (publisher != null) {
+      publisher.stop();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void batch_size에_도달하면_pipeline_으로_한번에_저장된다() {
+    // given
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      RedisCallback<Object> callback = invocation.getArgument(0);
+      callback.doInRedis(stringRedisConnection);
+      return List.of();
+    });
+    publisher = new RedisStreamBatchPublisher(stringRedisTemplate, batchProperties(3, OverflowPolicy.BLOCK, 100), StreamTrimPolicy.none(), meterRegistry);
+    publisher.start();
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      publisher.enqueue(newEvent(i));
+    }
+
+    // then
+    verify(stringRedisConnection, timeout(1000).times(3)).xAdd(eq(DUMMY_STREAM_KEY), anyMap());
+    publisher.stop();
+    assertEquals(3.0, meterRegistry.get("event.producer.batch.flush.size").summary().totalAmount());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 중지시_버퍼에_남은_이벤트를_모두_저장한다() {
+    // given
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      RedisCallback<Object> callback = invocation.getArgument(0);
+      callback.doInRedis(stringRedisConnection);
+      return List.of();
+    });
+    publisher = new RedisStreamBatchPublisher(stringRedisTemplate, batchProperties(100, OverflowPolicy.BLOCK, 100), StreamTrimPolicy.none(), meterRegistry);
+    publisher.start();
+
+    // when
+    publisher.enqueue(newEvent(1));
+    publisher.enqueue(newEvent(2));
+    publisher.stop();
+
+    // then
+    verify(stringRedisConnection, times(2)).xAdd(eq(DUMMY_STREAM_KEY), anyMap());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void DROP_OLDEST_정책은_가장_오래된_이벤트를_버리고_유실_건수를_기록한다() throws InterruptedException {
+    // given
+    CountDownLatch flushStarted = new CountDownLatch(1);
+    CountDownLatch releaseFlush = new CountDownLatch(1);
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      flushStarted.countDown();
+      releaseFlush.await(5, TimeUnit.SECONDS);
+      return List.of();
+    });
+    publisher = new RedisStreamBatchPublisher(stringRedisTemplate, batchProperties(1, OverflowPolicy.DROP_OLDEST, 1), StreamTrimPolicy.none(), meterRegistry);
+    publisher.start();
+
+    // when
+    publisher.enqueue(newEvent(1));
+    assertTrue(flushStarted.await(1, TimeUnit.SECONDS)); // flusher 스레드가 첫 이벤트를 가져가 대기 중
+    publisher.enqueue(newEvent(2));
+    publisher.enqueue(newEvent(3)); // 버퍼(1) 초과 -> 2번 이벤트 유실
+
+    // then
+    assertEquals(1.0, meterRegistry.get("event.producer.batch.dropped").counter().count());
+    releaseFlush.countDown();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 중지와_동시에_적재된_이벤트도_유실되지_않는다() throws InterruptedException {
+    // given
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      RedisCallback<Object> callback = invocation.getArgument(0);
+      callback.doInRedis(stringRedisConnection);
+      return List.of();
+    });
+    publisher = new RedisStreamBatchPublisher(stringRedisTemplate, batchProperties(10, OverflowPolicy.BLOCK, 10_000), StreamTrimPolicy.none(), meterRegistry);
+    publisher.start();
+
+    int producerCount = 4;
+    int eventsPerProducer = 500;
+    CountDownLatch started = new CountDownLatch(producerCount);
+    List<Thread> producers = new ArrayList<>();
+    for (int p = 0; p < producerCount; p++) {
+      Thread producer = new Thread(() -> {
+        started.countDown();
+        for (int i = 0; i < eventsPerProducer; i++) {
+          publisher.enqueue(newEvent(i));
+        }
+      });
+      producer.start();
+      producers.add(producer);
+    }
+
+    // when
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    publisher.stop(); // 적재 도중 중지 -> 마지막 drain 이후의 이벤트는 요청 스레드에서 직접 저장
+    for (Thread producer : producers) {
+      producer.join(5_000);
+    }
+
+    // then
+    verify(stringRedisConnection, times(producerCount * eventsPerProducer)).xAdd(eq(DUMMY_STREAM_KEY), anyMap());
+  }
+
+  private RedisStreamProducerProperties.Batch batchProperties(int size, OverflowPolicy overflowPolicy, int capacity) {
+    RedisStreamProducerProperties.Batch batch = new RedisStreamProducerProperties.Batch();
+    batch.setSize(size);
+    batch.setLinger(Duration.ofMillis(50));
+    batch.setCapacity(capacity);
+    batch.setOverflowPolicy(overflowPolicy);
+    return batch;
+  }
+
+  private StreamEvent newEvent(int sequence) {
+    return new StreamEvent(DUMMY_STREAM_KEY, Map.of("type", "ACCESS", "userId", "user" + sequence));
+  }
+}
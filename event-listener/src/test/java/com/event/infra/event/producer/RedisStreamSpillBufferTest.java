@@ -0,0 +1,207 @@
+package com.event.infra.event.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.infra.event.monitoring.HealthChecker;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class RedisStreamSpillBufferTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+
+  private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+  private final StringRedisConnection stringRedisConnection = mock(StringRedisConnection.class);
+  private final HealthChecker healthChecker = mock(HealthChecker.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @TempDir
+  Path directory;
+
+  private RedisStreamSpillBuffer spillBuffer;
+
+  @BeforeEach
+  void setUp() {
+    RedisStreamProducerProperties.Spill spill = new RedisStreamProducerProperties.Spill();
+    spill.setEnabled(true);
+    spill.setDirectory(directory.toString());
+    spill.setSegmentBytes(4096);
+    spill.setMaxBytes(4096 * 4);
+    spill.setDeadLetterMaxBytes(4096);
+    spill.setReplayRatePerSecond(100_000);
+    spill.setReplayInterval(Duration.ofSeconds(1));
+    spill.setMaxReplayAttempts(2);
+    RedisStreamProducerProperties properties = new RedisStreamProducerProperties(null, null, null, null, spill);
+    spillBuffer = new RedisStreamSpillBuffer(stringRedisTemplate, properties, StreamTrimPolicy.none(), healthChecker, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    spillBuffer.close();
+  }
+
+  @Test
+  void circuit_이_열리면_재전송이_끝날_때까지_새_이벤트도_큐에_보관한다() {
+    // given
+    assertFalse(spillBuffer.isDiverting());
+
+    // when
+    spillBuffer.openCircuit(new IllegalStateException("connection refused"));
+    spillBuffer.spill(newEvent(1));
+
+    // then
+    assertTrue(spillBuffer.isDiverting());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void Redis_가_비정상이면_재전송하지_않는다() {
+    // given
+    spillBuffer.openCircuit(new IllegalStateException("connection refused"));
+    spillBuffer.spill(newEvent(1));
+    when(healthChecker.isHealthy()).thenReturn(false);
+
+    // when
+    spillBuffer.replay();
+
+    // then
+    verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    assertTrue(spillBuffer.isDiverting());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 복구되면_circuit_을_닫고_보관된_이벤트를_모두_재전송한다() {
+    // given
+    spillBuffer.openCircuit(new IllegalStateException("connection refused"));
+    spillBuffer.spill(newEvent(1));
+    spillBuffer.spill(newEvent(2));
+    when(healthChecker.isHealthy()).thenReturn(true);
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(List.<Object>of(RecordId.of("1-0"), RecordId.of("1-1")));
+
+    // when
+    spillBuffer.replay();
+
+    // then
+    assertFalse(spillBuffer.isDiverting());
+    assertEquals(2.0, meterRegistry.get("event.producer.spill.replayed").counter().count());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 명령_오류로_실패하면_앞쪽_성공_엔트리만_완료하고_실패_엔트리는_순서를_유지한_채_다시_시도한다() {
+    // given
+    spillBuffer.spill(newEvent(1));
+    spillBuffer.spill(newEvent(2));
+    spillBuffer.spill(newEvent(3));
+    when(healthChecker.isHealthy()).thenReturn(true);
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenThrow(pipelineFailure(RecordId.of("1-0"), commandError("WRONGTYPE"), RecordId.of("1-2")))
+        .thenAnswer(invocation -> {
+          invocation.<RedisCallback<Object>>getArgument(0).doInRedis(stringRedisConnection);
+          return List.<Object>of(RecordId.of("2-0"), RecordId.of("2-1"), RecordId.of("2-2"));
+        });
+
+    // when
+    spillBuffer.replay(); // 1번 완료, 2번(시도 1회)부터 큐 앞에 남김
+    spillBuffer.spill(newEvent(4));
+    spillBuffer.replay();
+
+    // then
+    InOrder inOrder = inOrder(stringRedisConnection);
+    inOrder.verify(stringRedisConnection).xAdd(DUMMY_STREAM_KEY, newEvent(2).body());
+    inOrder.verify(stringRedisConnection).xAdd(DUMMY_STREAM_KEY, newEvent(3).body());
+    inOrder.verify(stringRedisConnection).xAdd(DUMMY_STREAM_KEY, newEvent(4).body());
+    assertEquals(1.0, meterRegistry.get("event.producer.spill.retried").counter().count());
+    assertEquals(4.0, meterRegistry.get("event.producer.spill.replayed").counter().count());
+    assertFalse(spillBuffer.isDiverting());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 명령_오류로_maxReplayAttempts_회_실패한_엔트리는_dead_letter_로_옮기고_다음_엔트리를_재전송한다() {
+    // given
+    spillBuffer.spill(newEvent(1));
+    spillBuffer.spill(newEvent(2));
+    when(healthChecker.isHealthy()).thenReturn(true);
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenThrow(pipelineFailure(commandError("WRONGTYPE"), RecordId.of("1-1")))
+        .thenThrow(pipelineFailure(commandError("WRONGTYPE"), RecordId.of("2-1")))
+        .thenReturn(List.<Object>of(RecordId.of("3-0")));
+
+    // when
+    spillBuffer.replay(); // 1번 시도 1회
+    spillBuffer.replay(); // 1번 시도 2회 -> dead-letter, 이어서 2번 재전송
+
+    // then
+    assertFalse(spillBuffer.isDiverting());
+    assertEquals(1.0, meterRegistry.get("event.producer.spill.replayed").counter().count());
+    assertEquals(1.0, meterRegistry.get("event.producer.spill.dead_lettered").counter().count());
+    assertEquals(1.0, meterRegistry.get("event.producer.spill.dead_letter.pending").gauge().value());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 연결_오류로_실패한_엔트리는_시도_횟수에_포함하지_않고_circuit_을_다시_연다() {
+    // given
+    spillBuffer.spill(newEvent(1));
+    spillBuffer.spill(newEvent(2));
+    when(healthChecker.isHealthy()).thenReturn(true);
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenThrow(pipelineFailure(RecordId.of("1-0"), new RedisConnectionFailureException("connection reset")))
+        .thenThrow(pipelineFailure(new RedisSystemException("failover", commandError("CLUSTERDOWN The cluster is down"))));
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      spillBuffer.replay();
+    }
+
+    // then
+    assertTrue(spillBuffer.isDiverting());
+    assertEquals(1.0, meterRegistry.get("event.producer.spill.circuit.open").gauge().value());
+    assertEquals(1.0, meterRegistry.get("event.producer.spill.pending").gauge().value());
+    assertEquals(0.0, meterRegistry.get("event.producer.spill.retried").counter().count());
+    assertEquals(0.0, meterRegistry.get("event.producer.spill.dead_letter.pending").gauge().value());
+  }
+
+  private RedisSystemException commandError(String message) {
+    return new RedisSystemException("Error in execution", new RedisCommandExecutionException(message));
+  }
+
+  private RedisPipelineException pipelineFailure(Object... results) {
+    return new RedisPipelineException("pipeline failed", new ArrayList<>(List.of(results)));
+  }
+
+  private StreamEvent newEvent(int sequence) {
+    return new StreamEvent(DUMMY_STREAM_KEY, Map.of("type", "ACCESS", "userId", "user" + sequence));
+  }
+}
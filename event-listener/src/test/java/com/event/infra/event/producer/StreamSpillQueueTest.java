@@ -0,0 +1,144 @@
+package com.event.infra.event.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class StreamSpillQueueTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+  private static final long SEGMENT_BYTES = 256;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void 보관한_이벤트를_기록_순서대로_조회하고_commit_한_만큼_제거한다() throws IOException {
+    // given
+    StreamSpillQueue queue = new StreamSpillQueue(directory, SEGMENT_BYTES, SEGMENT_BYTES * 4);
+    for (int i = 0; i < 3; i++) {
+      assertTrue(queue.append(newEvent(i)));
+    }
+
+    // when
+    List<StreamEvent> peeked = events(queue.peek(2));
+    queue.commit(peeked.size());
+
+    // then
+    assertEquals(List.of(newEvent(0), newEvent(1)), peeked);
+    assertEquals(List.of(newEvent(2)), events(queue.peek(10)));
+    assertEquals(1, queue.pendingCount());
+  }
+
+  @Test
+  void 재시작하면_재전송되지_않은_이벤트부터_복원한다() throws IOException {
+    // given
+    StreamSpillQueue queue = new StreamSpillQueue(directory, SEGMENT_BYTES, SEGMENT_BYTES * 4);
+    for (int i = 0; i < 3; i++) {
+      queue.append(newEvent(i));
+    }
+    queue.commit(1);
+    queue.close();
+
+    // when
+    StreamSpillQueue reopened = new StreamSpillQueue(directory, SEGMENT_BYTES, SEGMENT_BYTES * 4);
+
+    // then
+    assertEquals(2, reopened.pendingCount());
+    assertEquals(List.of(newEvent(1), newEvent(2)), events(reopened.peek(10)));
+  }
+
+  @Test
+  void 세그먼트가_가득_차면_교체하고_모두_재전송된_세그먼트는_삭제한다() throws IOException {
+    // given
+    StreamSpillQueue queue = new StreamSpillQueue(directory, SEGMENT_BYTES, SEGMENT_BYTES * 4);
+    int appended = 0;
+    while (segmentFileCount() < 2) {
+      queue.append(newEvent(appended++));
+    }
+
+    // when
+    queue.commit(appended - 1); // 첫 세그먼트의 이벤트를 모두 재전송
+
+    // then
+    assertEquals(1, segmentFileCount());
+    assertEquals(List.of(newEvent(appended - 1)), events(queue.peek(10)));
+  }
+
+  @Test
+  void 디스크_상한에_도달하면_새_이벤트를_보관하지_않는다() throws IOException {
+    // given
+    StreamSpillQueue queue = new StreamSpillQueue(directory, SEGMENT_BYTES, SEGMENT_BYTES);
+    int appended = 0;
+    while (queue.append(newEvent(appended))) {
+      appended++;
+    }
+
+    // when
+    boolean result = queue.append(newEvent(appended));
+
+    // then
+    assertFalse(result);
+    assertEquals(appended, queue.pendingCount());
+    assertEquals(SEGMENT_BYTES, queue.diskBytes());
+  }
+
+  @Test
+  void null_값도_그대로_복원한다() throws IOException {
+    // given
+    StreamSpillQueue queue = new StreamSpillQueue(directory, SEGMENT_BYTES, SEGMENT_BYTES * 4);
+    Map<String, String> body = new HashMap<>();
+    body.put("type", "ACCESS");
+    body.put("inputs", null);
+
+    // when
+    queue.append(new StreamEvent(DUMMY_STREAM_KEY, body));
+
+    // then
+    assertEquals(List.of(new StreamEvent(DUMMY_STREAM_KEY, body)), events(queue.peek(1)));
+  }
+
+  @Test
+  void 재전송에_실패한_맨_앞_이벤트는_위치를_유지한_채_시도_횟수만_갱신된다() throws IOException {
+    // given
+    StreamSpillQueue queue = new StreamSpillQueue(directory, SEGMENT_BYTES, SEGMENT_BYTES * 4);
+    queue.append(newEvent(0));
+    queue.append(newEvent(1));
+
+    // when
+    queue.recordAttempt(queue.peek(1).get(0).attempts() + 1);
+    queue.close();
+    StreamSpillQueue reopened = new StreamSpillQueue(directory, SEGMENT_BYTES, SEGMENT_BYTES * 4);
+
+    // then
+    assertEquals(List.of(new StreamSpillQueue.Entry(newEvent(0), 1), new StreamSpillQueue.Entry(newEvent(1), 0)),
+                 reopened.peek(10));
+  }
+
+  private List<StreamEvent> events(List<StreamSpillQueue.Entry> entries) {
+    return entries.stream()
+                  .map(StreamSpillQueue.Entry::event)
+                  .toList();
+  }
+
+  private long segmentFileCount() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+
+  private StreamEvent newEvent(int sequence) {
+    return new StreamEvent(DUMMY_STREAM_KEY, Map.of("type", "ACCESS", "userId", "user" + sequence));
+  }
+}
@@ -0,0 +1,151 @@
+package com.event.infra.event.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.event.infra.event.redis.StreamShardResolver;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties.Trim;
+import com.event.infra.event.redis.config.RedisStreamProducerProperties.TrimStrategy;
+import com.event.infra.event.redis.config.RedisStreamShardProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.StringRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+class StreamTrimPolicyTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+  private static final Map<String, String> DUMMY_BODY = Map.of("type", "ACCESS", "userId", "user1");
+
+  private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+  private final StringRedisConnection stringRedisConnection = mock(StringRedisConnection.class);
+
+  @Test
+  void MAXLEN_전략은_근사_트리밍_옵션으로_XADD_한다() {
+    // given
+    StreamTrimPolicy trimPolicy = new StreamTrimPolicy(Map.of(DUMMY_STREAM_KEY, maxLenTrim(1_000)));
+
+    // when
+    trimPolicy.add(stringRedisConnection, DUMMY_STREAM_KEY, DUMMY_BODY);
+
+    // then
+    XAddOptions options = captureOptions();
+    assertTrue(options.hasMaxlen());
+    assertEquals(1_000L, options.getMaxlen());
+    assertTrue(options.isApproximateTrimming());
+    assertFalse(options.hasMinId());
+  }
+
+  @Test
+  void MINID_전략은_보관_시간_이전_ID_를_기준으로_XADD_한다() {
+    // given
+    Trim trim = new Trim();
+    trim.setStrategy(TrimStrategy.MINID);
+    trim.setMinIdAge(Duration.ofHours(1));
+    StreamTrimPolicy trimPolicy = new StreamTrimPolicy(Map.of(DUMMY_STREAM_KEY, trim));
+
+    // when
+    long before = System.currentTimeMillis();
+    trimPolicy.add(stringRedisConnection, DUMMY_STREAM_KEY, DUMMY_BODY);
+    long after = System.currentTimeMillis();
+
+    // then
+    XAddOptions options = captureOptions();
+    assertTrue(options.hasMinId());
+    assertTrue(options.isApproximateTrimming());
+    long minIdMillis = options.getMinId().getTimestamp();
+    assertTrue(minIdMillis >= before - Duration.ofHours(1).toMillis() && minIdMillis <= after - Duration.ofHours(1).toMillis());
+  }
+
+  @Test
+  void 트리밍_설정이_없는_스트림은_옵션_없이_XADD_한다() {
+    // given
+    StreamTrimPolicy trimPolicy = new StreamTrimPolicy(Map.of(DUMMY_STREAM_KEY, maxLenTrim(1_000)));
+
+    // when
+    trimPolicy.add(stringRedisConnection, "OTHER_STREAM", DUMMY_BODY);
+
+    // then
+    verify(stringRedisConnection).xAdd("OTHER_STREAM", DUMMY_BODY);
+    verify(stringRedisConnection, never()).xAdd(any(StringRecord.class), any(XAddOptions.class));
+    assertFalse(trimPolicy.isTrimmedOnAdd("OTHER_STREAM"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void SYNC_모드_발행은_트리밍_옵션을_적용한다() {
+    // given
+    when(stringRedisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
+      RedisCallback<Object> callback = invocation.getArgument(0);
+      return callback.doInRedis(stringRedisConnection);
+    });
+    RedisStreamProducerProperties producerProperties =
+        new RedisStreamProducerProperties(null, null, Map.of(DUMMY_STREAM_KEY, maxLenTrim(1_000)), null, null);
+    RedisStreamEventProducer producer = new RedisStreamEventProducer(
+        stringRedisTemplate, producerProperties, new StreamTrimPolicy(producerProperties),
+        new StreamShardResolver(new RedisStreamShardProperties(null)), mock(RedisStreamSpillBuffer.class),
+        new SimpleMeterRegistry());
+
+    // when
+    producer.publishEvent("ACCESS", "API_PUBLIC", "user1", "/api/test", "GET", "TestController.test()",
+                          200, 0.01, "127.0.0.1", "JUnit", null, null, 1);
+
+    // then
+    XAddOptions options = captureOptions();
+    assertEquals(1_000L, options.getMaxlen());
+    assertTrue(options.isApproximateTrimming());
+    verify(stringRedisConnection, never()).xAdd(eq(DUMMY_STREAM_KEY), anyMap());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void BATCH_모드_pipeline_발행은_트리밍_옵션을_적용한다() {
+    // given
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      RedisCallback<Object> callback = invocation.getArgument(0);
+      callback.doInRedis(stringRedisConnection);
+      return List.of();
+    });
+    RedisStreamBatchPublisher publisher = new RedisStreamBatchPublisher(
+        stringRedisTemplate, new RedisStreamProducerProperties.Batch(),
+        new StreamTrimPolicy(Map.of(DUMMY_STREAM_KEY, maxLenTrim(1_000))), new SimpleMeterRegistry());
+
+    // when
+    publisher.flush(List.of(new StreamEvent(DUMMY_STREAM_KEY, DUMMY_BODY)));
+
+    // then
+    XAddOptions options = captureOptions();
+    assertEquals(1_000L, options.getMaxlen());
+    assertTrue(options.isApproximateTrimming());
+  }
+
+  private XAddOptions captureOptions() {
+    ArgumentCaptor<XAddOptions> optionsCaptor = ArgumentCaptor.forClass(XAddOptions.class);
+    verify(stringRedisConnection).xAdd(any(StringRecord.class), optionsCaptor.capture());
+    return optionsCaptor.getValue();
+  }
+
+  private Trim maxLenTrim(long maxLen) {
+    Trim trim = new Trim();
+    trim.setStrategy(TrimStrategy.MAXLEN);
+    trim.setMaxLen(maxLen);
+    return trim;
+  }
+}
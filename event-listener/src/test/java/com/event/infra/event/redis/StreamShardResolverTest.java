@@ -0,0 +1,116 @@
+package com.event.infra.event.redis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.event.infra.event.redis.config.RedisStreamShardProperties;
+import com.event.infra.event.redis.config.RedisStreamShardProperties.PartitionKey;
+import com.event.infra.event.redis.config.RedisStreamShardProperties.Shard;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class StreamShardResolverTest {
+
+  private static final String DUMMY_STREAM_KEY = "EVENT_STREAM";
+
+  @Test
+  void 샤드_키는_샤드마다_전체_슬롯의_서로_다른_구간에_배정된다() {
+    // given
+    StreamShardResolver resolver = newResolver(3, false);
+
+    // when
+    List<String> shardKeys = resolver.shardKeys(DUMMY_STREAM_KEY);
+
+    // then
+    assertEquals(3, shardKeys.size());
+    Set<Integer> slots = new HashSet<>();
+    for (int i = 0; i < shardKeys.size(); i++) {
+      int slot = ClusterSlotHashUtil.calculateSlot(shardKeys.get(i));
+      assertTrue(slot >= ClusterSlotHashUtil.SLOT_COUNT * i / 3 && slot < ClusterSlotHashUtil.SLOT_COUNT * (i + 1) / 3);
+      slots.add(slot);
+    }
+    assertEquals(3, slots.size());
+  }
+
+  @Test
+  void 같은_파티션_값은_인스턴스와_관계없이_항상_같은_샤드로_배정된다() {
+    // given
+    StreamShardResolver resolver = newResolver(3, false);
+    StreamShardResolver otherInstance = newResolver(3, false);
+    Map<String, String> body = Map.of("endpoint", "/admin/api/v1/event/access");
+
+    // when
+    String shardKey = resolver.shardKeyOf(DUMMY_STREAM_KEY, body);
+
+    // then
+    assertTrue(resolver.shardKeys(DUMMY_STREAM_KEY).contains(shardKey));
+    assertEquals(shardKey, resolver.shardKeyOf(DUMMY_STREAM_KEY, Map.of("endpoint", "/admin/api/v1/event/access")));
+    assertEquals(shardKey, otherInstance.shardKeyOf(DUMMY_STREAM_KEY, body));
+  }
+
+  @Test
+  void 파티션_값이_다르면_여러_샤드로_나누어_배정된다() {
+    // given
+    StreamShardResolver resolver = newResolver(3, false);
+
+    // when
+    Set<String> shardKeys = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      shardKeys.add(resolver.shardKeyOf(DUMMY_STREAM_KEY, Map.of("endpoint", "/api/v1/resource/" + i)));
+    }
+
+    // then
+    assertEquals(Set.copyOf(resolver.shardKeys(DUMMY_STREAM_KEY)), shardKeys);
+  }
+
+  @Test
+  void 샤딩하지_않는_스트림은_자기_자신을_사용한다() {
+    // given
+    StreamShardResolver resolver = new StreamShardResolver(new RedisStreamShardProperties(null));
+
+    // when & then
+    assertEquals(List.of(DUMMY_STREAM_KEY), resolver.shardKeys(DUMMY_STREAM_KEY));
+    assertEquals(List.of(DUMMY_STREAM_KEY), resolver.consumerKeys(DUMMY_STREAM_KEY));
+    assertEquals(DUMMY_STREAM_KEY, resolver.shardKeyOf(DUMMY_STREAM_KEY, Map.of("endpoint", "/api")));
+  }
+
+  @Test
+  void drainLegacy_를_켜면_샤딩_전_스트림_키도_컨슈머_대상에_포함된다() {
+    // given
+    StreamShardResolver resolver = newResolver(3, true);
+
+    // when
+    List<String> consumerKeys = resolver.consumerKeys(DUMMY_STREAM_KEY);
+
+    // then
+    assertEquals(4, consumerKeys.size());
+    assertTrue(consumerKeys.containsAll(resolver.shardKeys(DUMMY_STREAM_KEY)));
+    assertTrue(consumerKeys.contains(DUMMY_STREAM_KEY));
+    assertNotEquals(DUMMY_STREAM_KEY, resolver.shardKeyOf(DUMMY_STREAM_KEY, Map.of("endpoint", "/api")));
+  }
+
+  @Test
+  void 샤드_키에서_논리_스트림_키를_구한다() {
+    // given
+    StreamShardResolver resolver = newResolver(3, false);
+
+    // when & then
+    resolver.shardKeys(DUMMY_STREAM_KEY)
+            .forEach(shardKey -> assertEquals(DUMMY_STREAM_KEY, StreamShardResolver.logicalKeyOf(shardKey)));
+    assertEquals(DUMMY_STREAM_KEY, StreamShardResolver.logicalKeyOf(DUMMY_STREAM_KEY));
+  }
+
+  private StreamShardResolver newResolver(int count, boolean drainLegacy) {
+    Shard shard = new Shard();
+    shard.setCount(count);
+    shard.setPartitionKey(PartitionKey.ENDPOINT);
+    shard.setDrainLegacy(drainLegacy);
+    return new StreamShardResolver(new RedisStreamShardProperties(Map.of(DUMMY_STREAM_KEY, shard)));
+  }
+}
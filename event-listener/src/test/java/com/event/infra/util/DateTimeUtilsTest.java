@@ -153,4 +153,40 @@ class DateTimeUtilsTest {
     assertEquals(17, result3.getHour());
     assertEquals(0, result3.getOffset().getTotalSeconds()); // UTC
   }
-}
\ No newline at end of file
+
+  @Test
+  @Order(12)
+  void 프로듀서가_발행하는_ISO_OFFSET_DATE_TIME_형식은_fast_path_로_변환한다() {
+    String input = "2025-05-18T12:34:56.123456789+09:00";
+    OffsetDateTime result = DateTimeUtils.parseFast(input);
+    assertNotNull(result);
+    assertEquals(OffsetDateTime.parse(input), result);
+    assertEquals(result, DateTimeUtils.parseToOffsetDateTime(input));
+  }
+
+  @Test
+  @Order(13)
+  void fast_path_결과는_DateTimeFormatter_파싱_결과와_같다() {
+    assertEquals(OffsetDateTime.parse("2025-04-10T17:45:00.1-03:30"),
+                 DateTimeUtils.parseFast("2025-04-10T17:45:00.1-03:30"));
+    assertEquals(OffsetDateTime.parse("2024-04-09T05:17:54.802889-09:00"),
+                 DateTimeUtils.parseFast("2024-04-09 05:17:54.802889 -09:00"));
+    assertEquals(OffsetDateTime.parse("2025-04-10T17:45:00+09:00"),
+                 DateTimeUtils.parseFast("2025-04-10T17:45:00+0900"));
+  }
+
+  @Test
+  @Order(14)
+  void fast_path_에서_판별할_수_없는_형식은_fallback_으로_처리한다() {
+    String input = "2025-04-10T17:45+09:00"; // 초 생략
+    assertNull(DateTimeUtils.parseFast(input));
+    assertEquals(OffsetDateTime.parse(input), DateTimeUtils.parseToOffsetDateTime(input));
+  }
+
+  @Test
+  @Order(15)
+  void 존재하지_않는_날짜_입력_시_null을_반환한다() {
+    assertNull(DateTimeUtils.parseToOffsetDateTime("2025-02-30T10:00:00Z"));
+    assertNull(DateTimeUtils.parseToOffsetDateTime("2025-04-10 17:45:00")); // 공백 포맷은 마이크로초 필수
+  }
+}
@@ -0,0 +1,51 @@
+package com.event.infra.util;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.event.core.config.JacksonConfig;
+import com.event.core.domain.access.event.inout.AccessEventDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class JsonParserTest {
+
+  private final JacksonConfig jacksonConfig = new JacksonConfig();
+  private final JsonParser jsonParser = new JsonParser(jacksonConfig.objectMapper(), jacksonConfig.snakeCaseObjectMapper());
+
+  @Test
+  void parseCamel_문자열_값을_숫자_필드로_변환한다() {
+    // given
+    Map<String, String> valueMap = new HashMap<>();
+    valueMap.put("type", "ACCESS");  // DTO 에 없는 필드는 무시
+    valueMap.put("categoryCode", "API_CATEGORY_CODE");
+    valueMap.put("responseStatus", "200");
+    valueMap.put("responseTime", "100.5");
+    valueMap.put("createdAt", "2025-05-18T12:34:56+09:00");
+
+    // when
+    AccessEventDto result = jsonParser.parseCamel(valueMap, AccessEventDto.class);
+
+    // then
+    assertAll(
+        () -> assertEquals("API_CATEGORY_CODE", result.categoryCode()),
+        () -> assertEquals(200, result.responseStatus()),
+        () -> assertEquals(100.5, result.responseTime()),
+        () -> assertEquals("2025-05-18T12:34:56+09:00", result.createdAt()),
+        () -> assertNull(result.userId())
+    );
+  }
+
+  @Test
+  void parseCamel_숫자로_변환할_수_없으면_예외발생() {
+    // given
+    Map<String, String> valueMap = Map.of("responseStatus", "OK");
+
+    // then
+    assertThrows(JsonParsingException.class, () -> jsonParser.parseCamel(valueMap, AccessEventDto.class));
+  }
+}
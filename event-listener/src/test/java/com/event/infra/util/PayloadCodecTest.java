@@ -0,0 +1,43 @@
+package com.event.infra.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class PayloadCodecTest {
+
+  @Test
+  void 압축한_값을_원문으로_복원한다() {
+    String json = "{\"body\":\"" + "이벤트 응답 본문 ".repeat(200) + "\"}";
+
+    String compressed = PayloadCodec.compress(json);
+
+    assertTrue(compressed.startsWith(PayloadCodec.DEFLATE_MARKER));
+    assertTrue(compressed.length() < json.length());
+    assertEquals(json, PayloadCodec.decode(compressed));
+  }
+
+  @Test
+  void 압축해도_작아지지_않으면_원문을_반환한다() {
+    assertEquals("{}", PayloadCodec.compress("{}"));
+  }
+
+  @Test
+  void 마커가_없는_값은_그대로_반환한다() {
+    assertEquals("{\"a\":1}", PayloadCodec.decode("{\"a\":1}"));
+    assertNull(PayloadCodec.decode(null));
+  }
+
+  @Test
+  void 멀티바이트_문자_중간에서_자르지_않는다() {
+    String json = "가나다라마";
+
+    String truncated = PayloadCodec.truncate(json, 4);
+
+    assertEquals(PayloadCodec.TRUNCATED_MARKER + "15:가", truncated);
+    assertEquals(json, PayloadCodec.truncate(json, json.getBytes(StandardCharsets.UTF_8).length));
+  }
+}
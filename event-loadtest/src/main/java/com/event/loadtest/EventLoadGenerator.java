@@ -0,0 +1,85 @@
+package com.event.loadtest;
+
+import com.event.core.domain.access.category.entity.CategoryCode;
+import com.event.infra.event.EventType;
+import com.event.infra.event.producer.RedisStreamEventProducer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * RedisStreamEventProducer 로 지정한 초당 발행 수만큼 이벤트를 발행 (rate 0 이면 제한 없음)
+ */
+public class EventLoadGenerator {
+
+  private static final CategoryCode[] CATEGORY_CODES = CategoryCode.values();
+  private static final String OUTPUTS = "{\"statusCode\":200,\"statusMessage\":\"OK\",\"body\":{\"result\":\"success\"}}";
+
+  private final RedisStreamEventProducer producer;
+  private final int threadCount;
+
+  public EventLoadGenerator(RedisStreamEventProducer producer, int threadCount) {
+    this.producer = producer;
+    this.threadCount = threadCount;
+  }
+
+  /**
+   * @return 발행 호출 수
+   */
+  public long run(int ratePerSecond, Duration duration) throws InterruptedException {
+    AtomicLong publishedCount = new AtomicLong();
+    long startNanos = System.nanoTime();
+    long endNanos = startNanos + duration.toNanos();
+    // 스레드별로 동일한 비율을 나누어 일정 간격으로 발행 (지연되면 따라잡기 위해 간격 없이 발행)
+    long intervalNanos = ratePerSecond > 0 ? 1_000_000_000L * threadCount / ratePerSecond : 0;
+
+    List<Thread> threads = new ArrayList<>(threadCount);
+    for (int t = 0; t < threadCount; t++) {
+      int threadIndex = t;
+      Thread thread = new Thread(() -> {
+        long sequence = 0;
+        long nextNanos = startNanos + (intervalNanos * threadIndex / threadCount);
+        while (true) {
+          long now = System.nanoTime();
+          if (now >= endNanos) {
+            return;
+          }
+          if (intervalNanos > 0 && nextNanos > now) {
+            LockSupport.parkNanos(nextNanos - now);
+            continue;
+          }
+          publish(threadIndex, sequence++);
+          publishedCount.incrementAndGet();
+          nextNanos += intervalNanos;
+        }
+      }, "loadtest-publisher-" + t);
+      thread.start();
+      threads.add(thread);
+    }
+
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    return publishedCount.get();
+  }
+
+  private void publish(int threadIndex, long sequence) {
+    CategoryCode categoryCode = CATEGORY_CODES[(int) (sequence % CATEGORY_CODES.length)];
+    producer.publishEvent(EventType.ACCESS.name(),
+                          categoryCode.name(),
+                          "loadtest-user-" + threadIndex,
+                          "/api/loadtest/" + sequence,
+                          "GET",
+                          "EventLoadGenerator.publish(..)",
+                          200,
+                          0.012,
+                          "127.0.0.1",
+                          "event-loadtest",
+                          "[" + sequence + "]",
+                          OUTPUTS,
+                          1.0);
+  }
+}
@@ -0,0 +1,148 @@
+package com.event.loadtest;
+
+import com.event.EventListenerApplication;
+import com.event.infra.event.producer.RedisStreamEventProducer;
+import com.event.loadtest.LoadTestReport.LagPercentiles;
+import com.event.loadtest.LoadTestReport.RunResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNullElse;
+
+/**
+ * 종단 간 부하 테스트 실행기
+ * -> 로컬 Redis 클러스터(redis-server 3개) + Embedded PostgreSQL 을 띄우고,
+ * -> rate x consumerCount 조합마다 event-listener 애플리케이션을 기동하여
+ * -> RedisStreamEventProducer 발행 → 컨슈머 저장까지의 지연 시간(HdrHistogram)과 처리량을 측정한 뒤 JSON 리포트로 저장
+ */
+@Slf4j
+public class EventLoadTestRunner {
+
+  private static final Duration DRAIN_POLL_INTERVAL = Duration.ofMillis(200);
+
+  public static void main(String[] args) throws Exception {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    String startedAt = OffsetDateTime.now().toString();
+    List<RunResult> runs = new ArrayList<>();
+
+    try (LocalRedisCluster redisCluster = new LocalRedisCluster(options.redisServer(), options.redisCli(), options.redisBasePort());
+         EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+      redisCluster.start();
+
+      for (int consumerCount : options.consumerCounts()) {
+        for (int rate : options.rates()) {
+          redisCluster.flushAll();
+          runs.add(runOnce(options, redisCluster, postgres, consumerCount, rate));
+        }
+      }
+    }
+
+    LoadTestReport report = new LoadTestReport(startedAt,
+                                               options.producerMode(),
+                                               options.consumeMode(),
+                                               options.duration().toSeconds(),
+                                               options.publisherThreads(),
+                                               Runtime.getRuntime().availableProcessors(),
+                                               runs);
+    writeReport(options, report);
+  }
+
+  private static RunResult runOnce(LoadTestOptions options,
+                                   LocalRedisCluster redisCluster,
+                                   EmbeddedPostgres postgres,
+                                   int consumerCount,
+                                   int rate) throws InterruptedException {
+    log.warn("Load test run started. consumerCount={}, rate={}/s, duration={}", consumerCount, rate, options.duration());
+    LagRecorder lagRecorder = new LagRecorder();
+
+    try (ConfigurableApplicationContext context = startApplication(options, redisCluster, postgres, consumerCount, lagRecorder)) {
+      JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+      jdbcTemplate.execute("TRUNCATE TABLE access_event, access_event_hourly_rollup");
+
+      EventLoadGenerator generator = new EventLoadGenerator(context.getBean(RedisStreamEventProducer.class),
+                                                            options.publisherThreads());
+      long publishStartNanos = System.nanoTime();
+      long published = generator.run(rate, options.duration());
+      double publishSeconds = (System.nanoTime() - publishStartNanos) / 1_000_000_000.0;
+
+      boolean drained = awaitDrain(lagRecorder, published, options.drainTimeout());
+      long persistedRows = requireNonNullElse(jdbcTemplate.queryForObject("SELECT count(*) FROM access_event", Long.class), 0L);
+
+      RunResult result = new RunResult(consumerCount,
+                                       rate,
+                                       published,
+                                       lagRecorder.getPersistedCount(),
+                                       persistedRows,
+                                       drained,
+                                       published / publishSeconds,
+                                       lagRecorder.getConsumeThroughput(),
+                                       LagPercentiles.from(lagRecorder.getLagHistogram()));
+      log.warn("Load test run finished. {}", result);
+      return result;
+    }
+  }
+
+  private static ConfigurableApplicationContext startApplication(LoadTestOptions options,
+                                                                 LocalRedisCluster redisCluster,
+                                                                 EmbeddedPostgres postgres,
+                                                                 int consumerCount,
+                                                                 LagRecorder lagRecorder) {
+    // NOTE: 커맨드라인 인자는 application.yml 보다 우선하므로 로컬 대체 환경 설정을 인자로 전달
+    //       (consumers 목록은 일부 항목만 덮어쓸 수 없으므로 모든 항목을 지정)
+    String prefix = "--spring.data.redis.streams.consumers[0].";
+    String[] args = {
+        "--server.port=0",
+        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true",
+        "--spring.datasource.username=postgres",
+        "--spring.datasource.password=postgres",
+        "--spring.jpa.properties.hibernate.show_sql=false",
+        "--spring.jpa.properties.hibernate.format_sql=false",
+        "--spring.jpa.properties.hibernate.highlight_sql=false",
+        "--spring.data.redis.cluster.nodes=" + redisCluster.getNodes(),
+        "--spring.data.redis.username=",
+        "--spring.data.redis.password=",
+        "--spring.data.redis.streams.producer.mode=" + options.producerMode(),
+        prefix + "streamKey=EVENT_STREAM",
+        prefix + "groupName=EVENT_GROUP",
+        prefix + "consumerPrefix=EVENT_CONSUMER",
+        prefix + "consumerCount=" + consumerCount,
+        prefix + "consumeMode=" + options.consumeMode(),
+        "--logging.level.root=WARN"
+    };
+
+    return new SpringApplicationBuilder(EventListenerApplication.class)
+        .initializers(context -> context.getBeanFactory()
+                                        .addBeanPostProcessor(TimingEventHandlerResolver.postProcessor(lagRecorder)))
+        .run(args);
+  }
+
+  private static boolean awaitDrain(LagRecorder lagRecorder, long expected, Duration timeout) throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (lagRecorder.getPersistedCount() >= expected) {
+        return true;
+      }
+      Thread.sleep(DRAIN_POLL_INTERVAL.toMillis());
+    }
+    log.warn("Drain timed out. expected={}, persisted={}", expected, lagRecorder.getPersistedCount());
+    return false;
+  }
+
+  private static void writeReport(LoadTestOptions options, LoadTestReport report) throws Exception {
+    Files.createDirectories(options.report().toAbsolutePath().getParent());
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                      .writeValue(options.report().toFile(), report);
+    log.warn("Load test report written. path={}", options.report().toAbsolutePath());
+  }
+}
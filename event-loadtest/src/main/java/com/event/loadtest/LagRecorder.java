@@ -0,0 +1,51 @@
+package com.event.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * XADD 시각(레코드 ID 의 ms 타임스탬프)부터 저장 트랜잭션 커밋까지의 종단 간 지연 시간 기록
+ * -> Redis 와 애플리케이션이 같은 장비에서 실행되므로 동일한 시계를 기준으로 비교
+ */
+public class LagRecorder {
+
+  private static final long HIGHEST_TRACKABLE_MILLIS = 60 * 60 * 1000L; // 1시간
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final Histogram lagHistogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MILLIS, SIGNIFICANT_DIGITS);
+  private final AtomicLong persistedCount = new AtomicLong();
+  private final AtomicLong firstPersistedNanos = new AtomicLong();
+  private final AtomicLong lastPersistedNanos = new AtomicLong();
+
+  public void recordPersisted(MapRecord<String, String, String> record) {
+    long nowNanos = System.nanoTime();
+    long lagMillis = Math.max(0, System.currentTimeMillis() - record.getId().getTimestamp());
+
+    lagHistogram.recordValue(Math.min(lagMillis, HIGHEST_TRACKABLE_MILLIS));
+    persistedCount.incrementAndGet();
+    firstPersistedNanos.compareAndSet(0, nowNanos);
+    lastPersistedNanos.accumulateAndGet(nowNanos, Math::max);
+  }
+
+  public long getPersistedCount() {
+    return persistedCount.get();
+  }
+
+  /**
+   * 첫 저장부터 마지막 저장까지의 초당 저장 건수 (컨슈머 지속 처리량)
+   */
+  public double getConsumeThroughput() {
+    long elapsedNanos = lastPersistedNanos.get() - firstPersistedNanos.get();
+    if (elapsedNanos <= 0) {
+      return 0;
+    }
+    return persistedCount.get() / (elapsedNanos / 1_000_000_000.0);
+  }
+
+  public Histogram getLagHistogram() {
+    return lagHistogram.copy();
+  }
+}
@@ -0,0 +1,74 @@
+package com.event.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--key=value 형식의 인자로 지정)
+ *
+ * <pre>
+ * --rates=1000,5000          초당 발행 이벤트 수 목록 (0 이면 제한 없이 발행)
+ * --consumerCounts=1,2,4     컨슈머 수 목록 (rates x consumerCounts 조합마다 1회 실행)
+ * --duration=30s             발행 시간
+ * --drainTimeout=60s         발행 종료 후 모든 이벤트가 저장될 때까지 최대 대기 시간
+ * --publisherThreads=4       발행 스레드 수
+ * --producerMode=BATCH       SYNC | BATCH
+ * --consumeMode=BATCH        SINGLE | BATCH
+ * --redisServer=redis-server redis-server 실행 파일
+ * --redisCli=redis-cli       redis-cli 실행 파일
+ * --redisBasePort=7101       로컬 Redis 클러스터 시작 포트 (3개 노드)
+ * --report=build/loadtest/report.json
+ * </pre>
+ */
+public record LoadTestOptions(
+    List<Integer> rates,
+    List<Integer> consumerCounts,
+    Duration duration,
+    Duration drainTimeout,
+    int publisherThreads,
+    String producerMode,
+    String consumeMode,
+    String redisServer,
+    String redisCli,
+    int redisBasePort,
+    Path report
+) {
+
+  public static LoadTestOptions parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Invalid argument (expected --key=value): " + arg);
+      }
+      int separator = arg.indexOf('=');
+      values.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+
+    return new LoadTestOptions(
+        parseIntegers(values.getOrDefault("rates", "1000")),
+        parseIntegers(values.getOrDefault("consumerCounts", "1,2,4")),
+        DurationStyle.detectAndParse(values.getOrDefault("duration", "30s")),
+        DurationStyle.detectAndParse(values.getOrDefault("drainTimeout", "60s")),
+        Integer.parseInt(values.getOrDefault("publisherThreads", "4")),
+        values.getOrDefault("producerMode", "BATCH"),
+        values.getOrDefault("consumeMode", "BATCH"),
+        values.getOrDefault("redisServer", "redis-server"),
+        values.getOrDefault("redisCli", "redis-cli"),
+        Integer.parseInt(values.getOrDefault("redisBasePort", "7101")),
+        Path.of(values.getOrDefault("report", "build/loadtest/report.json"))
+    );
+  }
+
+  private static List<Integer> parseIntegers(String value) {
+    return Arrays.stream(value.split(","))
+                 .map(String::trim)
+                 .map(Integer::parseInt)
+                 .toList();
+  }
+}
@@ -0,0 +1,55 @@
+package com.event.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+
+/**
+ * 부하 테스트 결과 (JSON 으로 저장하여 실행 간 비교)
+ */
+public record LoadTestReport(
+    String startedAt,
+    String producerMode,
+    String consumeMode,
+    long durationSeconds,
+    int publisherThreads,
+    int availableProcessors,
+    List<RunResult> runs
+) {
+
+  /**
+   * rate x consumerCount 조합 1회 실행 결과
+   */
+  public record RunResult(
+      int consumerCount,
+      int targetRate,
+      long published,
+      long persisted,
+      long persistedRows,
+      boolean drained,
+      double publishRate,
+      double consumeThroughput,
+      LagPercentiles lagMillis
+  ) {
+
+  }
+
+  public record LagPercentiles(
+      double mean,
+      long p50,
+      long p90,
+      long p99,
+      long p999,
+      long max
+  ) {
+
+    static LagPercentiles from(Histogram histogram) {
+      return new LagPercentiles(histogram.getMean(),
+                                histogram.getValueAtPercentile(50),
+                                histogram.getValueAtPercentile(90),
+                                histogram.getValueAtPercentile(99),
+                                histogram.getValueAtPercentile(99.9),
+                                histogram.getMaxValue());
+    }
+  }
+}
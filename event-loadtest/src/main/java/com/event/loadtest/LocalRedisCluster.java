@@ -0,0 +1,141 @@
+package com.event.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 redis-server 프로세스 3개로 구성한 Redis 클러스터 (replica 없음, 영속화 비활성화)
+ */
+@Slf4j
+public class LocalRedisCluster implements AutoCloseable {
+
+  private static final int NODE_COUNT = 3;
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+  private final String redisServer;
+  private final String redisCli;
+  private final List<Integer> ports = new ArrayList<>();
+  private final List<Process> processes = new ArrayList<>();
+  private final Path workDir;
+
+  public LocalRedisCluster(String redisServer, String redisCli, int basePort) throws IOException {
+    this.redisServer = redisServer;
+    this.redisCli = redisCli;
+    this.workDir = Files.createTempDirectory("event-loadtest-redis");
+    for (int i = 0; i < NODE_COUNT; i++) {
+      ports.add(basePort + i);
+    }
+  }
+
+  public void start() throws IOException, InterruptedException {
+    for (int port : ports) {
+      Path nodeDir = Files.createDirectories(workDir.resolve(String.valueOf(port)));
+      Process process = new ProcessBuilder(redisServer,
+                                           "--port", String.valueOf(port),
+                                           "--bind", "127.0.0.1",
+                                           "--cluster-enabled", "yes",
+                                           "--cluster-config-file", "nodes.conf",
+                                           "--dir", nodeDir.toString(),
+                                           "--save", "",
+                                           "--appendonly", "no",
+                                           "--protected-mode", "no")
+          .redirectErrorStream(true)
+          .redirectOutput(nodeDir.resolve("redis.log").toFile())
+          .start();
+      processes.add(process);
+    }
+
+    for (int port : ports) {
+      waitUntil(() -> cli(port, "PING").contains("PONG"), "redis-server " + port + " did not respond to PING");
+    }
+
+    List<String> createCommand = new ArrayList<>(List.of(redisCli, "--cluster", "create"));
+    ports.forEach(port -> createCommand.add("127.0.0.1:" + port));
+    createCommand.addAll(List.of("--cluster-replicas", "0", "--cluster-yes"));
+    run(createCommand);
+
+    for (int port : ports) {
+      waitUntil(() -> cli(port, "CLUSTER", "INFO").contains("cluster_state:ok"), "redis cluster did not become ok");
+    }
+    log.warn("Local redis cluster started. nodes={}", getNodes());
+  }
+
+  /**
+   * 클러스터 노드 목록 (spring.data.redis.cluster.nodes 형식)
+   */
+  public String getNodes() {
+    return String.join(",", ports.stream().map(port -> "127.0.0.1:" + port).toList());
+  }
+
+  /**
+   * 모든 노드의 데이터 삭제 (실행 간 스트림/그룹 초기화)
+   */
+  public void flushAll() throws IOException, InterruptedException {
+    for (int port : ports) {
+      cli(port, "FLUSHALL");
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    for (Process process : processes) {
+      process.destroy();
+    }
+    for (Process process : processes) {
+      try {
+        if (!process.waitFor(5, TimeUnit.SECONDS)) {
+          process.destroyForcibly();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        process.destroyForcibly();
+      }
+    }
+    try (Stream<Path> paths = Files.walk(workDir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  private String cli(int port, String... command) throws IOException, InterruptedException {
+    List<String> fullCommand = new ArrayList<>(List.of(redisCli, "-h", "127.0.0.1", "-p", String.valueOf(port)));
+    fullCommand.addAll(List.of(command));
+    return run(fullCommand);
+  }
+
+  private String run(List<String> command) throws IOException, InterruptedException {
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    String output = new String(process.getInputStream().readAllBytes());
+    process.waitFor();
+    return output;
+  }
+
+  private void waitUntil(Condition condition, String timeoutMessage) throws InterruptedException {
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      try {
+        if (condition.check()) {
+          return;
+        }
+      } catch (IOException ignored) {
+        // 프로세스 기동 중에는 연결 실패 가능
+      }
+      Thread.sleep(100);
+    }
+    throw new IllegalStateException(timeoutMessage);
+  }
+
+  @FunctionalInterface
+  private interface Condition {
+
+    boolean check() throws IOException, InterruptedException;
+  }
+}
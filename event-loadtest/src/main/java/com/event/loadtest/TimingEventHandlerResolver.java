@@ -0,0 +1,64 @@
+package com.event.loadtest;
+
+import com.event.infra.event.EventType;
+import com.event.infra.event.handler.EventHandler;
+import com.event.infra.event.handler.EventHandlerResolver;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * EventHandler 호출이 정상 반환(트랜잭션 커밋 완료)된 시점에 레코드별 지연 시간을 기록하는 EventHandlerResolver
+ */
+public class TimingEventHandlerResolver extends EventHandlerResolver {
+
+  private TimingEventHandlerResolver(Map<EventType, EventHandler> handlerMap) {
+    super(handlerMap);
+  }
+
+  static TimingEventHandlerResolver wrap(EventHandlerResolver resolver, LagRecorder lagRecorder) {
+    Map<EventType, EventHandler> handlerMap = new EnumMap<>(EventType.class);
+    for (EventType eventType : EventType.values()) {
+      EventHandler handler = resolver.getEventHandler(eventType);
+      if (nonNull(handler)) {
+        handlerMap.put(eventType, new TimingEventHandler(handler, lagRecorder));
+      }
+    }
+    return new TimingEventHandlerResolver(handlerMap);
+  }
+
+  /**
+   * 애플리케이션 컨텍스트의 EventHandlerResolver 빈을 TimingEventHandlerResolver 로 교체
+   */
+  static BeanPostProcessor postProcessor(LagRecorder lagRecorder) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof EventHandlerResolver resolver && !(bean instanceof TimingEventHandlerResolver)) {
+          return wrap(resolver, lagRecorder);
+        }
+        return bean;
+      }
+    };
+  }
+
+  private record TimingEventHandler(EventHandler delegate, LagRecorder lagRecorder) implements EventHandler {
+
+    @Override
+    public void handleEvent(MapRecord<String, String, String> record) {
+      delegate.handleEvent(record);
+      lagRecorder.recordPersisted(record);
+    }
+
+    @Override
+    public void handleEvents(List<MapRecord<String, String, String>> records) {
+      delegate.handleEvents(records);
+      records.forEach(lagRecorder::recordPersisted);
+    }
+  }
+}